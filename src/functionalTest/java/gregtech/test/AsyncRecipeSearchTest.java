@@ -0,0 +1,63 @@
+package gregtech.test;
+
+import static gregtech.api.enums.GTValues.RA;
+import static gregtech.api.enums.GTValues.V;
+import static net.minecraft.init.Items.diamond;
+import static net.minecraft.init.Items.gold_ingot;
+import static net.minecraft.init.Items.iron_ingot;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import net.minecraft.item.ItemStack;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.logic.ProcessingLogic;
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.recipe.check.CheckRecipeResult;
+import gregtech.api.recipe.check.CheckRecipeResultRegistry;
+import gregtech.test.mock.MockIVoidableMachine;
+
+class AsyncRecipeSearchTest {
+
+    // a bus topped up every tick must still get to use the search started on an earlier tick
+    @Test
+    void inputsChangingEveryTick() throws InterruptedException {
+        RecipeMap<?> recipeMap = RecipeMapBuilder.of("__test_async_search__")
+            .maxIO(2, 1, 0, 0)
+            .build();
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(iron_ingot, 3), new ItemStack(gold_ingot, 1))
+            .itemOutputs(new ItemStack(diamond, 1))
+            .duration(20)
+            .eut(30)
+            .addTo(recipeMap);
+        ProcessingLogic logic = new ProcessingLogic().setRecipeMap(recipeMap)
+            .setMachine(new MockIVoidableMachine())
+            .setAvailableVoltage(V[1])
+            .setAvailableAmperage(1)
+            .setMaxParallel(1)
+            .setAsyncRecipeSearch(true);
+
+        CheckRecipeResult result = CheckRecipeResultRegistry.RECIPE_SEARCH_PENDING;
+        int tick = 0;
+        for (; tick < 200 && result == CheckRecipeResultRegistry.RECIPE_SEARCH_PENDING; tick++) {
+            logic.clear()
+                .setInputItems(new ItemStack(iron_ingot, 3 + tick % 60), new ItemStack(gold_ingot, 1 + tick % 30));
+            result = logic.process();
+            Thread.sleep(5);
+        }
+        assertTrue(result.wasSuccessful(), "result after " + tick + " ticks: " + result.getID());
+        assertEquals(diamond, logic.getOutputItems()[0].getItem());
+
+        // a result found for larger stacks is checked against the inputs it ends up being used for
+        logic.clear()
+            .setInputItems(new ItemStack(iron_ingot, 40), new ItemStack(gold_ingot, 5));
+        assertEquals(CheckRecipeResultRegistry.RECIPE_SEARCH_PENDING, logic.process());
+        for (int i = 0; i < 200 && !logic.hasNewlyFinishedRecipeSearch(); i++) Thread.sleep(5);
+        logic.clear()
+            .setInputItems(new ItemStack(iron_ingot, 2), new ItemStack(gold_ingot, 5));
+        assertEquals(CheckRecipeResultRegistry.NO_RECIPE, logic.process());
+    }
+}
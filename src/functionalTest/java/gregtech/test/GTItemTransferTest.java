@@ -0,0 +1,455 @@
+package gregtech.test;
+
+import static gregtech.api.util.GTUtility.isAllowedToPutIntoSlot;
+import static gregtech.api.util.GTUtility.isAllowedToTakeFromSlot;
+import static gregtech.api.util.GTUtility.listContainsItem;
+import static gregtech.api.util.GTUtility.moveStackFromSlotAToSlotB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Items;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.util.GTItemTransfer;
+import gregtech.api.util.GTUtility.ItemId;
+import gregtech.test.mock.MockInventory;
+
+// The reference is the map based implementation GTItemTransfer replaced, minus the double chest and pipe handling
+class GTItemTransferTest {
+
+    private static final int ITERATIONS = 20000;
+
+    private static ItemStack randomStack(Random random, boolean oversized) {
+        ItemStack stack = switch (random.nextInt(6)) {
+            case 0 -> new ItemStack(Items.ender_pearl);
+            case 1 -> new ItemStack(Items.iron_sword, 1, random.nextInt(2));
+            case 2 -> new ItemStack(Items.dye, 1, random.nextInt(3));
+            case 3 -> {
+                ItemStack tagged = new ItemStack(Items.iron_ingot);
+                NBTTagCompound tag = new NBTTagCompound();
+                tag.setInteger("variant", random.nextInt(2));
+                tagged.setTagCompound(tag);
+                yield tagged;
+            }
+            default -> new ItemStack(Items.iron_ingot);
+        };
+        int max = oversized ? 100 : stack.getMaxStackSize();
+        stack.stackSize = 1 + random.nextInt(max);
+        return stack;
+    }
+
+    private static MockInventory randomInventory(Random random, boolean source) {
+        int size = random.nextInt(12);
+        ItemStack[] stacks = new ItemStack[size];
+        boolean oversized = source && random.nextInt(8) == 0;
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(3) != 0) stacks[i] = randomStack(random, oversized);
+        }
+        int stackLimit = switch (random.nextInt(4)) {
+            case 0 -> 16;
+            case 1 -> 1 + random.nextInt(64);
+            default -> 64;
+        };
+        int deniedSlot = random.nextInt(Math.max(1, size) * 2);
+        boolean denyDye = random.nextBoolean();
+        if (random.nextBoolean()) {
+            return new MockInventory(
+                stacks,
+                stackLimit,
+                (slot, stack) -> slot != deniedSlot && !(denyDye && stack.getItem() == Items.dye));
+        }
+        // sided: a shuffled subset of the slots, possibly with a duplicate
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < size; i++) if (random.nextInt(4) != 0) slots.add(i);
+        if (!slots.isEmpty() && slots.size() < size && random.nextInt(4) == 0) slots.add(slots.get(0));
+        Collections.shuffle(slots, random);
+        return new MockInventory.Sided(
+            stacks,
+            stackLimit,
+            (slot, stack) -> slot != deniedSlot && !(denyDye && stack.getItem() == Items.dye),
+            slots.stream()
+                .mapToInt(Integer::intValue)
+                .toArray());
+    }
+
+    @Test
+    void sameAsMapBasedImplementation() {
+        Random random = new Random(7);
+        int moves = 0;
+        for (int n = 0; n < ITERATIONS; n++) {
+            MockInventory from = randomInventory(random, true);
+            MockInventory to = randomInventory(random, false);
+            byte maxTarget = (byte) (1 + random.nextInt(64));
+            byte minTarget = (byte) (1 + random.nextInt(random.nextBoolean() ? 1 : maxTarget));
+            byte maxMove = (byte) (1 + random.nextInt(64));
+            byte minMove = (byte) (1 + random.nextInt(random.nextBoolean() ? 1 : maxMove));
+            int maxStacks = random.nextBoolean() ? 1 + random.nextInt(3) : Integer.MAX_VALUE;
+            List<ItemStack> filter = random.nextInt(3) == 0 ? Arrays.asList(randomStack(random, false)) : null;
+            boolean invertFilter = random.nextBoolean();
+
+            MockInventory expectedFrom = from.copy(), expectedTo = to.copy();
+            int expected = legacyMoveMultipleItemStacks(
+                expectedFrom,
+                expectedTo,
+                ForgeDirection.UP,
+                ForgeDirection.DOWN,
+                filter,
+                invertFilter,
+                maxTarget,
+                minTarget,
+                maxMove,
+                minMove,
+                maxStacks);
+            int actual = GTItemTransfer.moveMultipleItemStacks(
+                from,
+                to,
+                ForgeDirection.UP,
+                ForgeDirection.DOWN,
+                filter,
+                invertFilter,
+                maxTarget,
+                minTarget,
+                maxMove,
+                minMove,
+                maxStacks,
+                true);
+
+            String message = "case " + n;
+            assertEquals(expected, actual, message);
+            assertEquals(expectedFrom.describeContents(), from.describeContents(), message);
+            assertEquals(expectedTo.describeContents(), to.describeContents(), message);
+            assertEquals(expectedFrom.log, from.log, message);
+            assertEquals(expectedTo.log, to.log, message);
+            if (actual > 0) moves++;
+        }
+        // make sure the random inventories are not degenerate
+        assertTrue(moves > ITERATIONS / 4, "only " + moves + " cases moved anything");
+    }
+
+    // Without an inventory on the other side, the whole slot array goes to moveStackIntoPipe, which here drops the
+    // items into the world. Slots left in the scratch array by an earlier, larger source must not show up in it.
+    @Test
+    void pipePathAfterLargerSource() {
+        World world = MinecraftServer.getServer()
+            .worldServerForDimension(0);
+        ChunkCoordinates spawn = world.getSpawnPoint();
+        int y = world.getHeight() - 3;
+        try {
+            // accessible in reverse, so the scratch array is left holding high slot numbers
+            ItemStack[] largeStacks = new ItemStack[9];
+            int[] largeSlots = new int[9];
+            for (int i = 0; i < 9; i++) {
+                largeStacks[i] = new ItemStack(Items.iron_ingot);
+                largeSlots[i] = 8 - i;
+            }
+            DroppingInventory large = new DroppingInventory(world, spawn.posX, y, spawn.posZ, largeStacks, largeSlots);
+            moveIntoWorld(large);
+            for (int i = 0; i < 9; i++) assertNull(large.getStackInSlot(i), "large slot " + i);
+
+            ItemStack[] smallStacks = new ItemStack[3];
+            smallStacks[2] = new ItemStack(Items.iron_ingot, 8);
+            DroppingInventory small = new DroppingInventory(
+                world,
+                spawn.posX,
+                y,
+                spawn.posZ,
+                smallStacks,
+                new int[] { 0, 1, 2 });
+            assertEquals(8, moveIntoWorld(small));
+            assertNull(small.getStackInSlot(2));
+        } finally {
+            AxisAlignedBB around = AxisAlignedBB
+                .getBoundingBox(spawn.posX - 2, y - 2, spawn.posZ - 2, spawn.posX + 3, y + 4, spawn.posZ + 3);
+            for (Object entity : world.getEntitiesWithinAABB(EntityItem.class, around)) {
+                ((EntityItem) entity).setDead();
+            }
+        }
+    }
+
+    private static int moveIntoWorld(IInventory from) {
+        return GTItemTransfer.moveMultipleItemStacks(
+            from,
+            null,
+            ForgeDirection.UP,
+            ForgeDirection.DOWN,
+            null,
+            false,
+            (byte) 64,
+            (byte) 1,
+            (byte) 64,
+            (byte) 1,
+            Integer.MAX_VALUE,
+            false);
+    }
+
+    private static class DroppingInventory extends TileEntity implements ISidedInventory {
+
+        private final ItemStack[] stacks;
+        private final int[] accessibleSlots;
+
+        DroppingInventory(World world, int x, int y, int z, ItemStack[] stacks, int[] accessibleSlots) {
+            setWorldObj(world);
+            xCoord = x;
+            yCoord = y;
+            zCoord = z;
+            this.stacks = stacks;
+            this.accessibleSlots = accessibleSlots;
+        }
+
+        @Override
+        public int[] getAccessibleSlotsFromSide(int side) {
+            return accessibleSlots;
+        }
+
+        @Override
+        public boolean canInsertItem(int slot, ItemStack stack, int side) {
+            return true;
+        }
+
+        @Override
+        public boolean canExtractItem(int slot, ItemStack stack, int side) {
+            return true;
+        }
+
+        @Override
+        public int getSizeInventory() {
+            return stacks.length;
+        }
+
+        @Override
+        public ItemStack getStackInSlot(int slot) {
+            return stacks[slot];
+        }
+
+        @Override
+        public ItemStack decrStackSize(int slot, int amount) {
+            ItemStack stack = stacks[slot];
+            if (stack == null) return null;
+            if (stack.stackSize <= amount) {
+                stacks[slot] = null;
+                return stack;
+            }
+            return stack.splitStack(amount);
+        }
+
+        @Override
+        public ItemStack getStackInSlotOnClosing(int slot) {
+            return null;
+        }
+
+        @Override
+        public void setInventorySlotContents(int slot, ItemStack stack) {
+            stacks[slot] = stack;
+        }
+
+        @Override
+        public String getInventoryName() {
+            return "dropping";
+        }
+
+        @Override
+        public boolean hasCustomInventoryName() {
+            return false;
+        }
+
+        @Override
+        public int getInventoryStackLimit() {
+            return 64;
+        }
+
+        @Override
+        public boolean isUseableByPlayer(EntityPlayer player) {
+            return true;
+        }
+
+        @Override
+        public void openInventory() {}
+
+        @Override
+        public void closeInventory() {}
+
+        @Override
+        public boolean isItemValidForSlot(int slot, ItemStack stack) {
+            return true;
+        }
+    }
+
+    private static int legacyMoveMultipleItemStacks(IInventory fromInventory, IInventory toInventory,
+        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
+        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
+        int aMaxStackTransfer) {
+        if (aMaxTargetStackSize <= 0 || aMinTargetStackSize <= 0
+            || aMaxMoveAtOnce <= 0
+            || aMinTargetStackSize > aMaxTargetStackSize
+            || aMinMoveAtOnce > aMaxMoveAtOnce
+            || aMaxStackTransfer == 0) return 0;
+
+        final int[] tGrabSlots = new int[fromInventory.getSizeInventory()];
+        int tGrabSlotsSize = 0;
+        if (fromInventory instanceof ISidedInventory) {
+            for (int i : ((ISidedInventory) fromInventory).getAccessibleSlotsFromSide(fromSide.ordinal())) {
+                final ItemStack s = fromInventory.getStackInSlot(i);
+                if (s == null || !isAllowedToTakeFromSlot(fromInventory, i, fromSide, s)
+                    || s.stackSize < aMinMoveAtOnce
+                    || !listContainsItem(aFilter, s, true, aInvertFilter)) continue;
+                tGrabSlots[tGrabSlotsSize++] = i;
+            }
+        } else {
+            for (int i = 0; i < tGrabSlots.length; i++) {
+                ItemStack s = fromInventory.getStackInSlot(i);
+                if (s == null || s.stackSize < aMinMoveAtOnce || !listContainsItem(aFilter, s, true, aInvertFilter))
+                    continue;
+                tGrabSlots[tGrabSlotsSize++] = i;
+            }
+        }
+        if (tGrabSlotsSize == 0) return 0;
+
+        final HashMap<ItemId, Integer> tPutItems = new HashMap<>(toInventory.getSizeInventory());
+        final HashMap<ItemId, List<ItemStack>> tPutItemStacks = new HashMap<>(toInventory.getSizeInventory());
+        final List<Integer> tPutFreeSlots = new ArrayList<>(toInventory.getSizeInventory());
+
+        int[] accessibleSlots = null;
+        if (toInventory instanceof ISidedInventory sided)
+            accessibleSlots = sided.getAccessibleSlotsFromSide(putSide.ordinal());
+        for (int i = 0; i < toInventory.getSizeInventory(); i++) {
+            int slot = i;
+            if (accessibleSlots != null) {
+                if (accessibleSlots.length <= i) break;
+                slot = accessibleSlots[slot];
+            }
+            ItemStack s = toInventory.getStackInSlot(slot);
+            if (s == null) {
+                tPutFreeSlots.add(slot);
+            } else if ((s.stackSize < s.getMaxStackSize() && s.stackSize < toInventory.getInventoryStackLimit())
+                && aMinMoveAtOnce <= s.getMaxStackSize() - s.stackSize
+                && isAllowedToPutIntoSlot(toInventory, slot, putSide, s, (byte) 64)) {
+                    ItemId sID = ItemId.createNoCopy(s);
+                    tPutItems.merge(
+                        sID,
+                        (Math.min(s.getMaxStackSize(), toInventory.getInventoryStackLimit()) - s.stackSize),
+                        Integer::sum);
+                    tPutItemStacks.computeIfAbsent(sID, k -> new ArrayList<>())
+                        .add(s);
+                }
+        }
+        if (tPutItems.isEmpty() && tPutFreeSlots.isEmpty()) return 0;
+
+        int tStacksMoved = 0, tTotalItemsMoved = 0;
+        for (int j = 0; j < tGrabSlotsSize; j++) {
+            final int grabSlot = tGrabSlots[j];
+            int tMovedItems;
+            int tStackSize;
+            do {
+                tMovedItems = 0;
+                final ItemStack tGrabStack = fromInventory.getStackInSlot(grabSlot);
+                if (tGrabStack == null) break;
+                tStackSize = tGrabStack.stackSize;
+                final ItemId sID = ItemId.createNoCopy(tGrabStack);
+
+                if (tPutItems.containsKey(sID)) {
+                    final int canPut = Math.min(tPutItems.get(sID), aMaxMoveAtOnce);
+                    if (canPut >= aMinMoveAtOnce) {
+                        final List<ItemStack> putStack = tPutItemStacks.get(sID);
+                        if (!putStack.isEmpty()) {
+                            int toPut = Math.min(canPut, tStackSize);
+                            tMovedItems = toPut;
+                            for (int i = 0; i < putStack.size(); i++) {
+                                final ItemStack s = putStack.get(i);
+                                final int sToPut = Math.min(
+                                    Math.min(
+                                        Math.min(toPut, s.getMaxStackSize() - s.stackSize),
+                                        toInventory.getInventoryStackLimit() - s.stackSize),
+                                    aMaxTargetStackSize - s.stackSize);
+                                if (sToPut <= 0) continue;
+                                if (sToPut < aMinMoveAtOnce) continue;
+                                if (s.stackSize + sToPut < aMinTargetStackSize) continue;
+                                toPut -= sToPut;
+                                s.stackSize += sToPut;
+                                if (s.stackSize == s.getMaxStackSize()
+                                    || s.stackSize == toInventory.getInventoryStackLimit()) {
+                                    putStack.remove(i);
+                                    i--;
+                                }
+                                if (toPut == 0) break;
+                            }
+                            tMovedItems -= toPut;
+                            if (tMovedItems > 0) {
+                                tStackSize -= tMovedItems;
+                                tTotalItemsMoved += tMovedItems;
+                                tPutItems.merge(sID, tMovedItems, (a, b) -> a.equals(b) ? null : a - b);
+
+                                if (tStackSize == 0) fromInventory.setInventorySlotContents(grabSlot, null);
+                                else tGrabStack.stackSize = tStackSize;
+
+                                fromInventory.markDirty();
+                                toInventory.markDirty();
+                            }
+                        }
+                    }
+                }
+                if (tStackSize > 0 && !tPutFreeSlots.isEmpty()) {
+                    for (int i = 0; i < tPutFreeSlots.size(); i++) {
+                        final int tPutSlot = tPutFreeSlots.get(i);
+                        if (isAllowedToPutIntoSlot(toInventory, tPutSlot, putSide, tGrabStack, (byte) 64)) {
+                            final int tMoved = moveStackFromSlotAToSlotB(
+                                fromInventory,
+                                toInventory,
+                                grabSlot,
+                                tPutSlot,
+                                aMaxTargetStackSize,
+                                aMinTargetStackSize,
+                                (byte) (aMaxMoveAtOnce - tMovedItems),
+                                aMinMoveAtOnce);
+                            if (tMoved > 0) {
+                                final ItemStack s = toInventory.getStackInSlot(tPutSlot);
+                                if (s != null) {
+                                    final int spare = Math
+                                        .min(s.getMaxStackSize(), toInventory.getInventoryStackLimit())
+                                        - s.stackSize;
+                                    if (spare > 0) {
+                                        final ItemId ssID = ItemId.createNoCopy(s);
+                                        tPutItems.merge(ssID, spare, Integer::sum);
+                                        tPutItemStacks.computeIfAbsent(ssID, k -> new ArrayList<>())
+                                            .add(s);
+                                    }
+                                    tPutFreeSlots.remove(i);
+                                    i--;
+                                }
+                                tTotalItemsMoved += tMoved;
+                                tMovedItems += tMoved;
+                                tStackSize -= tMoved;
+                                if (tStackSize == 0) break;
+                            }
+                        }
+                    }
+                }
+
+                if (tMovedItems > 0) {
+                    if (++tStacksMoved >= aMaxStackTransfer) return tTotalItemsMoved;
+                }
+            } while (tMovedItems > 0 && tStackSize > 0);
+        }
+        return tTotalItemsMoved;
+    }
+}
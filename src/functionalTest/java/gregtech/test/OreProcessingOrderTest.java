@@ -0,0 +1,122 @@
+package gregtech.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.enums.Materials;
+import gregtech.api.enums.OrePrefixes;
+import gregtech.api.interfaces.IOreRecipeRegistrator;
+import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTRecipeBuffer;
+import gregtech.api.util.GTRecipeBuilder;
+import gregtech.common.GTProxy;
+import gregtech.common.GTProxy.OreDictEventContainer;
+
+class OreProcessingOrderTest {
+
+    private static final OrePrefixes[] PREFIXES = { OrePrefixes.crushed, OrePrefixes.crushedPurified,
+        OrePrefixes.crushedCentrifuged, OrePrefixes.dustImpure, OrePrefixes.dustPure, OrePrefixes.dust,
+        OrePrefixes.ingot, OrePrefixes.gem, OrePrefixes.crystalline, OrePrefixes.plate };
+    private static final Materials[] MATERIALS = { Materials.Iron, Materials.Copper, Materials.Tin, Materials.Gold,
+        Materials.Redstone, Materials.Diamond, Materials.Emerald, Materials.Coal };
+
+    // the events of one material are spread over the list, so the worker partitions interleave
+    private static List<OreDictEventContainer> events() {
+        List<OreDictEventContainer> events = new ArrayList<>();
+        for (OrePrefixes prefix : PREFIXES) {
+            for (Materials material : MATERIALS) {
+                ItemStack stack = GTOreDictUnificator.get(prefix, material, 1L);
+                if (stack == null) continue;
+                OreDictionary.OreRegisterEvent event = new OreDictionary.OreRegisterEvent(
+                    prefix.name() + material.mName,
+                    stack);
+                events.add(new OreDictEventContainer(event, prefix, material, null));
+            }
+        }
+        return events;
+    }
+
+    @Test
+    void prefixesMixThreadSafeAndSerialRegistrators() {
+        List<IOreRecipeRegistrator> registrators = new ArrayList<>();
+        for (OrePrefixes prefix : PREFIXES) registrators.addAll(prefix.getOreProcessing());
+        assertTrue(
+            registrators.stream()
+                .anyMatch(IOreRecipeRegistrator::isThreadSafe));
+        assertTrue(
+            registrators.stream()
+                .anyMatch(registrator -> !registrator.isThreadSafe()));
+    }
+
+    @Test
+    void parallelRegistrationMatchesSerialOrder() {
+        List<OreDictEventContainer> events = events();
+        GTRecipeBuffer serial = new GTRecipeBuffer().capture(() -> events.forEach(GTProxy::registerRecipes));
+        GTRecipeBuffer parallel = new GTRecipeBuffer()
+            .capture(() -> events.forEach(GTProxy.bufferOreRecipes(events)));
+
+        assertFalse(
+            serial.getBuilders()
+                .isEmpty());
+        assertEquals(describe(serial), describe(parallel));
+    }
+
+    private static List<String> describe(GTRecipeBuffer buffer) {
+        List<String> ret = new ArrayList<>();
+        for (int i = 0; i < buffer.size(); i++) {
+            GTRecipeBuilder builder = buffer.getBuilders()
+                .get(i);
+            ret.add(
+                buffer.getTargets()
+                    .get(i) + ": "
+                    + describe(builder.getItemInputsBasic())
+                    + Arrays.deepToString(builder.getItemInputsOreDict())
+                    + describe(builder.getFluidInputs())
+                    + " -> "
+                    + describe(builder.getItemOutputs())
+                    + Arrays.toString(builder.getChances())
+                    + describe(builder.getFluidOutputs())
+                    + ", "
+                    + builder.getDuration()
+                    + " ticks at "
+                    + builder.getEUt()
+                    + " EU/t");
+        }
+        return ret;
+    }
+
+    private static String describe(ItemStack[] stacks) {
+        StringBuilder ret = new StringBuilder("[");
+        if (stacks != null) {
+            for (ItemStack stack : stacks) {
+                ret.append(stack == null ? "null" : stack.stackSize + "x" + stack.getDisplayName())
+                    .append(' ');
+            }
+        }
+        return ret.append(']')
+            .toString();
+    }
+
+    private static String describe(FluidStack[] stacks) {
+        StringBuilder ret = new StringBuilder("[");
+        if (stacks != null) {
+            for (FluidStack stack : stacks) {
+                ret.append(stack == null ? "null" : stack.amount + "x" + stack.getLocalizedName())
+                    .append(' ');
+            }
+        }
+        return ret.append(']')
+            .toString();
+    }
+}
@@ -0,0 +1,138 @@
+package gregtech.test;
+
+import static gregtech.api.enums.GTValues.RA;
+import static net.minecraft.init.Blocks.chest;
+import static net.minecraft.init.Blocks.lapis_block;
+import static net.minecraft.init.Blocks.stone;
+import static net.minecraft.init.Blocks.stone_slab;
+import static net.minecraft.init.Items.glass_bottle;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.util.GTRecipe;
+
+class RecipeMatchCacheTest {
+
+    static RecipeMap<?> recipeMap;
+    static GTRecipe manySlabs, oneSlab, slabHV, bottleMV, bottleLV, muchWater, littleWater;
+
+    @BeforeAll
+    static void setup() {
+        recipeMap = RecipeMapBuilder.of("__match_cache_test__")
+            .maxIO(4, 1, 1, 0)
+            .build();
+
+        // in index order, so that a hint recorded for one machine fails for the next one with the same kinds of inputs
+        manySlabs = add(new ItemStack[] { new ItemStack(stone_slab, 16), new ItemStack(lapis_block, 1) }, null, 30);
+        oneSlab = add(new ItemStack[] { new ItemStack(stone_slab, 1) }, null, 30);
+        slabHV = add(new ItemStack[] { new ItemStack(stone_slab, 1), new ItemStack(lapis_block, 1) }, null, 500);
+        bottleMV = add(new ItemStack[] { new ItemStack(glass_bottle, 1), new ItemStack(chest, 1) }, null, 120);
+        bottleLV = add(new ItemStack[] { new ItemStack(glass_bottle, 1), new ItemStack(chest, 1) }, null, 30);
+        muchWater = add(new ItemStack[0], new FluidStack(FluidRegistry.WATER, 1000), 30);
+        littleWater = add(new ItemStack[0], new FluidStack(FluidRegistry.WATER, 100), 30);
+    }
+
+    private static GTRecipe add(ItemStack[] inputs, FluidStack fluid, int eut) {
+        return RA.stdBuilder()
+            .itemInputs(inputs)
+            .itemOutputs(new ItemStack(stone, 1))
+            .fluidInputs(fluid == null ? new FluidStack[0] : new FluidStack[] { fluid })
+            .duration(1)
+            .eut(eut)
+            .ignoreCollision()
+            .addTo(recipeMap)
+            .iterator()
+            .next();
+    }
+
+    private static final class Query {
+
+        final ItemStack[] items;
+        final FluidStack[] fluids;
+        final long voltage;
+
+        Query(long voltage, FluidStack[] fluids, ItemStack... items) {
+            this.items = items;
+            this.fluids = fluids;
+            this.voltage = voltage;
+        }
+
+        GTRecipe find() {
+            return recipeMap.findRecipeQuery()
+                .items(items)
+                .fluids(fluids)
+                .voltage(voltage)
+                .find();
+        }
+    }
+
+    private static List<Query> queries() {
+        FluidStack[] none = new FluidStack[0];
+        return Arrays.asList(
+            new Query(32, none, new ItemStack(stone_slab, 64), new ItemStack(lapis_block, 1)),
+            // same kinds of inputs, but too few slabs for the shared hint
+            new Query(32, none, new ItemStack(stone_slab, 4), new ItemStack(lapis_block, 1)),
+            // slot order and the other tier get their own hint
+            new Query(32, none, new ItemStack(lapis_block, 1), new ItemStack(stone_slab, 64)),
+            new Query(512, none, new ItemStack(stone_slab, 4), new ItemStack(lapis_block, 1)),
+            new Query(512, none, new ItemStack(stone_slab, 64), new ItemStack(lapis_block, 1)),
+            // the hint fits the tier but not this voltage
+            new Query(128, none, new ItemStack(glass_bottle, 1), new ItemStack(chest, 1)),
+            new Query(100, none, new ItemStack(glass_bottle, 1), new ItemStack(chest, 1)),
+            new Query(32, new FluidStack[] { new FluidStack(FluidRegistry.WATER, 5000) }),
+            new Query(32, new FluidStack[] { new FluidStack(FluidRegistry.WATER, 500) }),
+            new Query(32, none, new ItemStack(lapis_block, 1)));
+    }
+
+    private static List<GTRecipe> findAll(boolean shareLookups, int passes) {
+        recipeMap.getBackend()
+            .setMatchCacheEnabled(shareLookups);
+        List<GTRecipe> ret = new ArrayList<>();
+        for (int i = 0; i < passes; i++) {
+            for (Query query : queries()) ret.add(query.find());
+        }
+        return ret;
+    }
+
+    @Test
+    void expectedRecipesWithoutSharing() {
+        assertEquals(
+            Arrays.asList(
+                manySlabs,
+                oneSlab,
+                manySlabs,
+                oneSlab,
+                manySlabs,
+                bottleMV,
+                bottleLV,
+                muchWater,
+                littleWater,
+                null),
+            findAll(false, 1));
+    }
+
+    @Test
+    void sharedLookupsDoNotChangeResults() {
+        List<GTRecipe> expected = findAll(false, 3);
+        recipeMap.getBackend()
+            .resetMatchCacheStats();
+        assertEquals(expected, findAll(true, 3));
+        assertTrue(
+            recipeMap.getBackend()
+                .getMatchCacheStats()
+                .hitCount() > 0);
+    }
+}
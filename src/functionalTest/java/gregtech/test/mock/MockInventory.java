@@ -0,0 +1,156 @@
+package gregtech.test.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Inventory that records every mutating call, so that two transfer implementations can be compared call by call.
+ */
+public class MockInventory implements IInventory {
+
+    protected final ItemStack[] stacks;
+    protected final int stackLimit;
+    protected final BiPredicate<Integer, ItemStack> validForSlot;
+    public final List<String> log = new ArrayList<>();
+
+    public MockInventory(ItemStack[] stacks, int stackLimit, BiPredicate<Integer, ItemStack> validForSlot) {
+        this.stacks = stacks;
+        this.stackLimit = stackLimit;
+        this.validForSlot = validForSlot;
+    }
+
+    /**
+     * @return Deep copy with an empty log
+     */
+    public MockInventory copy() {
+        return new MockInventory(copyStacks(), stackLimit, validForSlot);
+    }
+
+    protected ItemStack[] copyStacks() {
+        ItemStack[] copy = new ItemStack[stacks.length];
+        for (int i = 0; i < stacks.length; i++) copy[i] = stacks[i] == null ? null : stacks[i].copy();
+        return copy;
+    }
+
+    public static String describe(ItemStack stack) {
+        if (stack == null) return "null";
+        return Item.getIdFromItem(stack.getItem()) + ":"
+            + stack.getItemDamage()
+            + "x"
+            + stack.stackSize
+            + (stack.getTagCompound() == null ? "" : stack.getTagCompound());
+    }
+
+    public List<String> describeContents() {
+        List<String> ret = new ArrayList<>();
+        for (ItemStack stack : stacks) ret.add(describe(stack));
+        return ret;
+    }
+
+    @Override
+    public int getSizeInventory() {
+        return stacks.length;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return stacks[slot];
+    }
+
+    @Override
+    public ItemStack decrStackSize(int slot, int amount) {
+        log.add("decr " + slot + " " + amount);
+        ItemStack stack = stacks[slot];
+        if (stack == null) return null;
+        if (stack.stackSize <= amount) {
+            stacks[slot] = null;
+            return stack;
+        }
+        return stack.splitStack(amount);
+    }
+
+    @Override
+    public ItemStack getStackInSlotOnClosing(int slot) {
+        return null;
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack) {
+        log.add("set " + slot + " " + describe(stack));
+        stacks[slot] = stack;
+    }
+
+    @Override
+    public String getInventoryName() {
+        return "mock";
+    }
+
+    @Override
+    public boolean hasCustomInventoryName() {
+        return false;
+    }
+
+    @Override
+    public int getInventoryStackLimit() {
+        return stackLimit;
+    }
+
+    @Override
+    public void markDirty() {
+        log.add("dirty");
+    }
+
+    @Override
+    public boolean isUseableByPlayer(EntityPlayer player) {
+        return true;
+    }
+
+    @Override
+    public void openInventory() {}
+
+    @Override
+    public void closeInventory() {}
+
+    @Override
+    public boolean isItemValidForSlot(int slot, ItemStack stack) {
+        return validForSlot.test(slot, stack);
+    }
+
+    public static class Sided extends MockInventory implements ISidedInventory {
+
+        protected final int[] accessibleSlots;
+
+        public Sided(ItemStack[] stacks, int stackLimit, BiPredicate<Integer, ItemStack> validForSlot,
+            int[] accessibleSlots) {
+            super(stacks, stackLimit, validForSlot);
+            this.accessibleSlots = accessibleSlots;
+        }
+
+        @Override
+        public MockInventory copy() {
+            return new Sided(copyStacks(), stackLimit, validForSlot, accessibleSlots);
+        }
+
+        @Override
+        public int[] getAccessibleSlotsFromSide(int side) {
+            return accessibleSlots;
+        }
+
+        @Override
+        public boolean canInsertItem(int slot, ItemStack stack, int side) {
+            return isItemValidForSlot(slot, stack);
+        }
+
+        @Override
+        public boolean canExtractItem(int slot, ItemStack stack, int side) {
+            return slot % 3 != 2;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package gregtech.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+
+import org.mockito.Mockito;
+
+import gregtech.GTMod;
+import gregtech.common.GTProxy;
+
+/**
+ * Registers the vanilla blocks and items, so that the benchmarks can build item stacks outside of a running game.
+ * GregTech's own items and materials are only created during mod loading, so the benchmarks build their inputs from
+ * vanilla items and from fluids registered here. The proxy is a mock, recipes read its settings when they are created.
+ * <p>
+ * Run the benchmarks with {@code -Dgt.recipebuilder.debug=false}, the recipe builder otherwise reads the launch
+ * wrapper's blackboard, which only exists in a launched game.
+ */
+final class BenchmarkBootstrap {
+
+    private static final List<ItemStack> sStacks = new ArrayList<>();
+    private static final List<Fluid> sFluids = new ArrayList<>();
+
+    private BenchmarkBootstrap() {}
+
+    static synchronized void init() {
+        if (!sStacks.isEmpty()) return;
+        Bootstrap.func_151354_b();
+        if (GTMod.gregtechproxy == null) GTMod.gregtechproxy = Mockito.mock(GTProxy.class);
+        List<Item> tItems = new ArrayList<>();
+        for (Object tItem : Item.itemRegistry) tItems.add((Item) tItem);
+        tItems.sort(Comparator.comparingInt(Item::getIdFromItem));
+        for (Item tItem : tItems) {
+            int tMetas = tItem.getHasSubtypes() ? 4 : 1;
+            for (int tMeta = 0; tMeta < tMetas; tMeta++) sStacks.add(new ItemStack(tItem, 1, tMeta));
+        }
+        for (int i = 0; i < 32; i++) {
+            Fluid tFluid = new Fluid("gt.benchmark." + i);
+            FluidRegistry.registerFluid(tFluid);
+            sFluids.add(tFluid);
+        }
+    }
+
+    /**
+     * @return Distinct item + meta pairs in a stable order, each with a stack size of 1. Do not mutate them.
+     */
+    static List<ItemStack> stacks() {
+        return sStacks;
+    }
+
+    static List<Fluid> fluids() {
+        return sFluids;
+    }
+}
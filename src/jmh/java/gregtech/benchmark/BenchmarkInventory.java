@@ -0,0 +1,82 @@
+package gregtech.benchmark;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Plain array backed inventory, so that the transfer benchmarks measure the transfer logic and not a tile entity.
+ */
+final class BenchmarkInventory implements IInventory {
+
+    private final ItemStack[] mStacks;
+
+    BenchmarkInventory(int aSize) {
+        mStacks = new ItemStack[aSize];
+    }
+
+    @Override
+    public int getSizeInventory() {
+        return mStacks.length;
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        return mStacks[slot];
+    }
+
+    @Override
+    public ItemStack decrStackSize(int slot, int amount) {
+        ItemStack tStack = mStacks[slot];
+        if (tStack == null) return null;
+        if (tStack.stackSize <= amount) {
+            mStacks[slot] = null;
+            return tStack;
+        }
+        return tStack.splitStack(amount);
+    }
+
+    @Override
+    public ItemStack getStackInSlotOnClosing(int slot) {
+        return null;
+    }
+
+    @Override
+    public void setInventorySlotContents(int slot, ItemStack stack) {
+        mStacks[slot] = stack;
+    }
+
+    @Override
+    public String getInventoryName() {
+        return "benchmark";
+    }
+
+    @Override
+    public boolean hasCustomInventoryName() {
+        return false;
+    }
+
+    @Override
+    public int getInventoryStackLimit() {
+        return 64;
+    }
+
+    @Override
+    public void markDirty() {}
+
+    @Override
+    public boolean isUseableByPlayer(EntityPlayer player) {
+        return true;
+    }
+
+    @Override
+    public void openInventory() {}
+
+    @Override
+    public void closeInventory() {}
+
+    @Override
+    public boolean isItemValidForSlot(int slot, ItemStack stack) {
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+package gregtech.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+
+import gregtech.api.enums.VoidingMode;
+import gregtech.api.interfaces.fluid.IFluidStore;
+import gregtech.api.interfaces.tileentity.IVoidable;
+
+/**
+ * Stand-in for a multiblock with output buses and hatches, for the void protection calculations. The output slots are
+ * fixed at construction, the helpers only simulate insertions into them.
+ */
+final class BenchmarkMachine implements IVoidable {
+
+    private final List<ItemStack> mItemSlots;
+    private final List<Hatch> mFluidSlots;
+    private VoidingMode mVoidingMode = VoidingMode.VOID_NONE;
+
+    /**
+     * @param aItemSlots  Contents of the output bus slots, null for an empty slot
+     * @param aFluidSlots Contents of the output hatches, null for an empty hatch
+     */
+    BenchmarkMachine(List<ItemStack> aItemSlots, List<FluidStack> aFluidSlots, int aHatchCapacity) {
+        mItemSlots = aItemSlots;
+        mFluidSlots = new ArrayList<>(aFluidSlots.size());
+        for (FluidStack tFluid : aFluidSlots) mFluidSlots.add(new Hatch(tFluid, aHatchCapacity));
+    }
+
+    @Override
+    public boolean supportsVoidProtection() {
+        return true;
+    }
+
+    @Override
+    public VoidingMode getVoidingMode() {
+        return mVoidingMode;
+    }
+
+    @Override
+    public void setVoidingMode(VoidingMode mode) {
+        mVoidingMode = mode;
+    }
+
+    @Override
+    public List<ItemStack> getItemOutputSlots(ItemStack[] toOutput) {
+        return mItemSlots;
+    }
+
+    @Override
+    public List<? extends IFluidStore> getFluidOutputSlots(FluidStack[] toOutput) {
+        return mFluidSlots;
+    }
+
+    @Override
+    public boolean canDumpItemToME() {
+        return false;
+    }
+
+    @Override
+    public boolean canDumpFluidToME() {
+        return false;
+    }
+
+    private static final class Hatch extends FluidTank implements IFluidStore {
+
+        Hatch(FluidStack aFluid, int aCapacity) {
+            super(aFluid, aCapacity);
+        }
+
+        @Override
+        public boolean isEmptyAndAcceptsAnyFluid() {
+            return getFluidAmount() == 0;
+        }
+
+        @Override
+        public boolean canStoreFluid(@Nonnull FluidStack fluidStack) {
+            return getFluidAmount() == 0 || fluidStack.isFluidEqual(getFluid());
+        }
+    }
+}
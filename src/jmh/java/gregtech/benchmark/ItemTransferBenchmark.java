@@ -0,0 +1,81 @@
+package gregtech.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gregtech.api.util.GTUtility;
+
+/**
+ * {@link GTUtility#moveMultipleItemStacks} between two chest sized inventories, the way conveyor covers and item
+ * pipes call it. Every operation moves the contents over and back again, so the inventories end up where they started.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Dgt.recipebuilder.debug=false")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItemTransferBenchmark {
+
+    private static final int SLOTS = 27;
+
+    /**
+     * Number of distinct items in the source inventory
+     */
+    @Param({ "1", "27" })
+    public int kinds;
+
+    private BenchmarkInventory left;
+    private BenchmarkInventory right;
+    private List<ItemStack> filter;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        List<ItemStack> stacks = BenchmarkBootstrap.stacks();
+        left = new BenchmarkInventory(SLOTS);
+        right = new BenchmarkInventory(SLOTS);
+        for (int i = 0; i < SLOTS; i++) {
+            left.setInventorySlotContents(i, GTUtility.copyAmount(32, stacks.get(i % kinds)));
+        }
+        filter = Collections.singletonList(stacks.get(0));
+    }
+
+    private static int move(BenchmarkInventory from, BenchmarkInventory to, List<ItemStack> filter, boolean invert) {
+        return GTUtility.moveMultipleItemStacks(
+            from,
+            to,
+            ForgeDirection.UP,
+            ForgeDirection.DOWN,
+            filter,
+            invert,
+            (byte) 64,
+            (byte) 1,
+            (byte) 64,
+            (byte) 1,
+            SLOTS);
+    }
+
+    @Benchmark
+    public int moveUnfiltered() {
+        return move(left, right, null, false) + move(right, left, null, false);
+    }
+
+    @Benchmark
+    public int moveFiltered() {
+        return move(left, right, filter, true) + move(right, left, filter, true);
+    }
+}
@@ -0,0 +1,59 @@
+package gregtech.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gregtech.api.util.LongData;
+import gregtech.api.util.LongRunningAverage;
+
+/**
+ * Per tick bookkeeping of a {@link LongRunningAverage}: one update, with and without views, and reading the averages.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LongRunningAverageBenchmark {
+
+    @Param({ "0", "2" })
+    public int views;
+
+    private LongRunningAverage average;
+    private LongData shortView;
+    private LongData longView;
+    private long value;
+
+    @Setup
+    public void setup() {
+        average = new LongRunningAverage(36_000);
+        shortView = views > 0 ? average.view(20) : average;
+        longView = views > 1 ? average.view(1_200) : average;
+        for (int i = 0; i < 36_000; i++) average.update(next());
+    }
+
+    private long next() {
+        value = value * 6364136223846793005L + 1442695040888963407L;
+        return value >>> 20;
+    }
+
+    @Benchmark
+    public void update() {
+        average.update(next());
+    }
+
+    @Benchmark
+    public double updateAndAverage() {
+        average.update(next());
+        return average.avg() + shortView.avg() + longView.avgLong();
+    }
+}
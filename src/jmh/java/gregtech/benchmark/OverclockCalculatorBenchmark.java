@@ -0,0 +1,62 @@
+package gregtech.benchmark;
+
+import static gregtech.api.enums.GTValues.V;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gregtech.api.util.OverclockCalculator;
+
+/**
+ * {@link OverclockCalculator#calculate} for the configurations processing logic uses: plain overclocks, heat
+ * overclocks with discounts, and laser overclocks with parallels.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OverclockCalculatorBenchmark {
+
+    @Benchmark
+    public int standard() {
+        return new OverclockCalculator().setRecipeEUt(30)
+            .setEUt(V[9])
+            .setDuration(1_200)
+            .calculate()
+            .getDuration();
+    }
+
+    @Benchmark
+    public int heat() {
+        return new OverclockCalculator().setRecipeEUt(1_920)
+            .setEUt(V[9])
+            .setDuration(2_400)
+            .setHeatOC(true)
+            .setHeatDiscount(true)
+            .setRecipeHeat(3_600)
+            .setMachineHeat(10_800)
+            .calculate()
+            .getDuration();
+    }
+
+    @Benchmark
+    public long laserWithParallel() {
+        return new OverclockCalculator().setRecipeEUt(7_680)
+            .setEUt(V[11])
+            .setAmperage(256)
+            .setDuration(600)
+            .setParallel(64)
+            .setLaserOC(true)
+            .setAmperageOC(true)
+            .calculate()
+            .getConsumption();
+    }
+}
@@ -0,0 +1,114 @@
+package gregtech.benchmark;
+
+import static gregtech.api.enums.GTValues.V;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTUtility;
+import gregtech.api.util.ParallelHelper;
+import gregtech.api.util.VoidProtectionHelper;
+
+/**
+ * The parallel calculation of a multiblock that found its recipe: the input side with
+ * {@link GTRecipe#maxParallelCalculatedByInputs}, the output side with {@link VoidProtectionHelper}, and both together
+ * with {@link ParallelHelper#build}. The machine has 16 input slots with the recipe inputs spread over them, 8 output
+ * slots that are partially filled and 4 output hatches.
+ */
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Dgt.recipebuilder.debug=false")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelHelperBenchmark {
+
+    @Param({ "16", "256", "4096" })
+    public int maxParallel;
+
+    private GTRecipe recipe;
+    private ItemStack[] inputs;
+    private FluidStack[] fluidInputs;
+    private BenchmarkMachine machine;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        List<ItemStack> stacks = BenchmarkBootstrap.stacks();
+        List<Fluid> fluids = BenchmarkBootstrap.fluids();
+        recipe = new GTRecipe(
+            new ItemStack[] { GTUtility.copyAmount(3, stacks.get(10)), GTUtility.copyAmount(1, stacks.get(11)),
+                GTUtility.copyAmount(16, stacks.get(12)), GTUtility.copyAmount(0, stacks.get(13)) },
+            new ItemStack[] { GTUtility.copyAmount(2, stacks.get(20)), GTUtility.copyAmount(1, stacks.get(21)) },
+            null,
+            new int[] { 10000, 2500 },
+            new FluidStack[] { new FluidStack(fluids.get(0), 250), new FluidStack(fluids.get(1), 1000) },
+            new FluidStack[] { new FluidStack(fluids.get(2), 100) },
+            200,
+            480,
+            0);
+
+        // every input spread over several slots, the way an input bus fills up
+        inputs = new ItemStack[16];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = GTUtility.copyAmount(64, stacks.get(10 + i % 4));
+        }
+        fluidInputs = new FluidStack[] { new FluidStack(fluids.get(0), 1_000_000),
+            new FluidStack(fluids.get(1), 1_000_000), new FluidStack(fluids.get(5), 1_000_000) };
+
+        List<ItemStack> itemSlots = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            itemSlots.add(i % 3 == 0 ? null : GTUtility.copyAmount(i * 7, stacks.get(20 + i % 3)));
+        }
+        machine = new BenchmarkMachine(
+            itemSlots,
+            Arrays.asList(null, new FluidStack(fluids.get(2), 4_000), null, new FluidStack(fluids.get(3), 1)),
+            64_000);
+    }
+
+    @Benchmark
+    public double maxParallelByInputs() {
+        return recipe.maxParallelCalculatedByInputs(maxParallel, fluidInputs, inputs);
+    }
+
+    @Benchmark
+    public int voidProtection() {
+        return new VoidProtectionHelper().setMachine(machine, true, true)
+            .setItemOutputs(recipe.mOutputs)
+            .setFluidOutputs(recipe.mFluidOutputs)
+            .setChangeGetter(recipe::getOutputChance)
+            .setMaxParallel(maxParallel)
+            .build()
+            .getMaxParallel();
+    }
+
+    @Benchmark
+    public int parallelHelper() {
+        return new ParallelHelper().setRecipe(recipe)
+            .setMachine(machine, true, true)
+            .setItemInputs(inputs)
+            .setFluidInputs(fluidInputs)
+            .setAvailableEUt(V[8])
+            .setMaxParallel(maxParallel)
+            .setConsumption(false)
+            .setOutputCalculation(true)
+            .build()
+            .getCurrentParallel();
+    }
+}
@@ -0,0 +1,135 @@
+package gregtech.benchmark;
+
+import static gregtech.api.enums.GTValues.V;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBackend;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTRecipeBuilder;
+import gregtech.api.util.GTUtility;
+
+/**
+ * Recipe lookups the way a multiblock does them: a 16 slot input bus holding the inputs of one recipe next to unrelated
+ * stacks, with and without the machine's cached recipe, and a bus that matches nothing.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Dgt.recipebuilder.debug=false")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecipeMapBackendBenchmark {
+
+    private static final int BUS_SLOTS = 16;
+
+    @Param({ "1000", "10000" })
+    public int recipes;
+
+    private RecipeMap<RecipeMapBackend> recipeMap;
+    private GTRecipe target;
+    private ItemStack[] hitItems;
+    private FluidStack[] hitFluids;
+    private ItemStack[] missItems;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        recipeMap = RecipeMapBuilder.of("gt.recipe.benchmark." + recipes)
+            .maxIO(6, 2, 2, 1)
+            .build();
+        List<ItemStack> stacks = BenchmarkBootstrap.stacks();
+        // the last quarter of the items never shows up in a recipe, it fills the buses
+        int ingredients = stacks.size() * 3 / 4;
+        Random random = new Random(42);
+        GTRecipe first = null;
+        for (int i = 0; i < recipes; i++) {
+            int inputCount = 1 + random.nextInt(4);
+            ItemStack[] inputs = new ItemStack[inputCount];
+            for (int j = 0; j < inputCount; j++) {
+                inputs[j] = GTUtility.copyAmount(1 + random.nextInt(16), stacks.get(random.nextInt(ingredients)));
+            }
+            GTRecipeBuilder builder = GTRecipeBuilder.builder()
+                .itemInputs(inputs)
+                .itemOutputs(GTUtility.copyAmount(1, stacks.get(random.nextInt(stacks.size()))))
+                .duration(20 + random.nextInt(200))
+                .eut(V[1 + random.nextInt(6)] - 2);
+            if (random.nextInt(3) == 0) {
+                builder.fluidInputs(fluid(random, 1000));
+            }
+            Collection<GTRecipe> added = builder.addTo(recipeMap);
+            if (first == null && !added.isEmpty()) first = added.iterator()
+                .next();
+        }
+        target = first;
+
+        hitItems = new ItemStack[BUS_SLOTS];
+        for (int i = 0; i < target.mInputs.length; i++) {
+            hitItems[i] = GTUtility.copyAmount(64, target.mInputs[i]);
+        }
+        missItems = new ItemStack[BUS_SLOTS];
+        for (int i = 0; i < BUS_SLOTS; i++) {
+            ItemStack filler = GTUtility
+                .copyAmount(64, stacks.get(ingredients + random.nextInt(stacks.size() - ingredients)));
+            missItems[i] = filler;
+            if (hitItems[i] == null) hitItems[i] = filler.copy();
+        }
+        hitFluids = new FluidStack[target.mFluidInputs.length];
+        for (int i = 0; i < hitFluids.length; i++) {
+            hitFluids[i] = target.mFluidInputs[i].copy();
+            hitFluids[i].amount = 64_000;
+        }
+    }
+
+    private static FluidStack fluid(Random random, int amount) {
+        return new FluidStack(
+            BenchmarkBootstrap.fluids()
+                .get(random.nextInt(8)),
+            amount);
+    }
+
+    @Benchmark
+    public GTRecipe findHit() {
+        return recipeMap.findRecipeQuery()
+            .items(hitItems)
+            .fluids(hitFluids)
+            .voltage(V[8])
+            .find();
+    }
+
+    @Benchmark
+    public GTRecipe findCachedHit() {
+        return recipeMap.findRecipeQuery()
+            .items(hitItems)
+            .fluids(hitFluids)
+            .voltage(V[8])
+            .cachedRecipe(target)
+            .find();
+    }
+
+    @Benchmark
+    public GTRecipe findMiss() {
+        return recipeMap.findRecipeQuery()
+            .items(missItems)
+            .fluids()
+            .voltage(V[8])
+            .find();
+    }
+}
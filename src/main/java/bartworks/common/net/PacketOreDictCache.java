@@ -43,6 +43,11 @@ public class PacketOreDictCache extends GTPacket {
         return 25;
     }
 
+    @Override
+    public int getCompressionThreshold() {
+        return 512;
+    }
+
     @Override
     public void encode(ByteBuf aOut) {
         int size = this.hashSet.size();
@@ -269,7 +269,7 @@ public abstract class MTELargeFusionComputer extends MTETooltipMultiBlockBaseEM
                 mUpdate = 50;
                 mUpdated = false;
             }
-            if (--mUpdate == 0 || --mStartUpCheck == 0
+            if (--mUpdate == 0 || countDownStartUpCheck()
                 || cyclicUpdate_EM()
                 || aBaseMetaTileEntity.hasWorkJustBeenEnabled()) {
                 if (mUpdate <= -1000) {
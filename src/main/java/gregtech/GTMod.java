@@ -65,6 +65,7 @@ import gregtech.api.modularui2.GTWidgetThemes;
 import gregtech.api.objects.GTItemStack;
 import gregtech.api.objects.ItemData;
 import gregtech.api.objects.XSTR;
+import gregtech.api.recipe.RecipeMap;
 import gregtech.api.registries.LHECoolantRegistry;
 import gregtech.api.threads.RunnableMachineUpdate;
 import gregtech.api.util.AssemblyLineServer;
@@ -72,6 +73,7 @@ import gregtech.api.util.GTForestryCompat;
 import gregtech.api.util.GTLanguageManager;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeRegistrator;
@@ -310,6 +312,7 @@ public class GTMod implements IGTMod {
         if (FMLCommonHandler.instance()
             .getEffectiveSide()
             .isServer()) AssemblyLineServer.fillMap(aEvent);
+        GTLanguageManager.flushPendingTranslations();
     }
 
     @Mod.EventHandler
@@ -358,6 +361,7 @@ public class GTMod implements IGTMod {
         for (Runnable tRunnable : GregTechAPI.sAfterGTLoad) {
             tRunnable.run();
         }
+        GTLanguageManager.flushPendingTranslations();
     }
 
     @Mod.EventHandler
@@ -534,16 +538,19 @@ public class GTMod implements IGTMod {
         GregTechAPI.sAfterGTLoad = null;
         GregTechAPI.sBeforeGTPostload = null;
         GregTechAPI.sAfterGTPostload = null;
+        GTLanguageManager.flushPendingTranslations();
     }
 
     @Mod.EventHandler
     public void onLoadComplete(FMLLoadCompleteEvent aEvent) {
+        RecipeMap.runStagedCollisionChecks();
         gregtechproxy.onLoadComplete();
         for (Runnable tRunnable : GregTechAPI.sGTCompleteLoad) {
             tRunnable.run();
         }
         GregTechAPI.sGTCompleteLoad = null;
         GregTechAPI.sFullLoadFinished = true;
+        GTLanguageManager.flushPendingTranslations();
     }
 
     @Mod.EventHandler
@@ -726,6 +733,7 @@ public class GTMod implements IGTMod {
     public void onIDChangingEvent(FMLModIdMappingEvent aEvent) {
         GTUtility.reInit();
         GTRecipe.reInit();
+        GTOreDictMembership.invalidate();
         for (Map<?, ?> gt_itemStackMap : GregTechAPI.sItemStackMappings) {
             GTUtility.reMap(gt_itemStackMap);
         }
@@ -294,6 +294,10 @@ public class GTValues {
      * Multiplier to control how many placer ores get generated.
      */
     public static int oreveinPlacerOresMultiplier;
+    /**
+     * This will let thread safe ore processing handlers generate their recipes on worker threads during postload.
+     */
+    public static boolean parallelOreProcessing = false;
     /**
      * Not really Constants, but they set using the Config and therefore should be constant (those are for the Debug
      * Mode)
@@ -422,6 +426,10 @@ public class GTValues {
      * This will make all chunkloading machines act as World Anchors (true) or Passive Anchors (false)
      */
     public static boolean alwaysReloadChunkloaders = false;
+    /**
+     * This will let multiblocks search their recipes on worker threads and start them on a later check.
+     */
+    public static boolean asyncRecipeSearch = false;
 
     public static boolean debugChunkloaders = false;
     public static final Set<String> mCTMEnabledBlock = new HashSet<>();
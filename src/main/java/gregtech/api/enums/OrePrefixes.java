@@ -7,9 +7,11 @@ import static gregtech.api.enums.GTValues.M;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.oredict.OreDictionary;
@@ -1256,7 +1258,22 @@ public enum OrePrefixes {
         return mOreProcessing.add(aRegistrator);
     }
 
+    /**
+     * @return The registrators of this prefix, in the order {@link #processOre} runs them
+     */
+    public List<IOreRecipeRegistrator> getOreProcessing() {
+        return Collections.unmodifiableList(mOreProcessing);
+    }
+
     public void processOre(Materials aMaterial, String aOreDictName, String aModName, ItemStack aStack) {
+        processOre(aMaterial, aOreDictName, aModName, aStack, tRegistrator -> true);
+    }
+
+    /**
+     * Like {@link #processOre(Materials, String, String, ItemStack)}, but only runs the matching registrators.
+     */
+    public void processOre(Materials aMaterial, String aOreDictName, String aModName, ItemStack aStack,
+        Predicate<IOreRecipeRegistrator> aFilter) {
 
         if (aMaterial == null) {
             return;
@@ -1272,6 +1289,7 @@ public enum OrePrefixes {
         }
 
         for (IOreRecipeRegistrator tRegistrator : mOreProcessing) {
+            if (!aFilter.test(tRegistrator)) continue;
             if (D2) GTLog.ore.println(
                 "Processing '" + aOreDictName
                     + "' with the Prefix '"
@@ -1,10 +1,13 @@
 package gregtech.api.factory.standard;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,6 +19,11 @@ import gregtech.GTMod;
 import gregtech.api.factory.IFactoryElement;
 import gregtech.api.factory.IFactoryGrid;
 import gregtech.api.factory.IFactoryNetwork;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 /**
  * This handles all network topology updates, and should be compatible with most pipe systems.
@@ -26,91 +34,234 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
 
     public static final Logger LOGGER = LogManager.getLogger("Standard Factory Network");
 
+    /**
+     * Every grid, so that they can be flushed at the end of the tick.
+     */
+    private static final Set<StandardFactoryGrid<?, ?, ?>> GRIDS = Collections
+        .newSetFromMap(new WeakHashMap<>());
+
     public final HashSet<TNetwork> networks = new HashSet<>();
     public final HashSet<TElement> vertices = new HashSet<>();
     public final SetMultimap<TElement, TElement> edges = MultimapBuilder.hashKeys()
         .hashSetValues()
         .build();
 
-    protected StandardFactoryGrid() {
+    /**
+     * Elements queued by {@link #queueElement}, in order.
+     */
+    private final Set<TElement> pendingElements = new ReferenceLinkedOpenHashSet<>();
+    /**
+     * Networks which lost an element with several neighbours since the last flush, and so may have to be split.
+     */
+    private final Set<TNetwork> dirtyNetworks = new ReferenceLinkedOpenHashSet<>();
 
+    protected StandardFactoryGrid() {
+        GRIDS.add(this);
     }
 
+    /**
+     * Adds the element right away. Prefer {@link #queueElement} when many elements may join in the same tick, such as
+     * on chunk load.
+     */
     @Override
     public void addElement(TElement element) {
+        queueElement(element);
+        flush();
+    }
+
+    /**
+     * Queues the element to be added on the next {@link #flush()}, which happens at the end of the server tick at the
+     * latest. All the elements queued in the same tick are connected in one pass, so loading a network of n elements
+     * costs about O(n) instead of a walk per element.
+     * <p>
+     * Like {@link #addElement}, this acts like a hard reset if the element is already part of the grid: it's detached
+     * from its network immediately and reconnected on flush.
+     */
+    public void queueElement(TElement element) {
         removeElement(element);
 
-        vertices.add(element);
-        updateNeighbours(element);
+        pendingElements.add(element);
+    }
 
-        HashSet<TElement> discovered = new HashSet<>();
-        HashSet<TNetwork> networks = new HashSet<>();
+    /**
+     * Connects the queued elements and splits the networks which lost elements since the last flush.
+     */
+    public void flush() {
+        if (pendingElements.isEmpty() && dirtyNetworks.isEmpty()) return;
 
         long pre = System.nanoTime();
+        int added = pendingElements.size();
+
+        connectPendingElements();
+        int split = splitDirtyNetworks();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                "Flushed " + added
+                    + " elements in "
+                    + (System.nanoTime() - pre) / 1e3
+                    + " us (added "
+                    + split
+                    + " new networks from splits)");
+        }
+    }
+
+    /**
+     * Flushes every grid. Called at the end of each server tick.
+     */
+    public static void flushAll() {
+        for (StandardFactoryGrid<?, ?, ?> grid : GRIDS) {
+            grid.flush();
+        }
+    }
 
-        walkAdjacency(element, discovered, networks, false);
+    private void connectPendingElements() {
+        if (pendingElements.isEmpty()) return;
 
-        long post = System.nanoTime();
+        List<TElement> pending = new ArrayList<>(pendingElements);
+        pendingElements.clear();
 
-        LOGGER.info("Walked adjacent elements in " + (post - pre) / 1e3 + " us");
+        // register one by one, so that updating neighbours never recurses deeper than the direct neighbours
+        for (TElement element : pending) {
+            vertices.add(element);
+            updateNeighbours(element);
+        }
+
+        // union-find over the new elements and the networks they touch; networks are nodes just like elements
+        UnionFind sets = new UnionFind();
 
-        if (networks.size() == 0) {
-            // there are no neighbours, or the neighbours didn't have a network somehow (which is an illegal state!
-            // boo!)
-            TNetwork network = createNetwork();
-            this.networks.add(network);
+        for (TElement element : pending) {
+            sets.add(element);
 
-            for (TElement e : discovered) {
-                if (e.getNetwork() != network) {
-                    e.setNetwork(network);
-                    network.addElement(e);
+            for (TElement neighbour : edges.get(element)) {
+                if (neighbour.getNetwork() != null) {
+                    sets.union(element, neighbour.getNetwork());
+                } else if (vertices.contains(neighbour)) {
+                    sets.union(element, neighbour);
                 }
             }
-        } else if (networks.size() == 1) {
-            // there was one network adjacent, so we can just add all discovered elements to it if they aren't already
-            TNetwork network = networks.iterator()
-                .next();
-
-            for (TElement e : discovered) {
-                if (e.getNetwork() != network) {
-                    e.setNetwork(network);
-                    network.addElement(e);
+        }
+
+        Map<Object, List<TElement>> elementsByRoot = new Reference2ObjectLinkedOpenHashMap<>();
+        Map<Object, Set<TNetwork>> networksByRoot = new Reference2ObjectOpenHashMap<>();
+
+        for (TElement element : pending) {
+            Object root = sets.find(element);
+
+            elementsByRoot.computeIfAbsent(root, x -> new ArrayList<>())
+                .add(element);
+
+            for (TElement neighbour : edges.get(element)) {
+                TNetwork network = neighbour.getNetwork();
+
+                if (network != null) {
+                    networksByRoot.computeIfAbsent(root, x -> new ReferenceLinkedOpenHashSet<>())
+                        .add(network);
                 }
             }
-        } else {
-            // there were several adjacent networks; subsume all smaller networks into the biggest one
-            Iterator<TNetwork> iter = networks.iterator();
+        }
+
+        for (Map.Entry<Object, List<TElement>> entry : elementsByRoot.entrySet()) {
+            Set<TNetwork> adjacent = networksByRoot.get(entry.getKey());
 
-            TNetwork biggestNetwork = iter.next();
+            TNetwork network;
 
-            while (iter.hasNext()) {
-                TNetwork network = iter.next();
+            if (adjacent == null || adjacent.isEmpty()) {
+                network = createNetwork();
+                this.networks.add(network);
+            } else {
+                // subsume all smaller networks into the biggest one
+                network = null;
 
-                if (network.getElements()
-                    .size()
-                    > biggestNetwork.getElements()
-                        .size())
-                    biggestNetwork = network;
+                for (TNetwork candidate : adjacent) {
+                    if (network == null || candidate.getElements()
+                        .size()
+                        > network.getElements()
+                            .size()) {
+                        network = candidate;
+                    }
+                }
+
+                for (TNetwork other : adjacent) {
+                    if (other != network) subsume(network, other);
+                }
+            }
+
+            for (TElement element : entry.getValue()) {
+                element.setNetwork(network);
+                network.addElement(element);
             }
+        }
+    }
+
+    /**
+     * Only the networks which lost elements are walked, once per flush no matter how many elements they lost.
+     *
+     * @return The number of networks created by splits
+     */
+    private int splitDirtyNetworks() {
+        if (dirtyNetworks.isEmpty()) return 0;
 
-            pre = System.nanoTime();
+        List<TNetwork> dirty = new ArrayList<>(dirtyNetworks);
+        dirtyNetworks.clear();
 
-            for (TNetwork network : networks) {
-                if (network != biggestNetwork) {
-                    subsume(biggestNetwork, network);
+        int created = 0;
+
+        for (TNetwork network : dirty) {
+            if (!networks.contains(network)) continue;
+
+            List<List<TElement>> clumps = new ArrayList<>();
+            Set<TElement> discovered = new ReferenceOpenHashSet<>();
+            ArrayDeque<TElement> queue = new ArrayDeque<>();
+
+            for (TElement start : network.getElements()) {
+                if (!discovered.add(start)) continue;
+
+                List<TElement> clump = new ArrayList<>();
+                queue.add(start);
+
+                while (!queue.isEmpty()) {
+                    TElement current = queue.poll();
+                    clump.add(current);
+
+                    for (TElement neighbour : edges.get(current)) {
+                        if (neighbour.getNetwork() == network && discovered.add(neighbour)) {
+                            queue.add(neighbour);
+                        }
+                    }
                 }
+
+                clumps.add(clump);
             }
 
-            post = System.nanoTime();
-            LOGGER.info("Subsumed " + (networks.size() - 1) + " networks in " + (post - pre) / 1e3 + " us");
+            // if there's only one clump then the network hasn't been split
+            if (clumps.size() <= 1) continue;
+
+            List<TElement> biggestClump = null;
+
+            for (List<TElement> clump : clumps) {
+                if (biggestClump == null || clump.size() > biggestClump.size()) biggestClump = clump;
+            }
+
+            for (List<TElement> clump : clumps) {
+                if (clump == biggestClump) continue;
+
+                for (TElement e : clump) {
+                    network.removeElement(e);
+                }
+
+                TNetwork newNetwork = createNetwork();
+                this.networks.add(newNetwork);
+                created++;
 
-            for (TElement e : discovered) {
-                if (e.getNetwork() == null) {
-                    e.setNetwork(biggestNetwork);
-                    biggestNetwork.addElement(e);
+                for (TElement e : clump) {
+                    e.setNetwork(newNetwork);
+                    newNetwork.addElement(e);
                 }
             }
         }
+
+        return created;
     }
 
     @Override
@@ -122,8 +273,14 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
 
     protected abstract TNetwork createNetwork();
 
+    /**
+     * Detaches the element from its network right away. Checking whether the network has been split is deferred to
+     * the next {@link #flush()}, so that removing many elements in the same tick (such as on chunk unload) walks each
+     * network once instead of once per element.
+     */
     @Override
     public void removeElement(TElement element) {
+        if (removePending(element)) return;
         if (!vertices.contains(element)) return;
 
         vertices.remove(element);
@@ -139,75 +296,22 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
             .isEmpty()) {
             network.onNetworkRemoved();
             networks.remove(network);
+            dirtyNetworks.remove(network);
             return;
         }
 
         for (TElement neighbour : neighbours) {
-            updateNeighbours(neighbour);
-        }
-
-        // if there's only one neighbour, then this element is at the end of a chain and we can return early since we
-        // definitely didn't split a network
-        if (neighbours.size() <= 1) return;
-
-        HashSet<HashSet<TElement>> neighbouringClumps = new HashSet<>();
-
-        // the list of all discovered elements; if one is in here, it means we've visited it already and can skip
-        // iterating its neighbours
-        HashSet<TElement> discovered = new HashSet<>();
-
-        long pre = System.nanoTime();
-
-        for (TElement neighbour : neighbours) {
-            if (discovered.contains(neighbour)) continue;
-
-            // find all elements connected to this neighbour
-            HashSet<TElement> clump = new HashSet<>();
-            walkAdjacency(neighbour, clump, null, true);
-
-            neighbouringClumps.add(clump);
-            discovered.addAll(clump);
-        }
-
-        // if there's only one clump of neighbours then the network hasn't been split
-        if (neighbouringClumps.size() <= 1) {
-            return;
+            if (vertices.contains(neighbour)) updateNeighbours(neighbour);
         }
 
-        HashSet<TElement> biggestClump = null;
-
-        // find the biggest clump of neighbours; we'll split the other clumps from it
-        for (HashSet<TElement> nn : neighbouringClumps) {
-            if (biggestClump == null || nn.size() > biggestClump.size()) biggestClump = nn;
-        }
-
-        for (HashSet<TElement> nn : neighbouringClumps) {
-            if (nn != biggestClump) {
-                for (TElement e : nn) {
-                    network.removeElement(e);
-                }
-
-                TNetwork newNetwork = createNetwork();
-
-                for (TElement e : nn) {
-                    e.setNetwork(newNetwork);
-                    newNetwork.addElement(e);
-                }
-            }
-        }
-
-        long post = System.nanoTime();
-
-        // temporary logging so that I can see what the performance is like
-        LOGGER.info(
-            "Split network in " + (post - pre) / 1e3
-                + " us (added "
-                + (neighbouringClumps.size() - 1)
-                + " new networks)");
+        // if there's only one neighbour, then this element is at the end of a chain and we definitely didn't split a
+        // network
+        if (neighbours.size() > 1) dirtyNetworks.add(network);
     }
 
     @Override
     public void removeElementQuietly(TElement element) {
+        if (removePending(element)) return;
         if (!vertices.contains(element)) return;
 
         element.getNetwork()
@@ -220,6 +324,25 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
         }
     }
 
+    /**
+     * Drops the element from the queue, along with the one-way edges registered neighbours got to it while it waited.
+     *
+     * @return Whether the element was queued
+     */
+    private boolean removePending(TElement element) {
+        if (!pendingElements.remove(element)) return false;
+
+        HashSet<TElement> neighbours = new HashSet<>();
+
+        element.getNeighbours(neighbours);
+
+        for (TElement neighbour : neighbours) {
+            edges.remove(neighbour, element);
+        }
+
+        return true;
+    }
+
     @Override
     public void subsume(TNetwork dest, TNetwork source) {
         source.onNetworkSubsumedPre(dest);
@@ -233,31 +356,7 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
         source.onNetworkSubsumedPost(dest);
         source.onNetworkRemoved();
         this.networks.remove(source);
-    }
-
-    private void walkAdjacency(TElement start, HashSet<TElement> discovered, HashSet<TNetwork> networks,
-        boolean recurseIntoNetworked) {
-        LinkedList<TElement> queue = new LinkedList<>();
-
-        queue.add(start);
-
-        while (queue.size() > 0) {
-            TElement current = queue.removeFirst();
-
-            discovered.add(current);
-
-            if (networks != null) networks.add(current.getNetwork());
-
-            if (recurseIntoNetworked ? true : current.getNetwork() == null) {
-                for (TElement neighbour : edges.get(current)) {
-                    if (!discovered.contains(neighbour)) {
-                        queue.add(neighbour);
-                    }
-                }
-            }
-        }
-
-        if (networks != null) networks.remove(null);
+        if (dirtyNetworks.remove(source)) dirtyNetworks.add(dest);
     }
 
     public void updateNeighbours(TElement element) {
@@ -277,9 +376,11 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
 
         for (TElement oldNeighbour : oldNeighbours) {
             if (!neighbours.contains(oldNeighbour)) {
-                updateNeighbours(oldNeighbour, updated);
+                boolean registered = vertices.contains(oldNeighbour);
 
-                if (edges.containsEntry(oldNeighbour, element)) {
+                if (registered) updateNeighbours(oldNeighbour, updated);
+
+                if (registered && edges.containsEntry(oldNeighbour, element)) {
                     GTMod.GT_FML_LOGGER.error(
                         "A factory element isn't following the graph adjacency contract. Edge B -> A was kept when edge A -> B was removed. A = "
                             + element
@@ -293,7 +394,9 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
         }
 
         for (TElement currentNeighbour : neighbours) {
-            if (!oldNeighbours.contains(currentNeighbour)) {
+            // neighbours which haven't registered yet only get a one-way edge for now; they'll get theirs, and both
+            // get notified, once they register
+            if (!oldNeighbours.contains(currentNeighbour) && vertices.contains(currentNeighbour)) {
                 updateNeighbours(currentNeighbour, updated);
 
                 if (!edges.containsEntry(currentNeighbour, element)) {
@@ -309,4 +412,54 @@ public abstract class StandardFactoryGrid<TSelf extends StandardFactoryGrid<TSel
             }
         }
     }
+
+    /**
+     * Disjoint sets of elements and networks, with path halving and union by size.
+     */
+    private static final class UnionFind {
+
+        private final Reference2ObjectOpenHashMap<Object, Object> parents = new Reference2ObjectOpenHashMap<>();
+        private final Reference2IntOpenHashMap<Object> sizes = new Reference2IntOpenHashMap<>();
+
+        public void add(Object node) {
+            if (!parents.containsKey(node)) {
+                parents.put(node, node);
+                sizes.put(node, 1);
+            }
+        }
+
+        public Object find(Object node) {
+            add(node);
+
+            Object parent = parents.get(node);
+
+            while (parent != node) {
+                Object grandparent = parents.get(parent);
+                parents.put(node, grandparent);
+                node = grandparent;
+                parent = parents.get(node);
+            }
+
+            return node;
+        }
+
+        public void union(Object a, Object b) {
+            Object rootA = find(a);
+            Object rootB = find(b);
+
+            if (rootA == rootB) return;
+
+            int sizeA = sizes.getInt(rootA);
+            int sizeB = sizes.getInt(rootB);
+
+            if (sizeA < sizeB) {
+                Object temp = rootA;
+                rootA = rootB;
+                rootB = temp;
+            }
+
+            parents.put(rootB, rootA);
+            sizes.put(rootA, sizeA + sizeB);
+        }
+    }
 }
@@ -122,7 +122,7 @@ public class TestFactoryHatch extends MTEBaseFactoryHatch implements TestFactory
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
         super.onFirstTick(aBaseMetaTileEntity);
 
-        TestFactoryGrid.INSTANCE.addElement(this);
+        TestFactoryGrid.INSTANCE.queueElement(this);
     }
 
     @Override
@@ -119,7 +119,7 @@ public class TestFactoryPipe extends MTEBaseFactoryPipe implements TestFactoryEl
     public void onFirstTick(IGregTechTileEntity aBaseMetaTileEntity) {
         super.onFirstTick(aBaseMetaTileEntity);
 
-        TestFactoryGrid.INSTANCE.addElement(this);
+        TestFactoryGrid.INSTANCE.queueElement(this);
     }
 
     @Override
@@ -4,6 +4,7 @@ import net.minecraft.item.ItemStack;
 
 import gregtech.api.enums.Materials;
 import gregtech.api.enums.OrePrefixes;
+import gregtech.api.util.GTRecipeBuilder;
 
 public interface IOreRecipeRegistrator {
 
@@ -16,4 +17,14 @@ public interface IOreRecipeRegistrator {
      * @param aStack    always != null
      */
     void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName, ItemStack aStack);
+
+    /**
+     * Whether {@link #registerOre} may run on a worker thread when the ore dictionary is processed in parallel. It
+     * then runs after the other registrators of all events, concurrently with the registrators of other materials, and
+     * may only read the materials and the unification entries and add recipes through {@link GTRecipeBuilder#addTo}.
+     * Those get added on the main thread later, at the position the registrator has among the others of the prefix.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
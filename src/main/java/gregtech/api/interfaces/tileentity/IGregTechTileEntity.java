@@ -17,6 +17,7 @@ import gregtech.api.interfaces.IDescribable;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.modularui.IAddInventorySlots;
 import gregtech.api.interfaces.modularui.IGetGUITextureSet;
+import gregtech.api.util.GTTickScheduler;
 import gregtech.api.util.shutdown.ShutDownReason;
 
 /**
@@ -163,4 +164,30 @@ public interface IGregTechTileEntity extends ITexturedTileEntity, ICoverable, IF
     }
 
     default void startTimeStatistics() {}
+
+    /**
+     * Skips the updates of this tile until one of the given {@link GTTickScheduler} wake conditions happens or the
+     * given number of ticks has passed. Client data requested through {@link #issueClientUpdate()} is still sent while
+     * the tile sleeps. Tiles which can't sleep ignore it.
+     */
+    default void sleep(int wakeConditions, int maxTicks) {}
+
+    /**
+     * Makes a sleeping tile update again from the next tick on.
+     */
+    default void wakeUp() {}
+
+    default boolean isDormant() {
+        return false;
+    }
+
+    /**
+     * Counter which changes whenever the item or fluid contents of this tile may have changed, so that callers can skip
+     * work while it stays the same. Only compare values of the same tile, the number itself has no meaning.
+     *
+     * @return The counter, or -1 if this tile does not track its contents
+     */
+    default long getContentModificationCount() {
+        return -1;
+    }
 }
@@ -0,0 +1,221 @@
+package gregtech.api.logic;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBackend;
+import gregtech.api.util.GTLog;
+import gregtech.api.util.GTRecipe;
+
+/**
+ * Recipe search of {@link ProcessingLogic} running on a worker thread. The search works on copies of the inputs taken
+ * when it was started, the machine picks up the found recipes on a later check if it still holds the same kinds of
+ * items and fluids, and only then consumes inputs on the server thread. Stack sizes are left out of the comparison, a
+ * bus that is topped up every tick would otherwise never see a result. The found recipes are checked against the live
+ * inputs again before they are used.
+ * <p>
+ * Logics overriding {@link ProcessingLogic#findRecipeMatches} and backends that find or build recipes in their own
+ * way may depend on state which is not safe to read off the server thread, so they aren't searched here.
+ */
+public final class AsyncRecipeSearch {
+
+    private static final ExecutorService WORKERS = Executors
+        .newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), new ThreadFactory());
+
+    private static final ClassValue<Boolean> SUPPORTED_LOGICS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overrides(type, ProcessingLogic.class, "findRecipeMatches", RecipeMap.class);
+        }
+    };
+
+    private static final ClassValue<Boolean> SUPPORTED_BACKENDS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overrides(type, RecipeMapBackend.class, "doesOverwriteFindRecipe")
+                && !overrides(
+                    type,
+                    RecipeMapBackend.class,
+                    "findFallback",
+                    ItemStack[].class,
+                    FluidStack[].class,
+                    ItemStack.class)
+                && !overrides(
+                    type,
+                    RecipeMapBackend.class,
+                    "modifyFoundRecipe",
+                    GTRecipe.class,
+                    ItemStack[].class,
+                    FluidStack[].class,
+                    ItemStack.class);
+        }
+    };
+
+    private final RecipeMap<?> recipeMap;
+    private final ItemStack[] items;
+    private final FluidStack[] fluids;
+    @Nullable
+    private final ItemStack specialSlot;
+    private final Future<List<GTRecipe>> result;
+    private boolean reported;
+
+    private AsyncRecipeSearch(RecipeMap<?> recipeMap, ItemStack[] items, FluidStack[] fluids,
+        @Nullable ItemStack specialSlot, @Nullable GTRecipe cachedRecipe) {
+        this.recipeMap = recipeMap;
+        this.items = copy(items);
+        this.fluids = copy(fluids);
+        this.specialSlot = specialSlot == null ? null : specialSlot.copy();
+        this.result = WORKERS.submit(
+            () -> recipeMap.findRecipeQuery()
+                .items(this.items)
+                .fluids(this.fluids)
+                .specialSlot(this.specialSlot)
+                .cachedRecipe(cachedRecipe)
+                .findAll()
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @return Whether recipes of this logic with this recipemap can be searched off the server thread
+     */
+    public static boolean isSupported(@Nonnull ProcessingLogic logic, @Nonnull RecipeMap<?> recipeMap) {
+        return SUPPORTED_LOGICS.get(logic.getClass()) && SUPPORTED_BACKENDS.get(
+            recipeMap.getBackend()
+                .getClass());
+    }
+
+    /**
+     * Starts searching recipes for copies of the given inputs.
+     */
+    @Nonnull
+    public static AsyncRecipeSearch start(@Nonnull RecipeMap<?> recipeMap, @Nonnull ItemStack[] items,
+        @Nonnull FluidStack[] fluids, @Nullable ItemStack specialSlot, @Nullable GTRecipe cachedRecipe) {
+        return new AsyncRecipeSearch(recipeMap, items, fluids, specialSlot, cachedRecipe);
+    }
+
+    /**
+     * Hashes the kinds of inputs the same way for the live stacks and the copies, to find the search started for them.
+     * Stack sizes and fluid amounts are left out.
+     */
+    public static long fingerprint(@Nonnull ItemStack[] items, @Nonnull FluidStack[] fluids,
+        @Nullable ItemStack specialSlot) {
+        long hash = 1;
+        for (ItemStack item : items) hash = hash * 31 + hash(item);
+        for (FluidStack fluid : fluids) {
+            hash = hash * 31 + (fluid == null ? 0 : fluid.getFluidID() + 1);
+        }
+        return hash * 31 + hash(specialSlot);
+    }
+
+    private static long hash(@Nullable ItemStack stack) {
+        if (stack == null) return 0;
+        return Item.getIdFromItem(stack.getItem()) * 31L + stack.getItemDamage();
+    }
+
+    /**
+     * @return Whether the search was started for this recipemap and the same kinds of inputs, in the same slots
+     */
+    public boolean matches(@Nonnull RecipeMap<?> recipeMap, @Nonnull ItemStack[] items, @Nonnull FluidStack[] fluids,
+        @Nullable ItemStack specialSlot) {
+        if (this.recipeMap != recipeMap || this.items.length != items.length || this.fluids.length != fluids.length) {
+            return false;
+        }
+        for (int i = 0; i < items.length; i++) {
+            if (!isSameKind(this.items[i], items[i])) return false;
+        }
+        for (int i = 0; i < fluids.length; i++) {
+            FluidStack fluid = this.fluids[i];
+            if (fluid == null ? fluids[i] != null : !fluid.isFluidEqual(fluids[i])) return false;
+        }
+        return isSameKind(this.specialSlot, specialSlot);
+    }
+
+    private static boolean isSameKind(@Nullable ItemStack a, @Nullable ItemStack b) {
+        if (a == null || b == null) return a == b;
+        return a.getItem() == b.getItem() && a.getItemDamage() == b.getItemDamage()
+            && ItemStack.areItemStackTagsEqual(a, b);
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * @return Whether the search is done and this is the first call to notice it
+     */
+    public boolean reportFinished() {
+        if (reported || !result.isDone()) return false;
+        reported = true;
+        return true;
+    }
+
+    /**
+     * @return The matched recipes in search order, or null if the search failed
+     */
+    @Nullable
+    public List<GTRecipe> getRecipes() {
+        try {
+            return result.get();
+        } catch (Exception e) {
+            GTLog.err.println("Asynchronous recipe search failed for " + recipeMap.unlocalizedName);
+            e.printStackTrace(GTLog.err);
+            return null;
+        }
+    }
+
+    public void cancel() {
+        result.cancel(false);
+    }
+
+    private static ItemStack[] copy(ItemStack[] stacks) {
+        ItemStack[] copies = new ItemStack[stacks.length];
+        for (int i = 0; i < stacks.length; i++) {
+            if (stacks[i] != null) copies[i] = stacks[i].copy();
+        }
+        return copies;
+    }
+
+    private static FluidStack[] copy(FluidStack[] stacks) {
+        FluidStack[] copies = new FluidStack[stacks.length];
+        for (int i = 0; i < stacks.length; i++) {
+            if (stacks[i] != null) copies[i] = stacks[i].copy();
+        }
+        return copies;
+    }
+
+    private static boolean overrides(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != null && c != base; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {}
+        }
+        return false;
+    }
+
+    private static final class ThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@Nonnull Runnable runnable) {
+            Thread thread = new Thread(runnable, "GT recipe search " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import gregtech.api.util.GTRecipe;
 import gregtech.api.util.OverclockCalculator;
 import gregtech.api.util.ParallelHelper;
 import gregtech.common.tileentities.machines.IDualInputInventory;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 
 /**
  * Logic class to calculate result of recipe check from inputs, based on recipemap.
@@ -53,6 +54,7 @@ public class ProcessingLogic {
     protected double overClockTimeReduction = 2.0;
     protected double overClockPowerIncrease = 4.0;
     protected boolean amperageOC = true;
+    protected boolean asyncRecipeSearch;
 
     // Calculated results
     protected ItemStack[] outputItems;
@@ -65,6 +67,13 @@ public class ProcessingLogic {
     protected RecipeMap<?> lastRecipeMap;
     protected GTRecipe lastRecipe;
     protected Map<IDualInputInventory, Set<GTRecipe>> craftingPatternRecipeCache = new HashMap<>();
+    private static final int MAX_PENDING_SEARCHES = 16;
+    /**
+     * Searches started for the inputs of recent checks by {@link AsyncRecipeSearch#fingerprint}, a machine with input
+     * separation starts one per bus.
+     */
+    protected final Long2ObjectLinkedOpenHashMap<AsyncRecipeSearch> asyncSearches = new Long2ObjectLinkedOpenHashMap<>(
+        MAX_PENDING_SEARCHES);
 
     public ProcessingLogic() {}
 
@@ -221,6 +230,18 @@ public class ProcessingLogic {
         return this.setOverclock(4.0, 4.0);
     }
 
+    /**
+     * Sets whether recipes should be searched on a worker thread. The check starting a search returns
+     * {@link CheckRecipeResultRegistry#RECIPE_SEARCH_PENDING}, a later check with the same kinds of inputs uses the
+     * found recipes that still fit the inputs. Logics and recipemaps which don't support it are still searched right
+     * away.
+     */
+    public ProcessingLogic setAsyncRecipeSearch(boolean asyncRecipeSearch) {
+        this.asyncRecipeSearch = asyncRecipeSearch;
+        if (!asyncRecipeSearch) clearPendingSearches();
+        return this;
+    }
+
     /**
      * Sets whether the multi should use amperage to OC or not.
      */
@@ -350,7 +371,18 @@ public class ProcessingLogic {
                 recipeLockableMachine.getSingleRecipeCheck()
                     .getRecipe()).checkRecipeResult;
         }
-        Stream<GTRecipe> matchedRecipes = findRecipeMatches(recipeMap);
+        Stream<GTRecipe> matchedRecipes;
+        if (asyncRecipeSearch && recipeMap != null && AsyncRecipeSearch.isSupported(this, recipeMap)) {
+            List<GTRecipe> foundRecipes = takeAsyncSearchResult(recipeMap);
+            if (foundRecipes == null) {
+                return CheckRecipeResultRegistry.RECIPE_SEARCH_PENDING;
+            }
+            // stack sizes may have changed since the search started
+            matchedRecipes = foundRecipes.stream()
+                .filter(recipe -> recipe.maxParallelCalculatedByInputs(1, inputFluids, inputItems) == 1);
+        } else {
+            matchedRecipes = findRecipeMatches(recipeMap);
+        }
         Iterable<GTRecipe> recipeIterable = matchedRecipes::iterator;
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.NO_RECIPE;
         for (GTRecipe matchedRecipe : recipeIterable) {
@@ -367,6 +399,54 @@ public class ProcessingLogic {
         return checkRecipeResult;
     }
 
+    /**
+     * Returns the recipes found by the search started for the current inputs, or starts one if there isn't any.
+     *
+     * @return The found recipes, or null if the search is still running
+     */
+    @Nullable
+    private List<GTRecipe> takeAsyncSearchResult(@Nonnull RecipeMap<?> recipeMap) {
+        long fingerprint = AsyncRecipeSearch.fingerprint(inputItems, inputFluids, specialSlotItem);
+        AsyncRecipeSearch search = asyncSearches.get(fingerprint);
+        if (search != null && search.matches(recipeMap, inputItems, inputFluids, specialSlotItem)) {
+            if (!search.isDone()) return null;
+            asyncSearches.remove(fingerprint);
+            List<GTRecipe> recipes = search.getRecipes();
+            return recipes != null ? recipes : findRecipeMatches(recipeMap).collect(Collectors.toList());
+        }
+        if (search != null) {
+            search.cancel();
+        } else if (asyncSearches.size() >= MAX_PENDING_SEARCHES) {
+            asyncSearches.removeFirst()
+                .cancel();
+        }
+        asyncSearches.put(
+            fingerprint,
+            AsyncRecipeSearch.start(recipeMap, inputItems, inputFluids, specialSlotItem, lastRecipe));
+        return null;
+    }
+
+    /**
+     * @return Whether a recipe search has finished since the last call, so the machine should check again
+     */
+    public boolean hasNewlyFinishedRecipeSearch() {
+        boolean finished = false;
+        for (AsyncRecipeSearch search : asyncSearches.values()) {
+            finished |= search.reportFinished();
+        }
+        return finished;
+    }
+
+    /**
+     * Drops all running and finished recipe searches, e.g. when the machine was taken apart.
+     */
+    public void clearPendingSearches() {
+        for (AsyncRecipeSearch search : asyncSearches.values()) {
+            search.cancel();
+        }
+        asyncSearches.clear();
+    }
+
     /**
      * Checks if supplied recipe is valid for process. This involves voltage check, output full check. If successful,
      * additionally performs input consumption, output calculation with parallel, and overclock calculation.
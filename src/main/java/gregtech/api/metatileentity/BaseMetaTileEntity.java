@@ -77,6 +77,7 @@ import gregtech.api.objects.blockupdate.BlockUpdateHandler;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTTickScheduler;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReason;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
@@ -124,6 +125,12 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     private String mOwnerName = "";
     private UUID mOwnerUuid = GTUtility.defaultUuid;
     private int cableUpdateDelay = 30;
+    private long mContentModificationCount = 0;
+    /** Set by {@link #sleep}, not saved, so a reloaded tile always starts awake. */
+    private boolean mDormant = false;
+    private int mWakeConditions = 0;
+    private long mWakeTime = 0;
+    private byte oDormantRedstone = 0;
 
     public BaseMetaTileEntity() {}
 
@@ -292,6 +299,17 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
             mMetaTileEntity.setBaseMetaTileEntity(this);
         }
 
+        if (mDormant) {
+            if (worldObj.getTotalWorldTime() < mWakeTime) {
+                mTickTimer++;
+                // players loading the chunk only ask for a client update, the data itself goes out from here
+                if (mSendClientData && mTickTimer % 10 == 0) sendClientData();
+                GTTickScheduler.countDormant();
+                return;
+            }
+            wakeUp();
+        }
+
         mRunningThroughTick = true;
         long tTime;
         if (hasTimeStatisticsStarted) {
@@ -301,6 +319,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         }
         final boolean aSideServer = isServerSide();
         final boolean aSideClient = isClientSide();
+        if (aSideServer) GTTickScheduler.countAwake();
 
         try {
             if (hasValidMetaTileEntity()) {
@@ -650,6 +669,42 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         mWorkUpdate = mInventoryChanged = mRunningThroughTick = false;
     }
 
+    @Override
+    public void sleep(int wakeConditions, int maxTicks) {
+        if (isClientSide() || mTickTimer <= 20 || maxTicks <= 0 || hasAnyCover()) return;
+        mDormant = true;
+        mWakeConditions = wakeConditions;
+        mWakeTime = worldObj.getTotalWorldTime() + maxTicks;
+        if ((wakeConditions & GTTickScheduler.WAKE_ON_REDSTONE) != 0) oDormantRedstone = getStrongestRedstone();
+    }
+
+    @Override
+    public void wakeUp() {
+        mDormant = false;
+        mWakeConditions = 0;
+    }
+
+    @Override
+    public boolean isDormant() {
+        return mDormant;
+    }
+
+    private void wakeUpOn(int condition) {
+        if (mDormant && (mWakeConditions & condition) != 0) wakeUp();
+    }
+
+    /**
+     * Called by the block when an adjacent block or tile entity changed.
+     */
+    public void onNeighborChange() {
+        if (!mDormant) return;
+        if ((mWakeConditions & GTTickScheduler.WAKE_ON_NEIGHBOUR) != 0
+            || ((mWakeConditions & GTTickScheduler.WAKE_ON_REDSTONE) != 0
+                && getStrongestRedstone() != oDormantRedstone)) {
+            wakeUp();
+        }
+    }
+
     @Override
     public void getWailaBody(ItemStack itemStack, List<String> currentTip, IWailaDataAccessor accessor,
         IWailaConfigHandler config) {
@@ -891,6 +946,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public void setFrontFacing(ForgeDirection aFacing) {
         if (isValidFacing(aFacing)) {
+            wakeUp();
             mFacing = aFacing;
             mMetaTileEntity.onFacingChange();
 
@@ -921,7 +977,9 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
     @Override
     public void setInventorySlotContents(int aIndex, ItemStack aStack) {
+        wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
         mInventoryChanged = true;
+        mContentModificationCount++;
         if (canAccessData()) {
             markDirty();
             mMetaTileEntity.setInventorySlotContents(
@@ -1003,6 +1061,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
      */
     @Override
     public void onMachineBlockUpdate() {
+        wakeUpOn(GTTickScheduler.WAKE_ON_NEIGHBOUR);
         if (canAccessData()) mMetaTileEntity.onMachineBlockUpdate();
         cableUpdateDelay = 10;
     }
@@ -1037,6 +1096,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
     @Override
     public void enableWorking() {
+        wakeUp();
         if (!mWorks) mWorkUpdate = true;
         mWorks = true;
         setShutdownStatus(false);
@@ -1047,6 +1107,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
     @Override
     public void disableWorking() {
+        wakeUp();
         mWorks = false;
         if (hasValidMetaTileEntity()) {
             mMetaTileEntity.onDisableWorking();
@@ -1110,6 +1171,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public boolean increaseStoredEnergyUnits(long aEnergy, boolean aIgnoreTooMuchEnergy) {
         if (!canAccessData()) return false;
+        wakeUpOn(GTTickScheduler.WAKE_ON_ENERGY);
         if (getStoredEU() < getEUCapacity() || aIgnoreTooMuchEnergy) {
             setStoredEU(mMetaTileEntity.getEUVar() + aEnergy);
             return true;
@@ -1205,6 +1267,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public boolean increaseStoredSteam(long aEnergy, boolean aIgnoreTooMuchEnergy) {
         if (!canAccessData()) return false;
+        wakeUpOn(GTTickScheduler.WAKE_ON_ENERGY);
         if (mMetaTileEntity.getSteamVar() < getSteamCapacity() || aIgnoreTooMuchEnergy) {
             setStoredSteam(mMetaTileEntity.getSteamVar() + aEnergy);
             return true;
@@ -1443,6 +1506,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public boolean onRightclick(final EntityPlayer aPlayer, final ForgeDirection side, final float aX, final float aY,
         final float aZ) {
+        wakeUp();
         final ForgeDirection wrenchingSide = GTUtility.determineWrenchingSide(side, aX, aY, aZ);
         final ForgeDirection effectiveSide = !hasCoverAtSide(side) ? wrenchingSide : side;
         Cover effectiveSideCover = getCoverAtSide(effectiveSide);
@@ -1868,9 +1932,26 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         return false;
     }
 
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        mContentModificationCount++;
+        wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
+    }
+
+    /**
+     * {@link #markDirty()} for a changed energy or steam buffer, which doesn't count as a change of the contents.
+     */
+    void markEnergyDirty() {
+        super.markDirty();
+        wakeUpOn(GTTickScheduler.WAKE_ON_ENERGY);
+    }
+
     @Override
     public void markInventoryBeenModified() {
+        wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
         mInventoryChanged = true;
+        mContentModificationCount++;
     }
 
     @Override
@@ -1952,7 +2033,9 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public ItemStack decrStackSize(int aIndex, int aAmount) {
         if (canAccessData()) {
+            wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
             mInventoryChanged = true;
+            mContentModificationCount++;
             return mMetaTileEntity.decrStackSize(aIndex, aAmount);
         }
         return null;
@@ -1960,6 +2043,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
 
     @Override
     public long injectEnergyUnits(ForgeDirection side, long aVoltage, long aAmperage) {
+        wakeUpOn(GTTickScheduler.WAKE_ON_ENERGY);
         if (!canAccessData() || !mMetaTileEntity.isElectric()
             || !inputEnergyFrom(side)
             || aAmperage <= 0
@@ -2003,8 +2087,14 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         if (mTickTimer > 5 && canAccessData()
             && (mRunningThroughTick || !mInputDisabled)
             && (side == ForgeDirection.UNKNOWN || (mMetaTileEntity.isLiquidInput(side)
-                && getCoverAtSide(side).letsFluidIn(aFluid == null ? null : aFluid.getFluid()))))
-            return mMetaTileEntity.fill(side, aFluid, doFill);
+                && getCoverAtSide(side).letsFluidIn(aFluid == null ? null : aFluid.getFluid())))) {
+            int tFilled = mMetaTileEntity.fill(side, aFluid, doFill);
+            if (doFill && tFilled > 0) {
+                mContentModificationCount++;
+                wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
+            }
+            return tFilled;
+        }
         return 0;
     }
 
@@ -2016,8 +2106,14 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                 || (mMetaTileEntity.isLiquidOutput(side) && getCoverAtSide(side).letsFluidOut(
                     mMetaTileEntity.getFluid() == null ? null
                         : mMetaTileEntity.getFluid()
-                            .getFluid()))))
-            return mMetaTileEntity.drain(side, maxDrain, doDrain);
+                            .getFluid())))) {
+            FluidStack tDrained = mMetaTileEntity.drain(side, maxDrain, doDrain);
+            if (doDrain && tDrained != null) {
+                mContentModificationCount++;
+                wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
+            }
+            return tDrained;
+        }
         return null;
     }
 
@@ -2026,8 +2122,14 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         if (mTickTimer > 5 && canAccessData()
             && (mRunningThroughTick || !mOutputDisabled)
             && (side == ForgeDirection.UNKNOWN || (mMetaTileEntity.isLiquidOutput(side)
-                && getCoverAtSide(side).letsFluidOut(aFluid == null ? null : aFluid.getFluid()))))
-            return mMetaTileEntity.drain(side, aFluid, doDrain);
+                && getCoverAtSide(side).letsFluidOut(aFluid == null ? null : aFluid.getFluid())))) {
+            FluidStack tDrained = mMetaTileEntity.drain(side, aFluid, doDrain);
+            if (doDrain && tDrained != null) {
+                mContentModificationCount++;
+                wakeUpOn(GTTickScheduler.WAKE_ON_INVENTORY);
+            }
+            return tDrained;
+        }
         return null;
     }
 
@@ -2060,6 +2162,11 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         return new FluidTankInfo[] {};
     }
 
+    @Override
+    public long getContentModificationCount() {
+        return canAccessData() ? mContentModificationCount : -1;
+    }
+
     public double getOutputEnergyUnitsPerTick() {
         return oOutput;
     }
@@ -271,6 +271,10 @@ public abstract class CoverableTileEntity extends BaseTileEntity implements ICov
         }
     }
 
+    protected final boolean hasAnyCover() {
+        return validCoversMask != 0;
+    }
+
     // TODO: Re-implement using validCoversMask, if that makes sense.
     @Override
     public boolean hasCoverAtSide(ForgeDirection side) {
@@ -446,7 +446,7 @@ public abstract class MetaTileEntity extends CommonMetaTileEntity implements ICr
      */
     public void setEUVar(long aEnergy) {
         if (aEnergy != ((BaseMetaTileEntity) mBaseMetaTileEntity).mStoredEnergy) {
-            markDirty();
+            ((BaseMetaTileEntity) mBaseMetaTileEntity).markEnergyDirty();
             ((BaseMetaTileEntity) mBaseMetaTileEntity).mStoredEnergy = aEnergy;
         }
     }
@@ -463,7 +463,7 @@ public abstract class MetaTileEntity extends CommonMetaTileEntity implements ICr
      */
     public void setSteamVar(long aSteam) {
         if (((BaseMetaTileEntity) mBaseMetaTileEntity).mStoredSteam != aSteam) {
-            markDirty();
+            ((BaseMetaTileEntity) mBaseMetaTileEntity).markEnergyDirty();
             ((BaseMetaTileEntity) mBaseMetaTileEntity).mStoredSteam = aSteam;
         }
     }
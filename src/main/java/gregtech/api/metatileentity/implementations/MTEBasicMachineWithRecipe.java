@@ -38,6 +38,7 @@ import gregtech.api.recipe.RecipeMap;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.ExternalMaterials;
 import gregtech.api.util.GTModHandler;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.WorldSpawnedEventBuilder.ParticleEventBuilder;
 
@@ -615,7 +616,7 @@ public class MTEBasicMachineWithRecipe extends MTEBasicMachine {
                     // uv;
                     // assemblers
                     // luv-uev
-                    if (GTUtility.isStackValid(aStack)) for (int oreID : OreDictionary.getOreIDs(aStack)) {
+                    if (GTUtility.isStackValid(aStack)) for (int oreID : GTOreDictMembership.getOreIDs(aStack)) {
                         if (OreDictionary.getOreName(oreID)
                             .startsWith("circuit")) return true;
                     }
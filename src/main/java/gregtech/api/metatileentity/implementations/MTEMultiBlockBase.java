@@ -2,6 +2,7 @@ package gregtech.api.metatileentity.implementations;
 
 import static gregtech.api.enums.GTValues.V;
 import static gregtech.api.enums.GTValues.VN;
+import static gregtech.api.enums.GTValues.asyncRecipeSearch;
 import static gregtech.api.metatileentity.BaseTileEntity.TOOLTIP_DELAY;
 import static gregtech.api.recipe.check.SingleRecipeCheck.getDisplayString;
 import static gregtech.api.util.GTUtility.filterValidMTEs;
@@ -36,6 +37,7 @@ import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.EnumChatFormatting;
@@ -100,6 +102,7 @@ import gregtech.api.util.ExoticEnergyInputHelper;
 import gregtech.api.util.GTClientPreference;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTTickScheduler;
 import gregtech.api.util.GTUtil;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.GTWaila;
@@ -135,6 +138,34 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
     implements IControllerWithOptionalFeatures, IAddGregtechLogo, IAddUIWidgets, IBindPlayerInventoryUI {
 
     public static boolean disableMaintenance;
+    /**
+     * At most this many machines run their first structure check after loading in the same server tick, the others
+     * wait for a later tick. Keeps restarts with many multiblocks in loaded chunks from checking all of them at once.
+     */
+    private static final int STARTUP_CHECKS_PER_TICK = 16;
+    private static int startupCheckTick = -1, startupChecksThisTick;
+    /** Machines overriding {@link #checkRecipeForCustomHatches}, they don't search recipes off the server thread. */
+    private static final ClassValue<Boolean> CUSTOM_HATCH_CHECKS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overridesBase(type, "checkRecipeForCustomHatches", CheckRecipeResult.class);
+        }
+    };
+    /**
+     * Machines which don't override the tick methods, only those sleep while unformed, see
+     * {@link #sleepWhileUnformed}.
+     */
+    private static final ClassValue<Boolean> DEFAULT_TICKS = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overridesBase(type, "onPreTick", IGregTechTileEntity.class, long.class)
+                && !overridesBase(type, "onPostTick", IGregTechTileEntity.class, long.class);
+        }
+    };
+    /** An unformed machine checks whether it should wake up at least this often. */
+    private static final int UNFORMED_SLEEP_TICKS = 100;
     public boolean hasMaintenanceChecks = getDefaultHasMaintenanceChecks();
     public boolean mMachine = false, mWrench = false, mScrewdriver = false, mSoftHammer = false, mHardHammer = false,
         mSolderingTool = false, mCrowbar = false, mRunningOnLoad = false;
@@ -556,7 +587,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
                 if (mUpdate <= 0) mUpdate = 50;
                 mUpdated = false;
             }
-            if (--mUpdate == 0 || --mStartUpCheck == 0) {
+            if (--mUpdate == 0 || countDownStartUpCheck()) {
                 checkStructure(true, aBaseMetaTileEntity);
             }
 
@@ -583,6 +614,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
             aBaseMetaTileEntity.setActive(mMaxProgresstime > 0);
             boolean active = aBaseMetaTileEntity.isActive() && mPollution > 0;
             setMufflers(active);
+            sleepWhileUnformed(aBaseMetaTileEntity);
         } else {
             if (!aBaseMetaTileEntity.hasMufflerUpgrade()) {
                 doActivitySound(getActivitySoundLoop());
@@ -590,6 +622,47 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         }
     }
 
+    /**
+     * Puts an unformed machine without pending structure check to sleep until a block next to it or one of its machine
+     * blocks changes, or its inventory does. Its structure is only checked again after such an update anyway.
+     */
+    protected void sleepWhileUnformed(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (mMachine || mStartUpCheck >= 0 || mUpdate >= 0 || mUpdated || !DEFAULT_TICKS.get(getClass())) return;
+        aBaseMetaTileEntity.sleep(
+            GTTickScheduler.WAKE_ON_NEIGHBOUR | GTTickScheduler.WAKE_ON_INVENTORY,
+            UNFORMED_SLEEP_TICKS);
+    }
+
+    private static boolean overridesBase(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != MTEMultiBlockBase.class && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {}
+        }
+        return false;
+    }
+
+    /**
+     * Counts {@link #mStartUpCheck} down. The last step waits until the current server tick has a start-up check left,
+     * see {@link #STARTUP_CHECKS_PER_TICK}.
+     *
+     * @return Whether the start-up structure check is due now
+     */
+    protected final boolean countDownStartUpCheck() {
+        if (mStartUpCheck == 1) {
+            int tick = MinecraftServer.getServer()
+                .getTickCounter();
+            if (tick != startupCheckTick) {
+                startupCheckTick = tick;
+                startupChecksThisTick = 0;
+            }
+            if (startupChecksThisTick >= STARTUP_CHECKS_PER_TICK) return false;
+            startupChecksThisTick++;
+        }
+        return --mStartUpCheck == 0;
+    }
+
     @Override
     public void onTickFail(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         super.onTickFail(aBaseMetaTileEntity, aTick);
@@ -716,7 +789,8 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
             if (aBaseMetaTileEntity.isAllowedToWork()) {
 
                 if (shouldCheckRecipeThisTick(aTick) || aBaseMetaTileEntity.hasWorkJustBeenEnabled()
-                    || aBaseMetaTileEntity.hasInventoryBeenModified()) {
+                    || aBaseMetaTileEntity.hasInventoryBeenModified()
+                    || (processingLogic != null && processingLogic.hasNewlyFinishedRecipeSearch())) {
                     if (checkRecipe()) {
                         markDirty();
                     }
@@ -950,6 +1024,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         logic.setVoidProtection(protectsExcessItem(), protectsExcessFluid());
         logic.setBatchSize(isBatchModeEnabled() ? getMaxBatchSize() : 1);
         logic.setRecipeLocking(this, isRecipeLockingEnabled());
+        logic.setAsyncRecipeSearch(asyncRecipeSearch && supportsAsyncRecipeSearch());
         setProcessingLogicPower(logic);
     }
 
@@ -967,6 +1042,14 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         return true;
     }
 
+    /**
+     * @return If recipes may be searched off the server thread, see {@link ProcessingLogic#setAsyncRecipeSearch}.
+     *         Crafting input buffers and custom hatches change their inputs in ways the search can't follow.
+     */
+    protected boolean supportsAsyncRecipeSearch() {
+        return mDualInputHatches.isEmpty() && !CUSTOM_HATCH_CHECKS.get(getClass());
+    }
+
     /**
      * Iterates over hatches and tries to find recipe. Assume {@link #processingLogic} is already set up for use.
      * If return value is successful, inputs are consumed.
@@ -2284,6 +2367,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         super.onRemoval();
         // Deactivate mufflers
         setMufflers(false);
+        if (processingLogic != null) processingLogic.clearPendingSearches();
     }
 
     public List<MTEHatch> getExoticEnergyHatches() {
@@ -2412,6 +2496,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
     @Override
     public void setStructureUpdateTime(int time) {
         mUpdate = time;
+        if (getBaseMetaTileEntity() != null) getBaseMetaTileEntity().wakeUp();
     }
 
     @Override
@@ -21,6 +21,14 @@ public abstract class GTPacket {
      */
     public abstract void encode(ByteBuf buffer);
 
+    /**
+     * Encoded packets of this type larger than this many bytes are deflated before they are sent. Only worth it for
+     * packets carrying bulk data, by default nothing is compressed.
+     */
+    public int getCompressionThreshold() {
+        return Integer.MAX_VALUE;
+    }
+
     /**
      * Decode byte buffer into packet object.
      */
@@ -26,6 +26,11 @@ public class GTPacketMusicSystemData extends GTPacket {
         return GTPacketTypes.MUSIC_SYSTEM_DATA.id;
     }
 
+    @Override
+    public int getCompressionThreshold() {
+        return 512;
+    }
+
     @Override
     public void encode(ByteBuf aOut) {
         if (storedData == null) {
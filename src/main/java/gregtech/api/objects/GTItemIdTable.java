@@ -0,0 +1,163 @@
+package gregtech.api.objects;
+
+import java.util.concurrent.locks.StampedLock;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import gregtech.api.enums.GTValues;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/**
+ * Interns item + meta pairs to dense {@code int} ids, so that hot lookups can use {@code Int2*} maps instead of
+ * allocating a {@link GTItemStack} (and the {@link ItemStack} behind its hashCode) per query.
+ * <p>
+ * Items are keyed by identity rather than by their numeric id, so the ids stay valid across id remapping. NBT is not
+ * part of the key, the same as {@link GTItemStack}. Wildcard meta ({@link GTValues#W}) is an ordinary meta value here;
+ * use {@link #find(ItemStack, boolean)} with {@code wildcard = true} to get the id of the wildcard variant.
+ * <p>
+ * Ids are never released. {@link #find} does not intern anything, so looking up arbitrary stacks does not grow the
+ * table. Both reads and writes are thread safe. Reads are optimistic and only take the lock if a write got in between,
+ * which after load practically never happens.
+ */
+public final class GTItemIdTable {
+
+    /**
+     * Returned by {@link #find} for item + meta pairs which were never interned.
+     */
+    public static final int NOT_FOUND = -1;
+
+    private static final StampedLock sLock = new StampedLock();
+    private static final Reference2IntOpenHashMap<Item> sItemIndices = new Reference2IntOpenHashMap<>();
+    private static final Long2IntOpenHashMap sIds = new Long2IntOpenHashMap();
+
+    static {
+        sItemIndices.defaultReturnValue(NOT_FOUND);
+        sIds.defaultReturnValue(NOT_FOUND);
+    }
+
+    private GTItemIdTable() {}
+
+    /**
+     * @return Id of the pair, assigning a new one if it has not been interned yet
+     */
+    public static int intern(Item aItem, int aMeta) {
+        long tStamp = sLock.writeLock();
+        try {
+            long tKey = pack(internItemLocked(aItem), aMeta);
+            int rId = sIds.get(tKey);
+            if (rId == NOT_FOUND) {
+                rId = sIds.size();
+                sIds.put(tKey, rId);
+            }
+            return rId;
+        } finally {
+            sLock.unlockWrite(tStamp);
+        }
+    }
+
+    /**
+     * @return Dense index of the item alone, assigning a new one if it has not been interned yet. Item indices are
+     *         numbered separately from the item + meta ids.
+     */
+    public static int internItem(Item aItem) {
+        long tStamp = sLock.writeLock();
+        try {
+            return internItemLocked(aItem);
+        } finally {
+            sLock.unlockWrite(tStamp);
+        }
+    }
+
+    private static int internItemLocked(Item aItem) {
+        int rItemIndex = sItemIndices.getInt(aItem);
+        if (rItemIndex == NOT_FOUND) {
+            rItemIndex = sItemIndices.size();
+            sItemIndices.put(aItem, rItemIndex);
+        }
+        return rItemIndex;
+    }
+
+    /**
+     * @param aWildcard Whether to intern the wildcard variant instead of the stack's own meta
+     */
+    public static int intern(ItemStack aStack, boolean aWildcard) {
+        return intern(aStack.getItem(), aWildcard ? GTValues.W : Items.feather.getDamage(aStack));
+    }
+
+    /**
+     * @return Id of the pair, or {@link #NOT_FOUND} if it has never been interned
+     */
+    public static int find(Item aItem, int aMeta) {
+        if (aItem == null) return NOT_FOUND;
+        long tStamp = sLock.tryOptimisticRead();
+        if (tStamp != 0) {
+            try {
+                int rId = findUnlocked(aItem, aMeta);
+                if (sLock.validate(tStamp)) return rId;
+            } catch (RuntimeException ignored) {
+                // the maps were resized under our feet, read them again under the lock
+            }
+        }
+        tStamp = sLock.readLock();
+        try {
+            return findUnlocked(aItem, aMeta);
+        } finally {
+            sLock.unlockRead(tStamp);
+        }
+    }
+
+    private static int findUnlocked(Item aItem, int aMeta) {
+        int tItemIndex = sItemIndices.getInt(aItem);
+        if (tItemIndex == NOT_FOUND) return NOT_FOUND;
+        return sIds.get(pack(tItemIndex, aMeta));
+    }
+
+    /**
+     * @return Index of the item, or {@link #NOT_FOUND} if it has never been interned
+     */
+    public static int findItem(Item aItem) {
+        if (aItem == null) return NOT_FOUND;
+        long tStamp = sLock.tryOptimisticRead();
+        if (tStamp != 0) {
+            try {
+                int rItemIndex = sItemIndices.getInt(aItem);
+                if (sLock.validate(tStamp)) return rItemIndex;
+            } catch (RuntimeException ignored) {
+                // the map was resized under our feet, read it again under the lock
+            }
+        }
+        tStamp = sLock.readLock();
+        try {
+            return sItemIndices.getInt(aItem);
+        } finally {
+            sLock.unlockRead(tStamp);
+        }
+    }
+
+    /**
+     * @param aWildcard Whether to look up the wildcard variant instead of the stack's own meta
+     */
+    public static int find(ItemStack aStack, boolean aWildcard) {
+        if (aStack == null) return NOT_FOUND;
+        return find(aStack.getItem(), aWildcard ? GTValues.W : Items.feather.getDamage(aStack));
+    }
+
+    /**
+     * @return Number of ids handed out so far. Ids are always in {@code [0, size())}.
+     */
+    public static int size() {
+        long tStamp = sLock.readLock();
+        try {
+            return sIds.size();
+        } finally {
+            sLock.unlockRead(tStamp);
+        }
+    }
+
+    private static long pack(int aItemIndex, int aMeta) {
+        return ((long) aItemIndex << 32) | (aMeta & 0xFFFFFFFFL);
+    }
+}
@@ -82,7 +82,8 @@ public class GTItemStack {
 
     @Override
     public int hashCode() {
-        return GTUtility.stackToInt(toStack());
+        // same value as GTUtility.stackToInt(toStack()), without allocating the stack
+        return mItem == null ? 0 : GTUtility.itemToInt(mItem, mMetaData);
     }
 
     /**
@@ -85,7 +85,8 @@ public final class FindRecipeQuery {
                 cachedRecipe,
                 notUnificated,
                 dontCheckStackSizes,
-                forCollisionCheck)
+                forCollisionCheck,
+                voltage * recipeMap.getAmperage())
             .filter(recipe -> voltage * recipeMap.getAmperage() >= recipe.mEUt && filter.test(recipe));
     }
 
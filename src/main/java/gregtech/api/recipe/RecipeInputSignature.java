@@ -0,0 +1,81 @@
+package gregtech.api.recipe;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.objects.GTItemIdTable;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Key of a recipe search: the voltage tier, the special slot item, then every item's {@link GTItemIdTable} id in slot
+ * order, then every fluid id in order. Stack sizes and fluid amounts are left out, so machines with differently filled
+ * buses share a key. The key decides which recipes the index lookup of {@link RecipeMapBackend} walks and in which
+ * order, and which of them match the inputs when amounts aren't checked. Inputs with NBT and special slot items which
+ * were never interned get no key.
+ * <p>
+ * Items which were never interned can't be the input of any indexed recipe and are skipped, an item whose own meta
+ * wasn't interned counts as its wildcard variant, since only wildcard inputs can match it.
+ */
+final class RecipeInputSignature {
+
+    private final int[] keys;
+    private final int hash;
+
+    private RecipeInputSignature(int[] keys) {
+        this.keys = keys;
+        this.hash = Arrays.hashCode(keys);
+    }
+
+    @Nullable
+    static RecipeInputSignature of(ItemStack[] items, FluidStack[] fluids, @Nullable ItemStack specialSlot,
+        int tier) {
+        int specialId = GTItemIdTable.NOT_FOUND;
+        if (specialSlot != null) {
+            // special slots are compared by exact meta
+            if (specialSlot.getTagCompound() != null) return null;
+            specialId = GTItemIdTable.find(specialSlot, false);
+            if (specialId == GTItemIdTable.NOT_FOUND) return null;
+        }
+        IntArrayList keys = new IntArrayList(3 + items.length + fluids.length);
+        keys.add(tier);
+        keys.add(specialId);
+        // the item count keeps the item and fluid parts apart
+        keys.add(0);
+        int itemCount = 0;
+        for (ItemStack item : items) {
+            if (item == null) continue;
+            if (item.getTagCompound() != null) return null;
+            int id = idOf(item);
+            if (id == GTItemIdTable.NOT_FOUND) continue;
+            keys.add(id);
+            itemCount++;
+        }
+        keys.set(2, itemCount);
+        for (FluidStack fluid : fluids) {
+            if (fluid == null) continue;
+            keys.add(fluid.getFluidID());
+        }
+        return new RecipeInputSignature(keys.toIntArray());
+    }
+
+    private static int idOf(ItemStack item) {
+        int id = GTItemIdTable.find(item, false);
+        return id != GTItemIdTable.NOT_FOUND ? id : GTItemIdTable.find(item, true);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RecipeInputSignature other)) return false;
+        return hash == other.hash && Arrays.equals(keys, other.keys);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
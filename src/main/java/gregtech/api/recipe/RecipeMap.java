@@ -3,9 +3,12 @@ package gregtech.api.recipe;
 import static gregtech.api.util.GTRecipeBuilder.ENABLE_COLLISION_CHECK;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -138,7 +141,14 @@ public final class RecipeMap<B extends RecipeMapBackend> implements IRecipeMap {
         aRecipe.mFakeRecipe = aFakeRecipe;
         if (aRecipe.mFluidInputs.length < backend.properties.minFluidInputs
             && aRecipe.mInputs.length < backend.properties.minItemInputs) return null;
-        if (aCheckForCollisions && ENABLE_COLLISION_CHECK && backend.checkCollision(aRecipe)) return null;
+        if (aCheckForCollisions && ENABLE_COLLISION_CHECK) {
+            if (backend.canStageCollisionCheck()) {
+                GTRecipe compiled = backend.compileRecipe(aRecipe);
+                backend.stageCollisionCheck(compiled);
+                return compiled;
+            }
+            if (backend.checkCollision(aRecipe)) return null;
+        }
         return backend.compileRecipe(aRecipe);
     }
 
@@ -235,6 +245,47 @@ public final class RecipeMap<B extends RecipeMapBackend> implements IRecipeMap {
             + '}';
     }
 
+    /**
+     * Runs the collision checks deferred during load, for all the recipemaps in parallel, and removes colliding
+     * recipes. Recipes added afterwards are checked immediately. Collisions are reported in recipemap name order and
+     * then registration order, so the log is the same regardless of the thread scheduling.
+     * <p>
+     * No-op unless {@link GTRecipeBuilder#ENABLE_COLLISION_CHECK} is on.
+     */
+    public static void runStagedCollisionChecks() {
+        if (!ENABLE_COLLISION_CHECK) return;
+        RecipeMapBackend.setStagingCollisionChecks(false);
+        List<RecipeMap<?>> recipeMaps = ALL_RECIPE_MAPS.values()
+            .stream()
+            .sorted(Comparator.comparing(recipeMap -> recipeMap.unlocalizedName))
+            .collect(Collectors.toList());
+        ForkJoinPool pool = new ForkJoinPool(
+            Math.max(
+                1,
+                Runtime.getRuntime()
+                    .availableProcessors() - 1));
+        List<List<GTRecipe>> collisions;
+        try {
+            collisions = pool.submit(
+                () -> recipeMaps.parallelStream()
+                    .map(recipeMap -> recipeMap.backend.findStagedCollisions())
+                    .collect(Collectors.toList()))
+                .get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to check recipe collisions", e);
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < recipeMaps.size(); i++) {
+            RecipeMapBackend backend = recipeMaps.get(i).backend;
+            List<GTRecipe> collided = collisions.get(i);
+            backend.clearStagedCollisionChecks();
+            if (collided.isEmpty()) continue;
+            backend.removeRecipes(collided);
+            collided.forEach(backend::handleCollision);
+        }
+    }
+
     private static final Pattern LEGACY_IDENTIFIER_PATTERN = Pattern.compile("(.+)_[0-9]+_[0-9]+_[0-9]+_[0-9]+_[0-9]+");
 
     /**
@@ -1,5 +1,6 @@
 package gregtech.api.recipe;
 
+import static gregtech.api.enums.GTValues.V;
 import static gregtech.api.util.GTRecipeBuilder.ENABLE_COLLISION_CHECK;
 import static gregtech.api.util.GTRecipeBuilder.handleInvalidRecipe;
 import static gregtech.api.util.GTRecipeBuilder.handleInvalidRecipeLowFluids;
@@ -8,11 +9,14 @@ import static gregtech.api.util.GTRecipeBuilder.handleRecipeCollision;
 import static gregtech.api.util.GTUtility.areStacksEqualOrNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -26,16 +30,23 @@ import net.minecraftforge.fluids.FluidStack;
 
 import org.jetbrains.annotations.Unmodifiable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.SetMultimap;
 
-import gregtech.api.GregTechAPI;
-import gregtech.api.objects.GTItemStack;
+import gregtech.api.objects.GTItemIdTable;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeBuilder;
 import gregtech.api.util.GTStreamUtil;
+import gregtech.api.util.GTUtility;
 import gregtech.api.util.MethodsReturnNonnullByDefault;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 /**
  * Responsible for recipe addition / search for recipemap.
@@ -50,9 +61,9 @@ public class RecipeMapBackend {
     private RecipeMap<?> recipeMap;
 
     /**
-     * Recipe index based on items.
+     * Recipe index based on items, keyed by {@link GTItemIdTable} id.
      */
-    private final SetMultimap<GTItemStack, GTRecipe> itemIndex = LinkedHashMultimap.create();
+    private final Int2ObjectOpenHashMap<Set<GTRecipe>> itemIndex = new Int2ObjectOpenHashMap<>();
     /**
      * Recipe index based on fluids.
      */
@@ -63,6 +74,41 @@ public class RecipeMapBackend {
      */
     private final Map<RecipeCategory, Collection<GTRecipe>> recipesByCategory = new HashMap<>();
 
+    /**
+     * Whether collision checks are deferred to {@link RecipeMap#runStagedCollisionChecks}. Only active during load,
+     * and only when {@link GTRecipeBuilder#ENABLE_COLLISION_CHECK} is on.
+     * <p>
+     * A staged recipe is compiled right away, so until the check runs a colliding recipe is as live as any other: it
+     * is returned from the builder, shows up in the recipe lists and can be found by lookups during load. It is only
+     * removed once load completes.
+     */
+    private static boolean stagingCollisionChecks = ENABLE_COLLISION_CHECK;
+
+    /**
+     * Recipes compiled while collision checks are staged, in registration order.
+     */
+    private final List<GTRecipe> stagedRecipes = new ArrayList<>();
+    /**
+     * Indices into {@link #stagedRecipes} of the recipes which requested collision check.
+     */
+    private final BitSet stagedCollisionChecks = new BitSet();
+
+    private static final int MATCH_CACHE_SIZE = 512;
+    /**
+     * Recipe hint per input signature, shared by all the machines using this backend: the first recipe of the index
+     * lookup which matches the inputs without checking amounts and fits the voltage tier. Every recipe before it fails
+     * for any inputs with the same signature, so if the hint matches it is the recipe the index lookup would find
+     * first, and if it doesn't the search goes on as if there was no hint. It's tested right after the cached recipe of
+     * a single machine, so fleets of identical machines skip the index lookup. Cleared whenever the recipes change.
+     * Safe to use from recipe search threads.
+     */
+    private final Cache<RecipeInputSignature, GTRecipe> matchCache = CacheBuilder.newBuilder()
+        .maximumSize(MATCH_CACHE_SIZE)
+        .recordStats()
+        .build();
+    private volatile CacheStats matchCacheStatsBaseline = new CacheStats(0, 0, 0, 0, 0, 0);
+    private volatile boolean matchCacheEnabled = true;
+
     /**
      * All the properties specific to this backend.
      */
@@ -70,7 +116,6 @@ public class RecipeMapBackend {
 
     public RecipeMapBackend(RecipeMapBackendPropertiesBuilder propertiesBuilder) {
         this.properties = propertiesBuilder.build();
-        GregTechAPI.itemStackMultiMaps.add(itemIndex);
     }
 
     void setRecipeMap(RecipeMap<?> recipeMap) {
@@ -130,6 +175,11 @@ public class RecipeMapBackend {
         }
         recipesByCategory.computeIfAbsent(recipe.getRecipeCategory(), v -> new ArrayList<>())
             .add(recipe);
+        // the new recipe may come first in the index for inputs which already have a shared match
+        if (matchCache.size() > 0) matchCache.invalidateAll();
+        if (stagingCollisionChecks) {
+            stagedRecipes.add(recipe);
+        }
         for (FluidStack fluid : recipe.mFluidInputs) {
             if (fluid == null) continue;
             fluidIndex.put(
@@ -146,20 +196,41 @@ public class RecipeMapBackend {
     protected GTRecipe addToItemMap(GTRecipe recipe) {
         for (ItemStack item : recipe.mInputs) {
             if (item == null) continue;
-            itemIndex.put(new GTItemStack(item), recipe);
+            addToItemIndex(item, recipe);
         }
         if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt) {
             for (ItemStack[] itemStacks : recipeWithAlt.mOreDictAlt) {
                 if (itemStacks == null) continue;
                 for (ItemStack item : itemStacks) {
                     if (item == null) continue;
-                    itemIndex.put(new GTItemStack(item), recipe);
+                    addToItemIndex(item, recipe);
                 }
             }
         }
         return recipe;
     }
 
+    private void addToItemIndex(ItemStack item, GTRecipe recipe) {
+        int id = GTItemIdTable.intern(item, false);
+        Set<GTRecipe> recipes = itemIndex.get(id);
+        if (recipes == null) {
+            recipes = new ObjectLinkedOpenHashSet<>();
+            itemIndex.put(id, recipes);
+        }
+        recipes.add(recipe);
+    }
+
+    /**
+     * @param wildcard Whether to look up the recipes taking any meta of the item instead of its own meta
+     * @return Recipes indexed under the item, in insertion order
+     */
+    private Collection<GTRecipe> getItemIndexRecipes(ItemStack item, boolean wildcard) {
+        int id = GTItemIdTable.find(item, wildcard);
+        if (id == GTItemIdTable.NOT_FOUND) return Collections.emptySet();
+        Set<GTRecipe> recipes = itemIndex.get(id);
+        return recipes == null ? Collections.emptySet() : recipes;
+    }
+
     /**
      * Builds recipe from supplied recipe builder and adds it.
      */
@@ -177,7 +248,8 @@ public class RecipeMapBackend {
                 return Collections.emptyList();
             }
             properties.transformRecipe(recipe);
-            if (builder.isCheckForCollision() && ENABLE_COLLISION_CHECK && checkCollision(recipe)) {
+            boolean checkForCollision = builder.isCheckForCollision() && ENABLE_COLLISION_CHECK;
+            if (checkForCollision && !canStageCollisionCheck() && checkCollision(recipe)) {
                 handleCollision(recipe);
                 continue;
             }
@@ -185,12 +257,137 @@ public class RecipeMapBackend {
                 handleInvalidRecipe();
                 continue;
             }
-            ret.add(compileRecipe(recipe));
+            GTRecipe compiled = compileRecipe(recipe);
+            ret.add(compiled);
+            if (checkForCollision && canStageCollisionCheck()) {
+                stageCollisionCheck(compiled);
+            }
         }
         return ret;
     }
 
-    private void handleCollision(GTRecipe recipe) {
+    /**
+     * @return Whether collision check for the recipes added now can be deferred until the end of load.
+     */
+    boolean canStageCollisionCheck() {
+        return stagingCollisionChecks && !doesOverwriteFindRecipe();
+    }
+
+    /**
+     * Marks already compiled recipe to be checked for collision in {@link RecipeMap#runStagedCollisionChecks}.
+     */
+    void stageCollisionCheck(@Nullable GTRecipe recipe) {
+        if (recipe == null) return;
+        // the recipe was just compiled, so it is at the tail unless compileRecipe was overridden to skip it
+        int index = stagedRecipes.lastIndexOf(recipe);
+        if (index >= 0) {
+            stagedCollisionChecks.set(index);
+        }
+    }
+
+    /**
+     * Checks the staged recipes for collision against the recipes registered before each of them, which is the same
+     * result as checking them one by one at addition. Does not mutate anything, so it can run in parallel with the
+     * same method of other backends.
+     *
+     * @return Colliding recipes, in registration order.
+     */
+    List<GTRecipe> findStagedCollisions() {
+        if (stagedCollisionChecks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Reference2IntOpenHashMap<GTRecipe> registrationOrder = new Reference2IntOpenHashMap<>(stagedRecipes.size());
+        registrationOrder.defaultReturnValue(-1);
+        for (int i = 0; i < stagedRecipes.size(); i++) {
+            registrationOrder.putIfAbsent(stagedRecipes.get(i), i);
+        }
+        Set<GTRecipe> present = new ReferenceOpenHashSet<>(allRecipes());
+        Set<GTRecipe> collided = new ReferenceOpenHashSet<>();
+        Set<GTRecipe> tested = new ReferenceOpenHashSet<>();
+        List<GTRecipe> ret = new ArrayList<>();
+        for (int i = stagedCollisionChecks.nextSetBit(0); i >= 0; i = stagedCollisionChecks.nextSetBit(i + 1)) {
+            GTRecipe recipe = stagedRecipes.get(i);
+            // removed by someone else in the meantime
+            if (!present.contains(recipe)) continue;
+            tested.clear();
+            if (hasEarlierCollision(recipe, i, registrationOrder, collided, tested)) {
+                collided.add(recipe);
+                ret.add(recipe);
+            }
+        }
+        return ret;
+    }
+
+    private boolean hasEarlierCollision(GTRecipe recipe, int order,
+        Reference2IntOpenHashMap<GTRecipe> registrationOrder, Set<GTRecipe> collided, Set<GTRecipe> tested) {
+        // Same candidate lookup as matchRecipeStream, but without allocating streams and restricted to the recipes
+        // that were already present when this recipe has been added.
+        if (!itemIndex.isEmpty()) {
+            for (ItemStack item : recipe.mInputs) {
+                if (item == null) continue;
+                if (collidesWithAny(
+                    getItemIndexRecipes(item, false),
+                    recipe,
+                    order,
+                    registrationOrder,
+                    collided,
+                    tested)
+                    || collidesWithAny(
+                        getItemIndexRecipes(item, true),
+                        recipe,
+                        order,
+                        registrationOrder,
+                        collided,
+                        tested)) {
+                    return true;
+                }
+            }
+        }
+        if (properties.minItemInputs == 0) {
+            for (FluidStack fluid : recipe.mFluidInputs) {
+                if (fluid == null) continue;
+                if (collidesWithAny(
+                    fluidIndex.get(
+                        fluid.getFluid()
+                            .getName()),
+                    recipe,
+                    order,
+                    registrationOrder,
+                    collided,
+                    tested)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean collidesWithAny(Collection<GTRecipe> candidates, GTRecipe recipe, int order,
+        Reference2IntOpenHashMap<GTRecipe> registrationOrder, Set<GTRecipe> collided, Set<GTRecipe> tested) {
+        for (GTRecipe candidate : candidates) {
+            if (candidate == recipe || !tested.add(candidate)) continue;
+            if (registrationOrder.getInt(candidate) >= order || collided.contains(candidate)) continue;
+            if (filterFindRecipe(candidate, recipe.mInputs, recipe.mFluidInputs, null, true)
+                && modifyFoundRecipe(candidate, recipe.mInputs, recipe.mFluidInputs, null) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drops the staged state. Called once collision checks for all the backends are done.
+     */
+    void clearStagedCollisionChecks() {
+        stagedRecipes.clear();
+        stagedCollisionChecks.clear();
+    }
+
+    static void setStagingCollisionChecks(boolean staging) {
+        stagingCollisionChecks = staging;
+    }
+
+    void handleCollision(GTRecipe recipe) {
         StringBuilder errorInfo = new StringBuilder();
         boolean hasAnEntry = false;
         for (FluidStack fluid : recipe.mFluidInputs) {
@@ -229,13 +426,15 @@ public class RecipeMapBackend {
      * Removes supplied recipes from recipe list. Do not use unless absolute necessity!
      */
     public void removeRecipes(Collection<? extends GTRecipe> recipesToRemove) {
+        matchCache.invalidateAll();
         for (Collection<GTRecipe> recipes : recipesByCategory.values()) {
             recipes.removeAll(recipesToRemove);
         }
-        for (GTItemStack key : new HashMap<>(itemIndex.asMap()).keySet()) {
-            itemIndex.get(key)
-                .removeAll(recipesToRemove);
-        }
+        itemIndex.values()
+            .removeIf(recipes -> {
+                recipes.removeAll(recipesToRemove);
+                return recipes.isEmpty();
+            });
         for (String key : new HashMap<>(fluidIndex.asMap()).keySet()) {
             fluidIndex.get(key)
                 .removeAll(recipesToRemove);
@@ -254,6 +453,7 @@ public class RecipeMapBackend {
      */
     public void clearRecipes() {
         recipesByCategory.clear();
+        matchCache.invalidateAll();
     }
 
     // endregion
@@ -263,6 +463,7 @@ public class RecipeMapBackend {
      */
     public void reInit() {
         itemIndex.clear();
+        matchCache.invalidateAll();
         for (GTRecipe recipe : allRecipes()) {
             GTOreDictUnificator.setStackArray(true, true, recipe.mInputs);
             GTOreDictUnificator.setStackArray(true, true, recipe.mOutputs);
@@ -270,11 +471,32 @@ public class RecipeMapBackend {
         }
     }
 
+    /**
+     * @return Hit and miss counts of the recipe lookups shared between machines, since the last
+     *         {@link #resetMatchCacheStats}
+     */
+    public CacheStats getMatchCacheStats() {
+        return matchCache.stats()
+            .minus(matchCacheStatsBaseline);
+    }
+
+    public void resetMatchCacheStats() {
+        matchCacheStatsBaseline = matchCache.stats();
+    }
+
+    /**
+     * Turns sharing recipe lookups between machines on or off, for debugging. Doesn't change which recipes are found.
+     */
+    public void setMatchCacheEnabled(boolean enabled) {
+        matchCacheEnabled = enabled;
+        matchCache.invalidateAll();
+    }
+
     /**
      * @return If supplied item is a valid input for any of the recipes
      */
     public boolean containsInput(ItemStack item) {
-        return itemIndex.containsKey(new GTItemStack(item)) || itemIndex.containsKey(new GTItemStack(item, true));
+        return !getItemIndexRecipes(item, false).isEmpty() || !getItemIndexRecipes(item, true).isEmpty();
     }
 
     /**
@@ -292,7 +514,8 @@ public class RecipeMapBackend {
      * @return True if collision is found.
      */
     boolean checkCollision(GTRecipe recipe) {
-        return matchRecipeStream(recipe.mInputs, recipe.mFluidInputs, null, null, false, true, true).findAny()
+        return matchRecipeStream(recipe.mInputs, recipe.mFluidInputs, null, null, false, true, true, Long.MAX_VALUE)
+            .findAny()
             .isPresent();
     }
 
@@ -342,11 +565,13 @@ public class RecipeMapBackend {
      * @param dontCheckStackSizes If this is set to true, this method won't check item count and fluid amount
      *                            for the matched recipe.
      * @param forCollisionCheck   If this method is called to check collision with already registered recipes.
+     * @param maxEUt              Highest EU/t the caller will accept. Recipes above it are still returned, it only
+     *                            decides which machines share their lookups.
      * @return Stream of matches recipes.
      */
     Stream<GTRecipe> matchRecipeStream(ItemStack[] rawItems, FluidStack[] fluids, @Nullable ItemStack specialSlot,
-        @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes,
-        boolean forCollisionCheck) {
+        @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes, boolean forCollisionCheck,
+        long maxEUt) {
         if (doesOverwriteFindRecipe()) {
             return GTStreamUtil.ofNullable(overwriteFindRecipe(rawItems, fluids, specialSlot, cachedRecipe));
         }
@@ -385,6 +610,10 @@ public class RecipeMapBackend {
             items = rawItems;
         }
 
+        // Stack size checks and collision checks don't tell which recipe a machine would run, so don't share them.
+        SharedMatch sharedMatch = dontCheckStackSizes || forCollisionCheck || !matchCacheEnabled ? null
+            : new SharedMatch(items, fluids, specialSlot, maxEUt);
+
         return Stream.<Stream<GTRecipe>>of(
             // Check the recipe which has been used last time in order to not have to search for it again, if possible.
             GTStreamUtil.ofNullable(cachedRecipe)
@@ -392,12 +621,19 @@ public class RecipeMapBackend {
                 .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
                 .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
                 .filter(Objects::nonNull),
+            // Then the hint other machines left for the same kinds of inputs. If it matches, it's the first recipe the
+            // index lookup below would find as well.
+            GTStreamUtil.ofSupplier(() -> sharedMatch == null ? null : sharedMatch.lookup())
+                .filter(recipe -> recipe != cachedRecipe)
+                .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
+                .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
+                .filter(Objects::nonNull),
             // Now look for the recipes inside the item index, but only when the recipes actually can have items inputs.
             GTStreamUtil.ofConditional(!itemIndex.isEmpty(), items)
                 .filter(Objects::nonNull)
-                .flatMap(item -> Stream.of(new GTItemStack(item), new GTItemStack(item, true)))
-                .map(itemIndex::get)
+                .flatMap(item -> Stream.of(getItemIndexRecipes(item, false), getItemIndexRecipes(item, true)))
                 .flatMap(Collection::stream)
+                .peek(recipe -> offer(sharedMatch, recipe))
                 .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
                 .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
                 .filter(Objects::nonNull),
@@ -410,6 +646,7 @@ public class RecipeMapBackend {
                         fluidStack.getFluid()
                             .getName()))
                 .flatMap(Collection::stream)
+                .peek(recipe -> offer(sharedMatch, recipe))
                 .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
                 .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
                 .filter(Objects::nonNull),
@@ -420,6 +657,10 @@ public class RecipeMapBackend {
             .flatMap(Function.identity());
     }
 
+    private static void offer(@Nullable SharedMatch sharedMatch, GTRecipe indexed) {
+        if (sharedMatch != null) sharedMatch.offer(indexed);
+    }
+
     /**
      * The minimum filter required for recipe match logic. You can override this to have custom validation.
      * <p>
@@ -437,6 +678,68 @@ public class RecipeMapBackend {
         return false;
     }
 
+    /**
+     * Looks up and shares the hint of one search in {@link #matchCache}. The signature is only computed when the
+     * search gets past the cached recipe of the machine.
+     * <p>
+     * Filters are expected to pass without checking amounts whenever they pass with it.
+     */
+    private final class SharedMatch {
+
+        private final ItemStack[] items;
+        private final FluidStack[] fluids;
+        @Nullable
+        private final ItemStack specialSlot;
+        private final int tier;
+        /** Highest EU/t any machine of the tier accepts. */
+        private final long tierEUt;
+        @Nullable
+        private RecipeInputSignature signature;
+        private boolean signed, recorded;
+
+        SharedMatch(ItemStack[] items, FluidStack[] fluids, @Nullable ItemStack specialSlot, long maxEUt) {
+            this.items = items;
+            this.fluids = fluids;
+            this.specialSlot = specialSlot;
+            this.tier = GTUtility.getTier(maxEUt);
+            this.tierEUt = tier < V.length - 1 ? V[tier] : Long.MAX_VALUE;
+        }
+
+        @Nullable
+        private RecipeInputSignature signature() {
+            if (!signed) {
+                signature = RecipeInputSignature.of(items, fluids, specialSlot, tier);
+                signed = true;
+            }
+            return signature;
+        }
+
+        @Nullable
+        GTRecipe lookup() {
+            RecipeInputSignature signature = signature();
+            if (signature == null) return null;
+            GTRecipe hint = matchCache.getIfPresent(signature);
+            // the index lookup would find the same hint again
+            if (hint != null) recorded = true;
+            return hint;
+        }
+
+        /**
+         * Shares the first recipe of the index lookup which matches without checking amounts and fits the tier,
+         * whether or not this machine can run it.
+         *
+         * @param indexed The next recipe from the index
+         */
+        void offer(GTRecipe indexed) {
+            if (recorded || indexed.mEUt > tierEUt
+                || !filterFindRecipe(indexed, items, fluids, specialSlot, true)) return;
+            recorded = true;
+            if (!indexed.mCanBeBuffered) return;
+            RecipeInputSignature signature = signature();
+            if (signature != null) matchCache.put(signature, indexed);
+        }
+    }
+
     // endregion
 
     @FunctionalInterface
@@ -54,6 +54,12 @@ public final class CheckRecipeResultRegistry {
      */
     @Nonnull
     public static final CheckRecipeResult NO_RECIPE = SimpleCheckRecipeResult.ofFailure("no_recipe");
+    /**
+     * Recipe search for the current inputs is still running on a worker thread.
+     */
+    @Nonnull
+    public static final CheckRecipeResult RECIPE_SEARCH_PENDING = SimpleCheckRecipeResult
+        .ofFailure("recipe_search_pending");
     /**
      * Cannot process recipe because item output is full.
      */
@@ -82,14 +82,14 @@ public class GTCLSCompat {
     }
 
     public static void stepMaterialsCLS(Collection<GTProxy.OreDictEventContainer> mEvents,
-        ProgressManager.ProgressBar progressBar) {
+        ProgressManager.ProgressBar progressBar, Consumer<GTProxy.OreDictEventContainer> registration) {
         MinecraftDisplayer.isRegisteringGTmaterials = true;
         registerAndReportProgression(
             "GregTech materials",
             mEvents,
             progressBar,
             m -> m.mMaterial,
-            GTProxy::registerRecipes);
+            registration);
         ProgressManager.pop(progressBar);
         MinecraftDisplayer.isRegisteringGTmaterials = false;
     }
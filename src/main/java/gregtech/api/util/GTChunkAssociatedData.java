@@ -8,19 +8,25 @@ import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -55,6 +61,9 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
  * <p>
  * It should be noted this class is NOT thread safe.
  * <p>
+ * Saving only looks at regions with data changed since their last save (see {@link IData#isChangedSinceSave()}). Those
+ * are encoded on the calling thread and written to disk in the background.
+ * <p>
  * Element cannot be null.
  * <p>
  * TODO: Implement automatic region unloading.
@@ -159,6 +168,12 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
     }
 
     public void clear() {
+        awaitPendingWrites(
+            masterMap.values()
+                .stream()
+                .flatMap(
+                    m -> m.values()
+                        .stream()));
         if (GTValues.debugWorldData) {
             long dirtyRegionCount = masterMap.values()
                 .stream()
@@ -191,17 +206,19 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
 
     private void saveRegions(Stream<SuperRegion> stream) {
         stream.filter(SuperRegion::isDirty)
-            .map(c -> (Runnable) c::save)
-            .map(r -> CompletableFuture.runAsync(r, IO_WORKERS))
-            .reduce(CompletableFuture::allOf)
-            .ifPresent(f -> {
-                try {
-                    f.get();
-                } catch (Exception e) {
-                    GTLog.err.println("Data save error: " + mId);
-                    e.printStackTrace(GTLog.err);
-                }
-            });
+            .forEach(SuperRegion::save);
+    }
+
+    private void awaitPendingWrites(Stream<SuperRegion> stream) {
+        stream.forEach(SuperRegion::awaitPendingWrite);
+    }
+
+    private void unload(World world) {
+        Map<ChunkCoordIntPair, SuperRegion> map = masterMap.remove(world.provider.dimensionId);
+        // the writes of that save may still be running
+        if (map != null) awaitPendingWrites(
+            map.values()
+                .stream());
     }
 
     protected abstract void writeElement(DataOutput output, T element, World world, int chunkX, int chunkZ)
@@ -286,6 +303,69 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
          * @return Whether the data is different from chunk default
          */
         boolean isSameAsDefault();
+
+        /**
+         * @return Whether the data changed since the last {@link #markSaved()}. Data which does not track its changes
+         *         is saved whenever it differs from the default.
+         */
+        default boolean isChangedSinceSave() {
+            return !isSameAsDefault();
+        }
+
+        /**
+         * Called once the current state of the data has been encoded for saving.
+         */
+        default void markSaved() {}
+    }
+
+    /**
+     * Growable direct buffer region snapshots are encoded into, pooled across saves.
+     */
+    private static final class SnapshotBuffer extends OutputStream {
+
+        private static final BlockingQueue<SnapshotBuffer> POOL = new ArrayBlockingQueue<>(IO_PARALLELISM * 2);
+
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 14);
+
+        static SnapshotBuffer acquire() {
+            SnapshotBuffer ret = POOL.poll();
+            if (ret == null) ret = new SnapshotBuffer();
+            ret.buffer.clear();
+            return ret;
+        }
+
+        void release() {
+            POOL.offer(this);
+        }
+
+        /**
+         * @return The encoded bytes, ready to be read
+         */
+        ByteBuffer contents() {
+            ByteBuffer ret = buffer.duplicate();
+            ret.flip();
+            return ret;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureRemaining(1);
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureRemaining(len);
+            buffer.put(b, off, len);
+        }
+
+        private void ensureRemaining(int length) {
+            if (buffer.remaining() >= length) return;
+            ByteBuffer grown = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, buffer.position() + length));
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
     }
 
     protected final class SuperRegion {
@@ -297,6 +377,14 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
          * Be aware, this means region coord, not bottom-left chunk coord
          */
         private final ChunkCoordIntPair coord;
+        /**
+         * Whether elements were replaced since the last save, or the last write failed.
+         */
+        private volatile boolean structureChanged;
+        /**
+         * Writes of this region run one after another, so that an older snapshot can't overwrite a newer one.
+         */
+        private CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
 
         private SuperRegion(World world, int regionX, int regionZ) {
             this.world = new WeakReference<>(world);
@@ -329,6 +417,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
                     coord.chunkXPos * regionLength + subRegionX,
                     coord.chunkZPos * regionLength + subRegionZ);
                 data[index] = newElem;
+                if (saveDefaults) structureChanged = true;
                 return newElem;
             }
             return datum;
@@ -336,6 +425,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
 
         public void set(int subRegionX, int subRegionZ, T data) {
             this.data[getIndex(subRegionX, subRegionZ)] = data;
+            structureChanged = true;
         }
 
         public boolean isCreated(int subRegionX, int subRegionZ) {
@@ -359,49 +449,90 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
         }
 
         public boolean isDirty() {
+            if (structureChanged) return true;
             for (T datum : data) {
-                if (datum != null && !datum.isSameAsDefault()) return true;
+                if (datum != null && datum.isChangedSinceSave()) return true;
             }
             return false;
         }
 
+        /**
+         * Encodes the region right away and queues writing it to disk.
+         */
         public void save() {
+            World world = Objects.requireNonNull(this.world.get(), "Attempting to save region of another world!");
+            SnapshotBuffer snapshot = SnapshotBuffer.acquire();
             try {
-                save0();
+                encode(new DataOutputStream(snapshot), world);
             } catch (IOException e) {
+                snapshot.release();
                 GTLog.err.println("Error saving data " + backingStorage.getPath());
                 e.printStackTrace(GTLog.err);
+                return;
             }
+            for (T datum : data) {
+                if (datum != null) datum.markSaved();
+            }
+            structureChanged = false;
+            pendingWrite = pendingWrite.thenRunAsync(() -> {
+                try {
+                    write(snapshot.contents());
+                } catch (IOException | RuntimeException e) {
+                    // try again with the next save
+                    structureChanged = true;
+                    GTLog.err.println("Error saving data " + backingStorage.getPath());
+                    e.printStackTrace(GTLog.err);
+                } finally {
+                    snapshot.release();
+                }
+            }, IO_WORKERS);
+        }
+
+        public void awaitPendingWrite() {
+            try {
+                pendingWrite.join();
+            } catch (CompletionException e) {
+                GTLog.err.println("Data save error: " + mId);
+                e.printStackTrace(GTLog.err);
+            }
+        }
+
+        private void encode(DataOutputStream output, World world) throws IOException {
+            int ptr = 0;
+            boolean nullRange = data[0] == null;
+            // write a magic byte as storage format version
+            output.writeByte(0);
+            // write a magic byte as data format version
+            output.writeByte(version);
+            output.writeBoolean(nullRange);
+            while (ptr < data.length) {
+                // work out how long is this range
+                int rangeStart = ptr;
+                while (ptr < data.length
+                    && (data[ptr] == null || (!saveDefaults && data[ptr].isSameAsDefault())) == nullRange) ptr++;
+                // write range length
+                output.writeShort(ptr - rangeStart);
+                if (!nullRange)
+                    // write element data
+                    for (int i = rangeStart; i < ptr; i++)
+                        writeElement(output, data[i], world, getChunkX(i), getChunkZ(i));
+                // or not
+                nullRange = !nullRange;
+            }
+            output.flush();
         }
 
-        private void save0() throws IOException {
+        private void write(ByteBuffer snapshot) throws IOException {
             // noinspection ResultOfMethodCallIgnored
             backingStorage.getParentFile()
                 .mkdirs();
             File tmpFile = getTmpFile();
-            World world = Objects.requireNonNull(this.world.get(), "Attempting to save region of another world!");
-            try (DataOutputStream output = new DataOutputStream(new FileOutputStream(tmpFile))) {
-                int ptr = 0;
-                boolean nullRange = data[0] == null;
-                // write a magic byte as storage format version
-                output.writeByte(0);
-                // write a magic byte as data format version
-                output.writeByte(version);
-                output.writeBoolean(nullRange);
-                while (ptr < data.length) {
-                    // work out how long is this range
-                    int rangeStart = ptr;
-                    while (ptr < data.length
-                        && (data[ptr] == null || (!saveDefaults && data[ptr].isSameAsDefault())) == nullRange) ptr++;
-                    // write range length
-                    output.writeShort(ptr - rangeStart);
-                    if (!nullRange)
-                        // write element data
-                        for (int i = rangeStart; i < ptr; i++)
-                            writeElement(output, data[i], world, getChunkX(ptr), getChunkZ(ptr));
-                    // or not
-                    nullRange = !nullRange;
-                }
+            try (FileChannel channel = FileChannel.open(
+                tmpFile.toPath(),
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) channel.write(snapshot);
             }
             // first try to replace the destination file
             // since atomic operation, no need to keep the backup in place
@@ -487,7 +618,7 @@ public abstract class GTChunkAssociatedData<T extends GTChunkAssociatedData.IDat
             for (GTChunkAssociatedData<?> d : instances.values()) {
                 // there is no need to explicitly do a save here
                 // forge will send a WorldEvent.Save on server thread before this event is distributed
-                d.masterMap.remove(e.world.provider.dimensionId);
+                d.unload(e.world);
             }
         }
     }
@@ -0,0 +1,534 @@
+package gregtech.api.util;
+
+import static gregtech.api.util.GTUtility.isAllowedToPutIntoSlot;
+import static gregtech.api.util.GTUtility.isAllowedToTakeFromSlot;
+import static gregtech.api.util.GTUtility.listContainsItem;
+import static gregtech.api.util.GTUtility.moveStackFromSlotAToSlotB;
+import static gregtech.api.util.GTUtility.moveStackIntoPipe;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.init.Items;
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraftforge.common.util.ForgeDirection;
+
+/**
+ * Allocation free implementation of {@link GTUtility#moveMultipleItemStacks}, the transfer primitive behind conveyor
+ * covers, buffers and item pipes.
+ * <p>
+ * The target inventory is indexed into thread local scratch arrays instead of boxed maps keyed by
+ * {@link GTUtility.ItemId}: a list of free slots, and an open addressed table from item + meta + NBT to the spare room
+ * left in partially filled slots plus the list of those slots. Apart from that, it checks and moves items in exactly
+ * the same order as the map based implementation did. Moving an item changes what the next check sees (e.g.
+ * {@link IInventory#isItemValidForSlot} of a machine), so planning every move before committing any of them would not
+ * be equivalent.
+ */
+public final class GTItemTransfer {
+
+    private static final ThreadLocal<Scratch> sScratch = ThreadLocal.withInitial(Scratch::new);
+
+    private GTItemTransfer() {}
+
+    /**
+     * @see GTUtility#moveMultipleItemStacks(IInventory, Object, ForgeDirection, ForgeDirection, List, boolean, byte,
+     *      byte, byte, byte, int, boolean)
+     */
+    public static int moveMultipleItemStacks(IInventory fromInventory, Object toObject, ForgeDirection fromSide,
+        ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter, byte aMaxTargetStackSize,
+        byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce, int aMaxStackTransfer,
+        boolean aDoCheckChests) {
+        if (fromInventory == null || aMaxTargetStackSize <= 0
+            || aMinTargetStackSize <= 0
+            || aMaxMoveAtOnce <= 0
+            || aMinTargetStackSize > aMaxTargetStackSize
+            || aMinMoveAtOnce > aMaxMoveAtOnce
+            || aMaxStackTransfer == 0) return 0;
+
+        Scratch tScratch = Scratch.acquire();
+        try {
+            return moveMultipleItemStacks(
+                tScratch,
+                fromInventory,
+                toObject,
+                fromSide,
+                putSide,
+                aFilter,
+                aInvertFilter,
+                aMaxTargetStackSize,
+                aMinTargetStackSize,
+                aMaxMoveAtOnce,
+                aMinMoveAtOnce,
+                aMaxStackTransfer,
+                aDoCheckChests);
+        } finally {
+            tScratch.release();
+        }
+    }
+
+    private static int moveMultipleItemStacks(Scratch aScratch, IInventory fromInventory, Object toObject,
+        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
+        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
+        int aMaxStackTransfer, boolean aDoCheckChests) {
+        // find where to take from
+        final int tGrabInventorySize = fromInventory.getSizeInventory();
+        if (fromInventory instanceof ISidedInventory) {
+            final int[] tAccessibleSlots = ((ISidedInventory) fromInventory)
+                .getAccessibleSlotsFromSide(fromSide.ordinal());
+            aScratch.clearGrabSlots(Math.max(tGrabInventorySize, tAccessibleSlots.length));
+            for (int i : tAccessibleSlots) {
+                final ItemStack s = fromInventory.getStackInSlot(i);
+                if (s == null || !isAllowedToTakeFromSlot(fromInventory, i, fromSide, s)
+                    || s.stackSize < aMinMoveAtOnce
+                    || !listContainsItem(aFilter, s, true, aInvertFilter)) continue;
+                aScratch.grabSlots[aScratch.grabCount++] = i;
+            }
+        } else {
+            aScratch.clearGrabSlots(tGrabInventorySize);
+            for (int i = 0; i < tGrabInventorySize; i++) {
+                ItemStack s = fromInventory.getStackInSlot(i);
+                if (s == null || s.stackSize < aMinMoveAtOnce || !listContainsItem(aFilter, s, true, aInvertFilter))
+                    continue;
+                aScratch.grabSlots[aScratch.grabCount++] = i;
+            }
+        }
+
+        // no source, bail out
+        if (aScratch.grabCount == 0) {
+            // maybe source is a double chest. check it
+            if (aDoCheckChests && fromInventory instanceof TileEntityChest chest) return moveFromAdjacentChests(
+                chest,
+                toObject,
+                fromSide,
+                putSide,
+                aFilter,
+                aInvertFilter,
+                aMaxTargetStackSize,
+                aMinTargetStackSize,
+                aMaxMoveAtOnce,
+                aMinMoveAtOnce,
+                aMaxStackTransfer);
+            return 0;
+        }
+
+        if (!(toObject instanceof IInventory toInventory)) {
+            // there should be a function to transfer more than 1 stack in a pipe
+            // however I do not see any ways to improve it. too much work for what it is worth
+            // the unused tail of the slot array is zero filled, same as it has always been. The scratch array may hold
+            // slots of an earlier, larger source past grabCount, so only the grabbed ones are copied.
+            final int[] tGrabSlots = new int[tGrabInventorySize];
+            System.arraycopy(
+                aScratch.grabSlots,
+                0,
+                tGrabSlots,
+                0,
+                Math.min(aScratch.grabCount, tGrabInventorySize));
+            int tTotalItemsMoved = 0;
+            for (int i = 0; i < tGrabInventorySize; i++) {
+                final int tMoved = moveStackIntoPipe(
+                    fromInventory,
+                    toObject,
+                    tGrabSlots,
+                    fromSide,
+                    putSide,
+                    aFilter,
+                    aInvertFilter,
+                    aMaxTargetStackSize,
+                    aMinTargetStackSize,
+                    aMaxMoveAtOnce,
+                    aMinMoveAtOnce,
+                    aDoCheckChests);
+                if (tMoved == 0) return tTotalItemsMoved;
+                else tTotalItemsMoved += tMoved;
+            }
+            return 0;
+        }
+
+        // if target is an inventory, e.g. chest, machine, drawers...
+        // find possible target slots
+        final int tPutInventorySize = toInventory.getSizeInventory();
+        aScratch.clearPutSlots(tPutInventorySize);
+        int[] accessibleSlots = null;
+        if (toObject instanceof ISidedInventory sided)
+            accessibleSlots = sided.getAccessibleSlotsFromSide(putSide.ordinal());
+        for (int i = 0; i < tPutInventorySize; i++) {
+            int slot = i;
+            if (accessibleSlots != null) {
+                if (accessibleSlots.length <= i) break;
+                slot = accessibleSlots[slot];
+            }
+            ItemStack s = toInventory.getStackInSlot(slot);
+            if (s == null) {
+                aScratch.addFreeSlot(slot);
+            } else if ((s.stackSize < s.getMaxStackSize() && s.stackSize < toInventory.getInventoryStackLimit())
+                && aMinMoveAtOnce <= s.getMaxStackSize() - s.stackSize
+                && isAllowedToPutIntoSlot(toInventory, slot, putSide, s, (byte) 64)) {
+                    aScratch.addPartialStack(
+                        s,
+                        Math.min(s.getMaxStackSize(), toInventory.getInventoryStackLimit()) - s.stackSize);
+                }
+        }
+
+        // target completely filled, bail out
+        if (aScratch.keyCount == 0 && aScratch.freeLive == 0) {
+            // maybe target is a double chest. check it.
+            if (aDoCheckChests && toObject instanceof TileEntityChest chest) return moveToAdjacentChests(
+                fromInventory,
+                chest,
+                fromSide,
+                putSide,
+                aFilter,
+                aInvertFilter,
+                aMaxTargetStackSize,
+                aMinTargetStackSize,
+                aMaxMoveAtOnce,
+                aMinMoveAtOnce,
+                aMaxStackTransfer);
+            return 0;
+        }
+
+        // go over source stacks one by one
+        int tStacksMoved = 0, tTotalItemsMoved = 0;
+        for (int j = 0; j < aScratch.grabCount; j++) {
+            final int grabSlot = aScratch.grabSlots[j];
+            int tMovedItems;
+            int tStackSize;
+            do {
+                tMovedItems = 0;
+                final ItemStack tGrabStack = fromInventory.getStackInSlot(grabSlot);
+                if (tGrabStack == null) break;
+                tStackSize = tGrabStack.stackSize;
+                final int tKey = aScratch.findKey(tGrabStack);
+
+                if (tKey >= 0 && aScratch.keyHasSpare[tKey]) {
+                    // there is a partially filled slot, try merging
+                    final int canPut = Math.min(aScratch.keySpare[tKey], aMaxMoveAtOnce);
+                    if (canPut >= aMinMoveAtOnce && aScratch.keyHead[tKey] >= 0) {
+                        // can move, do merge
+                        int toPut = Math.min(canPut, tStackSize);
+                        tMovedItems = toPut;
+                        for (int e = aScratch.keyHead[tKey], prev = -1; e >= 0; e = aScratch.entryNext[e]) {
+                            final ItemStack s = aScratch.entryStacks[e];
+                            final int sToPut = Math.min(
+                                Math.min(
+                                    Math.min(toPut, s.getMaxStackSize() - s.stackSize),
+                                    toInventory.getInventoryStackLimit() - s.stackSize),
+                                aMaxTargetStackSize - s.stackSize);
+                            if (sToPut <= 0 || sToPut < aMinMoveAtOnce || s.stackSize + sToPut < aMinTargetStackSize) {
+                                prev = e;
+                                continue;
+                            }
+                            toPut -= sToPut;
+                            s.stackSize += sToPut;
+                            if (s.stackSize == s.getMaxStackSize()
+                                || s.stackSize == toInventory.getInventoryStackLimit()) {
+                                // this slot is full. remove this stack from candidate list
+                                aScratch.removeEntry(tKey, prev, e);
+                            } else {
+                                prev = e;
+                            }
+                            if (toPut == 0) break;
+                        }
+                        tMovedItems -= toPut;
+                        if (tMovedItems > 0) {
+                            tStackSize -= tMovedItems;
+                            tTotalItemsMoved += tMovedItems;
+                            // deduct spare space
+                            aScratch.keySpare[tKey] -= tMovedItems;
+                            if (aScratch.keySpare[tKey] == 0) aScratch.keyHasSpare[tKey] = false;
+
+                            if (tStackSize == 0) fromInventory.setInventorySlotContents(grabSlot, null);
+                            else tGrabStack.stackSize = tStackSize;
+
+                            fromInventory.markDirty();
+                            toInventory.markDirty();
+                        }
+                    }
+                }
+                // still stuff to move & have completely empty slots
+                if (tStackSize > 0 && aScratch.freeLive > 0) {
+                    for (int i = 0; i < aScratch.freeCount; i++) {
+                        final int tPutSlot = aScratch.freeSlots[i];
+                        if (tPutSlot < 0) continue;
+                        if (isAllowedToPutIntoSlot(toInventory, tPutSlot, putSide, tGrabStack, (byte) 64)) {
+                            // allowed, now do moving
+                            final int tMoved = moveStackFromSlotAToSlotB(
+                                fromInventory,
+                                toInventory,
+                                grabSlot,
+                                tPutSlot,
+                                aMaxTargetStackSize,
+                                aMinTargetStackSize,
+                                (byte) (aMaxMoveAtOnce - tMovedItems),
+                                aMinMoveAtOnce);
+                            if (tMoved > 0) {
+                                final ItemStack s = toInventory.getStackInSlot(tPutSlot);
+                                if (s != null) {
+                                    // s might be null if tPutInventory is very special, e.g. infinity chest
+                                    // if s is null, we will not mark this slot as target candidate for anything
+                                    final int spare = Math
+                                        .min(s.getMaxStackSize(), toInventory.getInventoryStackLimit())
+                                        - s.stackSize;
+                                    if (spare > 0) {
+                                        // add back to spare space count and to partially filled slot list
+                                        aScratch.addPartialStack(s, spare);
+                                    }
+                                    // this is no longer free
+                                    aScratch.removeFreeSlot(i);
+                                }
+                                // else -> noop
+                                // this is still a free slot. no need to do anything.
+                                tTotalItemsMoved += tMoved;
+                                tMovedItems += tMoved;
+                                tStackSize -= tMoved;
+                                if (tStackSize == 0) break;
+                            }
+                        }
+                    }
+                }
+
+                if (tMovedItems > 0) {
+                    // check if we have moved enough stacks
+                    if (++tStacksMoved >= aMaxStackTransfer) return tTotalItemsMoved;
+                }
+            } while (tMovedItems > 0 && tStackSize > 0); // support inventories that store more than a stack in a
+            // slot
+        }
+
+        // check if source is a double chest, if yes, try move from the adjacent as well
+        if (aDoCheckChests && fromInventory instanceof TileEntityChest chest) {
+            final int tAmount = moveFromAdjacentChests(
+                chest,
+                toObject,
+                fromSide,
+                putSide,
+                aFilter,
+                aInvertFilter,
+                aMaxTargetStackSize,
+                aMinTargetStackSize,
+                aMaxMoveAtOnce,
+                aMinMoveAtOnce,
+                aMaxStackTransfer - tStacksMoved);
+            if (tAmount != 0) return tAmount + tTotalItemsMoved;
+        }
+
+        // check if target is a double chest, if yes, try move to the adjacent as well
+        if (aDoCheckChests && toObject instanceof TileEntityChest chest) {
+            final int tAmount = moveToAdjacentChests(
+                fromInventory,
+                chest,
+                fromSide,
+                putSide,
+                aFilter,
+                aInvertFilter,
+                aMaxTargetStackSize,
+                aMinTargetStackSize,
+                aMaxMoveAtOnce,
+                aMinMoveAtOnce,
+                aMaxStackTransfer - tStacksMoved);
+            if (tAmount != 0) return tAmount + tTotalItemsMoved;
+        }
+
+        return tTotalItemsMoved;
+    }
+
+    private static int moveToAdjacentChests(IInventory aTileEntity1, TileEntityChest aTargetChest,
+        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
+        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
+        int aMaxStackTransfer) {
+        if (!aTargetChest.adjacentChestChecked) return 0;
+        final TileEntityChest tAdjacent = getAdjacentChest(aTargetChest);
+        if (tAdjacent == null) return 0;
+        return moveMultipleItemStacks(
+            aTileEntity1,
+            tAdjacent,
+            fromSide,
+            putSide,
+            aFilter,
+            aInvertFilter,
+            aMaxTargetStackSize,
+            aMinTargetStackSize,
+            aMaxMoveAtOnce,
+            aMinMoveAtOnce,
+            aMaxStackTransfer,
+            false);
+    }
+
+    private static int moveFromAdjacentChests(TileEntityChest fromTileEntityChest, Object toObject,
+        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
+        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
+        int aMaxStackTransfer) {
+        final TileEntityChest tAdjacent = getAdjacentChest(fromTileEntityChest);
+        if (tAdjacent == null) return 0;
+        return moveMultipleItemStacks(
+            tAdjacent,
+            toObject,
+            fromSide,
+            putSide,
+            aFilter,
+            aInvertFilter,
+            aMaxTargetStackSize,
+            aMinTargetStackSize,
+            aMaxMoveAtOnce,
+            aMinMoveAtOnce,
+            aMaxStackTransfer,
+            false);
+    }
+
+    private static TileEntityChest getAdjacentChest(TileEntityChest aChest) {
+        if (aChest.adjacentChestXNeg != null) return aChest.adjacentChestXNeg;
+        if (aChest.adjacentChestZNeg != null) return aChest.adjacentChestZNeg;
+        if (aChest.adjacentChestXPos != null) return aChest.adjacentChestXPos;
+        return aChest.adjacentChestZPos;
+    }
+
+    /**
+     * Per thread working memory of a single transfer. Keys compare like {@link GTUtility.ItemId#createNoCopy}: item
+     * identity, raw meta and NBT equality.
+     */
+    private static final class Scratch {
+
+        private boolean mInUse;
+
+        int[] grabSlots = new int[0];
+        int grabCount;
+
+        /** Free target slots in scan order, -1 once filled. */
+        int[] freeSlots = new int[0];
+        int freeCount, freeLive;
+
+        /** Open addressed, holds key index + 1, 0 for empty buckets. */
+        private int[] mTable = new int[0];
+        private int mMask;
+
+        int keyCount;
+        private Item[] mKeyItems = new Item[0];
+        private int[] mKeyMetas = new int[0];
+        private NBTTagCompound[] mKeyTags = new NBTTagCompound[0];
+        boolean[] keyHasSpare = new boolean[0];
+        int[] keySpare = new int[0];
+        int[] keyHead = new int[0];
+        private int[] mKeyTails = new int[0];
+
+        /** Partially filled target stacks, chained per key in insertion order. */
+        private int mEntryCount;
+        ItemStack[] entryStacks = new ItemStack[0];
+        int[] entryNext = new int[0];
+
+        static Scratch acquire() {
+            Scratch rScratch = sScratch.get();
+            // inventory callbacks may start another transfer on this thread, give that one its own memory
+            if (rScratch.mInUse) rScratch = new Scratch();
+            rScratch.mInUse = true;
+            return rScratch;
+        }
+
+        void release() {
+            Arrays.fill(mKeyItems, 0, keyCount, null);
+            Arrays.fill(mKeyTags, 0, keyCount, null);
+            Arrays.fill(entryStacks, 0, mEntryCount, null);
+            grabCount = freeCount = freeLive = keyCount = mEntryCount = 0;
+            mInUse = false;
+        }
+
+        void clearGrabSlots(int aCapacity) {
+            if (grabSlots.length < aCapacity) grabSlots = new int[aCapacity];
+            grabCount = 0;
+        }
+
+        void clearPutSlots(int aSlots) {
+            if (freeSlots.length < aSlots) freeSlots = new int[aSlots];
+            freeCount = freeLive = 0;
+            // every slot is seen at most twice: once as partially filled or free, once more after a free one is filled
+            ensureKeyCapacity(2 * aSlots);
+            int tTableSize = Integer.highestOneBit(Math.max(2, 4 * aSlots) - 1) << 1;
+            if (mTable.length < tTableSize) mTable = new int[tTableSize];
+            else Arrays.fill(mTable, 0, tTableSize, 0);
+            mMask = tTableSize - 1;
+        }
+
+        void addFreeSlot(int aSlot) {
+            freeSlots[freeCount++] = aSlot;
+            freeLive++;
+        }
+
+        void removeFreeSlot(int aIndex) {
+            freeSlots[aIndex] = -1;
+            freeLive--;
+        }
+
+        /**
+         * @return Key index of the stack, -1 if it has not been seen
+         */
+        int findKey(ItemStack aStack) {
+            final Item tItem = aStack.getItem();
+            final int tMeta = Items.feather.getDamage(aStack);
+            final NBTTagCompound tTag = aStack.getTagCompound();
+            for (int i = hash(tItem, tMeta) & mMask;; i = (i + 1) & mMask) {
+                final int tKey = mTable[i] - 1;
+                if (tKey < 0) return -1;
+                if (mKeyItems[tKey] == tItem && mKeyMetas[tKey] == tMeta
+                    && (tTag == null ? mKeyTags[tKey] == null : tTag.equals(mKeyTags[tKey]))) return tKey;
+            }
+        }
+
+        /**
+         * Appends a partially filled stack to the candidates of its key and adds its spare room to the key.
+         */
+        void addPartialStack(ItemStack aStack, int aSpare) {
+            int tKey = findKey(aStack);
+            if (tKey < 0) {
+                tKey = keyCount++;
+                mKeyItems[tKey] = aStack.getItem();
+                mKeyMetas[tKey] = Items.feather.getDamage(aStack);
+                mKeyTags[tKey] = aStack.getTagCompound();
+                keyHasSpare[tKey] = false;
+                keyHead[tKey] = mKeyTails[tKey] = -1;
+                int i = hash(mKeyItems[tKey], mKeyMetas[tKey]) & mMask;
+                while (mTable[i] != 0) i = (i + 1) & mMask;
+                mTable[i] = tKey + 1;
+            }
+            if (keyHasSpare[tKey]) {
+                keySpare[tKey] += aSpare;
+            } else {
+                keyHasSpare[tKey] = true;
+                keySpare[tKey] = aSpare;
+            }
+            final int tEntry = mEntryCount++;
+            entryStacks[tEntry] = aStack;
+            entryNext[tEntry] = -1;
+            if (mKeyTails[tKey] < 0) keyHead[tKey] = tEntry;
+            else entryNext[mKeyTails[tKey]] = tEntry;
+            mKeyTails[tKey] = tEntry;
+        }
+
+        void removeEntry(int aKey, int aPrev, int aEntry) {
+            if (aPrev < 0) keyHead[aKey] = entryNext[aEntry];
+            else entryNext[aPrev] = entryNext[aEntry];
+            if (mKeyTails[aKey] == aEntry) mKeyTails[aKey] = aPrev;
+        }
+
+        private void ensureKeyCapacity(int aCapacity) {
+            if (mKeyItems.length >= aCapacity) return;
+            mKeyItems = new Item[aCapacity];
+            mKeyMetas = new int[aCapacity];
+            mKeyTags = new NBTTagCompound[aCapacity];
+            keyHasSpare = new boolean[aCapacity];
+            keySpare = new int[aCapacity];
+            keyHead = new int[aCapacity];
+            mKeyTails = new int[aCapacity];
+            entryStacks = new ItemStack[aCapacity];
+            entryNext = new int[aCapacity];
+        }
+
+        private static int hash(Item aItem, int aMeta) {
+            final int h = System.identityHashCode(aItem) * 31 + aMeta;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -4,8 +4,14 @@ import static gregtech.api.enums.GTValues.E;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -27,6 +33,10 @@ public class GTLanguageManager {
      * Buffer to reduce memory allocation when injecting data to LanguageRegistry.
      */
     private static final HashMap<String, String> TEMPMAP = new HashMap<>();
+    /**
+     * Entries waiting to be injected to LanguageRegistry, see {@link #flushPendingTranslations()}.
+     */
+    private static final Map<String, String> PENDINGMAP = new ConcurrentHashMap<>();
     /**
      * Buffer used when something is trying to add new lang entry while config file is not set up yet.
      */
@@ -34,7 +44,7 @@ public class GTLanguageManager {
     /**
      * Map containing all the translation data coming into this class.
      */
-    private static final Map<String, String> LANGMAP = new HashMap<>();
+    private static final Map<String, String> LANGMAP = new ConcurrentHashMap<>();
     /**
      * Config file handler bound to GregTech.lang or GregTech_(locale_name).lang. Even though it says English file,
      * it's not necessarily English, but on system it's always treated as English (as in, "default" language.)
@@ -53,6 +63,20 @@ public class GTLanguageManager {
      * If there's any lang entry that is not found on lang file and waiting to be written.
      */
     private static boolean hasUnsavedEntry = false;
+    /**
+     * Seconds to wait after a change to the lang file before writing it, so that a burst of new entries is saved once.
+     */
+    private static final int SAVE_DELAY_SECONDS = 5;
+    /**
+     * Writes the lang file after postload. The thread is a daemon; entries it didn't get to are written again on the
+     * next start, as they are added on every start.
+     */
+    private static final ScheduledExecutorService LANG_FILE_WRITER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "GT lang file writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicBoolean isSaveScheduled = new AtomicBoolean();
 
     // TODO: convert to enum
     public static String FACE_ANY = "gt.lang.face.any", FACE_BOTTOM = "gt.lang.face.bottom",
@@ -85,16 +109,23 @@ public class GTLanguageManager {
      *             use {@link #addStringLocalization(String, String)} or consider migrating to MC lang system instead.
      */
     @Deprecated
-    public static synchronized String addStringLocalization(String aKey, String aEnglish, boolean aWriteIntoLangFile) {
+    public static String addStringLocalization(String aKey, String aEnglish, boolean aWriteIntoLangFile) {
         return addStringLocalization(aKey, aEnglish);
     }
 
     /**
      * If you newly use this method, please consider using MC lang system instead.
      */
-    public static synchronized String addStringLocalization(String aKey, String aEnglish) {
+    public static String addStringLocalization(String aKey, String aEnglish) {
         String trimmedKey = aKey != null ? aKey.trim() : "";
         if (trimmedKey.isEmpty()) return E; // RIP cascading class loading, don't use GT_Utility here
+        // known keys don't need the lock, LANGMAP only gets filled once the lang file is set up
+        String known = LANGMAP.get(trimmedKey);
+        if (known != null) return known;
+        return addNewStringLocalization(trimmedKey, aEnglish);
+    }
+
+    private static synchronized String addNewStringLocalization(String trimmedKey, String aEnglish) {
         if (sEnglishFile == null) {
             // Lang file is not set up yet
             BUFFERMAP.put(trimmedKey, aEnglish);
@@ -117,21 +148,38 @@ public class GTLanguageManager {
 
     private static synchronized String storeTranslation(String trimmedKey, String english) {
         String translation = writeToLangFile(trimmedKey, english);
+        if (translation == null) return null;
         LANGMAP.put(trimmedKey, translation);
         addToMCLangList(trimmedKey, translation);
-        TEMPMAP.put(trimmedKey, translation);
-        LanguageRegistry.instance()
-            // If we use the actual user configured locale here, switching lang to others while running game
-            // turns everything into unlocalized string. So we make it "default" and call it a day.
-            .injectLanguage("en_US", TEMPMAP);
-        TEMPMAP.clear();
+        PENDINGMAP.put(trimmedKey, translation);
         return translation;
     }
 
+    /**
+     * Injects the entries added since the last call to LanguageRegistry in one go, so they survive a resource reload.
+     * Called at the end of each load phase and of every tick. Until then, {@link StatCollector} already knows them.
+     */
+    public static void flushPendingTranslations() {
+        if (PENDINGMAP.isEmpty()) return;
+        synchronized (GTLanguageManager.class) {
+            for (Iterator<Entry<String, String>> it = PENDINGMAP.entrySet()
+                .iterator(); it.hasNext();) {
+                Entry<String, String> tEntry = it.next();
+                TEMPMAP.put(tEntry.getKey(), tEntry.getValue());
+                it.remove();
+            }
+            LanguageRegistry.instance()
+                // If we use the actual user configured locale here, switching lang to others while running game
+                // turns everything into unlocalized string. So we make it "default" and call it a day.
+                .injectLanguage("en_US", TEMPMAP);
+            TEMPMAP.clear();
+        }
+    }
+
     private static synchronized String writeToLangFile(String trimmedKey, String aEnglish) {
         Property tProperty = sEnglishFile.get("LanguageFile", trimmedKey, aEnglish);
         if (hasUnsavedEntry && GregTechAPI.sPostloadFinished) {
-            sEnglishFile.save();
+            scheduleSave();
             hasUnsavedEntry = false;
         }
         String translation = tProperty.getString();
@@ -149,12 +197,25 @@ public class GTLanguageManager {
 
     private static synchronized void markFileDirty() {
         if (GregTechAPI.sPostloadFinished) {
-            sEnglishFile.save();
+            scheduleSave();
         } else {
             hasUnsavedEntry = true;
         }
     }
 
+    private static void scheduleSave() {
+        if (isSaveScheduled.compareAndSet(false, true)) {
+            LANG_FILE_WRITER.schedule(GTLanguageManager::saveLangFile, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void saveLangFile() {
+        isSaveScheduled.set(false);
+        synchronized (GTLanguageManager.class) {
+            sEnglishFile.save();
+        }
+    }
+
     public static String getTranslation(String aKey) {
         String tTrimmedKey = aKey != null ? aKey.trim() : "";
         if (tTrimmedKey.isEmpty()) return E;
@@ -0,0 +1,74 @@
+package gregtech.api.util;
+
+import java.util.Arrays;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * Lazily built item + meta → ore id cache, for ore dictionary membership tests in hot loops.
+ * <p>
+ * {@link OreDictionary#getOreIDs(ItemStack)} builds a fresh set and array on every call, and
+ * {@link OreDictionary#getOres(String)} has to be compared stack by stack. This memoizes the former per item id and
+ * meta, so repeated lookups of the same kind of stack are a single hash lookup plus a scan of a few ints.
+ * <p>
+ * The cache is dropped on every {@link OreDictionary.OreRegisterEvent} and on item id remapping, since the key uses
+ * the numeric item id just like the ore dictionary itself.
+ */
+public final class GTOreDictMembership {
+
+    private static final int[] NO_IDS = new int[0];
+    private static final Long2ObjectOpenHashMap<int[]> sCache = new Long2ObjectOpenHashMap<>();
+
+    private GTOreDictMembership() {}
+
+    /**
+     * @return Sorted ore ids of the stack, the same ids {@link OreDictionary#getOreIDs(ItemStack)} returns. The array
+     *         is shared, do <b>NOT</b> mutate it.
+     */
+    public static int[] getOreIDs(ItemStack aStack) {
+        if (aStack == null) return NO_IDS;
+        Item tItem = aStack.getItem();
+        if (tItem == null) return NO_IDS;
+        long tKey = ((long) Item.getIdFromItem(tItem) << 32) | (aStack.getItemDamage() & 0xFFFFFFFFL);
+        synchronized (sCache) {
+            int[] rIDs = sCache.get(tKey);
+            if (rIDs == null) {
+                rIDs = OreDictionary.getOreIDs(aStack);
+                if (rIDs.length == 0) {
+                    rIDs = NO_IDS;
+                } else {
+                    Arrays.sort(rIDs);
+                }
+                sCache.put(tKey, rIDs);
+            }
+            return rIDs;
+        }
+    }
+
+    public static boolean hasOre(ItemStack aStack, int aOreID) {
+        if (aOreID < 0) return false;
+        for (int tID : getOreIDs(aStack)) {
+            if (tID == aOreID) return true;
+            if (tID > aOreID) return false;
+        }
+        return false;
+    }
+
+    /**
+     * Unlike {@link OreDictionary#getOreID(String)}, this does not register the name if it does not exist yet.
+     */
+    public static boolean hasOre(ItemStack aStack, String aOreName) {
+        if (aOreName == null || !OreDictionary.doesOreNameExist(aOreName)) return false;
+        return hasOre(aStack, OreDictionary.getOreID(aOreName));
+    }
+
+    public static void invalidate() {
+        synchronized (sCache) {
+            sCache.clear();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static gregtech.api.enums.GTValues.M;
 import static gregtech.api.enums.GTValues.W;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -23,6 +24,7 @@ import gregtech.api.enums.Dyes;
 import gregtech.api.enums.Materials;
 import gregtech.api.enums.OrePrefixes;
 import gregtech.api.enums.SubTag;
+import gregtech.api.objects.GTItemIdTable;
 import gregtech.api.objects.GTItemStack;
 import gregtech.api.objects.ItemData;
 import gregtech.api.objects.MaterialStack;
@@ -43,10 +45,26 @@ public class GTOreDictUnificator {
     private static final Map<String, ItemStack> sName2StackMap = new HashMap<>();
     private static final Map<ItemStack, ItemData> sItemStack2DataMap = new Object2ObjectOpenCustomHashMap<>(
         GTItemStack.ITEMSTACK_HASH_STRATEGY2);
+    /**
+     * The values of {@link #sItemStack2DataMap} by the {@link GTItemIdTable#findItem} index of their item and then by
+     * meta, so that {@link #getItemData} is one lock-free item lookup and a couple of array loads instead of a map
+     * lookup with a freshly allocated wildcard stack. Slots are written in place and the tables are published again
+     * after every write, they are only replaced when they have to grow.
+     */
+    private static volatile ItemData[][] sItemDataByMeta = new ItemData[0][];
+    /** The wildcard meta entries of {@link #sItemStack2DataMap}, by item index. */
+    private static volatile ItemData[] sWildcardItemData = new ItemData[0];
     private static final Map<ItemStack, List<ItemStack>> sUnificationTable = new Object2ObjectOpenCustomHashMap<>(
         GTItemStack.ITEMSTACK_HASH_STRATEGY2);
+    /** Set once {@link #sUnificationTable} is filled, readers only look at the table after seeing it. */
+    private static volatile boolean sUnificationTableBuilt = false;
     private static final Set<ItemStack> sNoUnificationList = new ObjectOpenCustomHashSet<>(
         GTItemStack.ITEMSTACK_HASH_STRATEGY2);
+    /**
+     * {@link OreDictionary#getOres(String)} registers unknown names, which must not happen concurrently when the ore
+     * processing runs on worker threads.
+     */
+    private static final Object sOreNameLock = new Object();
     private static int isRegisteringOre = 0, isAddingOre = 0;
     private static boolean mRunThroughTheList = true;
 
@@ -294,25 +312,38 @@ public class GTOreDictUnificator {
         return GTUtility.areStacksEqual(rStack, unified_tStack, true);
     }
 
-    public static List<ItemStack> getNonUnifiedStacks(Object obj) {
-        if (sUnificationTable.isEmpty() && !sItemStack2DataMap.isEmpty()) {
-            // use something akin to double check lock. this synchronization overhead is causing lag whenever my
-            // 5900x tries to do NEI lookup
-            synchronized (sUnificationTable) {
-                if (sUnificationTable.isEmpty() && !sItemStack2DataMap.isEmpty()) {
-                    for (ItemStack tGTStack0 : sItemStack2DataMap.keySet()) {
-                        ItemStack tStack0 = GTItemStack.internalCopyStack(tGTStack0);
-                        ItemStack tStack1 = get_nocopy(false, tStack0);
-                        if (!GTUtility.areStacksEqual(tStack0, tStack1)) {
-                            List<ItemStack> list = sUnificationTable.computeIfAbsent(tStack1, k -> new ArrayList<>());
-                            // greg's original code tries to dedupe the list using List#contains, which won't work
-                            // on vanilla ItemStack. I removed it since it never worked and can be slow.
-                            list.add(tStack0);
-                        }
-                    }
+    /**
+     * Fills the unification targets of the item data and the table of {@link #getNonUnifiedStacks}, which lookups
+     * otherwise fill in lazily, so that lookups from several threads at once only read them.
+     */
+    public static void prepareConcurrentLookups() {
+        for (ItemData tPrefixMaterial : sItemStack2DataMap.values()) {
+            if (tPrefixMaterial.hasValidPrefixMaterialData() && tPrefixMaterial.mUnificationTarget == null)
+                tPrefixMaterial.mUnificationTarget = sName2StackMap.get(tPrefixMaterial.toString());
+        }
+        buildUnificationTable();
+    }
+
+    private static void buildUnificationTable() {
+        synchronized (sUnificationTable) {
+            if (sUnificationTableBuilt || sItemStack2DataMap.isEmpty()) return;
+            for (ItemStack tGTStack0 : sItemStack2DataMap.keySet()) {
+                ItemStack tStack0 = GTItemStack.internalCopyStack(tGTStack0);
+                ItemStack tStack1 = get_nocopy(false, tStack0);
+                if (!GTUtility.areStacksEqual(tStack0, tStack1)) {
+                    List<ItemStack> list = sUnificationTable.computeIfAbsent(tStack1, k -> new ArrayList<>());
+                    // greg's original code tries to dedupe the list using List#contains, which won't work
+                    // on vanilla ItemStack. I removed it since it never worked and can be slow.
+                    list.add(tStack0);
                 }
             }
+            sUnificationTableBuilt = true;
         }
+    }
+
+    public static List<ItemStack> getNonUnifiedStacks(Object obj) {
+        // the volatile flag instead of the emptiness of the table, which is read while it is being filled
+        if (!sUnificationTableBuilt) buildUnificationTable();
         ItemStack[] aStacks = {};
         if (obj instanceof ItemStack) aStacks = new ItemStack[] { (ItemStack) obj };
         else if (obj instanceof ItemStack[]) aStacks = (ItemStack[]) obj;
@@ -365,6 +396,7 @@ public class GTOreDictUnificator {
                 aStack = GTUtility.copyAmount(1, aStack);
             }
             sItemStack2DataMap.put(aStack, aData);
+            setItemDataByMeta(aStack, aData);
             if (aData.hasValidMaterialData()) {
                 long tValidMaterialAmount = aData.mMaterial.mMaterial.contains(SubTag.NO_RECYCLING) ? 0
                     : aData.mMaterial.mAmount >= 0 ? aData.mMaterial.mAmount : M;
@@ -397,6 +429,37 @@ public class GTOreDictUnificator {
             return;
         }
         sItemStack2DataMap.remove(aStack);
+        setItemDataByMeta(aStack, null);
+    }
+
+    private static synchronized void setItemDataByMeta(ItemStack aStack, ItemData aData) {
+        int tMeta = Items.feather.getDamage(aStack);
+        // other metas are rare enough to be left to the map
+        if (tMeta < 0 || tMeta > W) return;
+        int tItem = aData == null ? GTItemIdTable.findItem(aStack.getItem())
+            : GTItemIdTable.internItem(aStack.getItem());
+        if (tItem == GTItemIdTable.NOT_FOUND) return;
+        if (tMeta == W) {
+            sWildcardItemData = setSlot(sWildcardItemData, tItem, aData);
+            return;
+        }
+        ItemData[][] tTable = sItemDataByMeta;
+        if (tItem >= tTable.length) {
+            if (aData == null) return;
+            tTable = Arrays.copyOf(tTable, Math.max(tItem + 1, tTable.length * 2));
+        }
+        ItemData[] tMetas = tTable[tItem];
+        tTable[tItem] = setSlot(tMetas == null ? new ItemData[0] : tMetas, tMeta, aData);
+        sItemDataByMeta = tTable;
+    }
+
+    private static ItemData[] setSlot(ItemData[] aTable, int aIndex, ItemData aData) {
+        if (aIndex >= aTable.length) {
+            if (aData == null) return aTable;
+            aTable = Arrays.copyOf(aTable, Math.max(aIndex + 1, aTable.length * 2));
+        }
+        aTable[aIndex] = aData;
+        return aTable;
     }
 
     public static void addAssociation(OrePrefixes aPrefix, Materials aMaterial, ItemStack aStack,
@@ -410,13 +473,27 @@ public class GTOreDictUnificator {
     @Nullable
     public static ItemData getItemData(ItemStack aStack) {
         if (GTUtility.isStackInvalid(aStack)) return null;
-        ItemData rData = sItemStack2DataMap.get(aStack);
+        int tMeta = Items.feather.getDamage(aStack);
+        if (tMeta < 0 || tMeta > W) return getItemDataFromMap(aStack);
+        int tItem = GTItemIdTable.findItem(aStack.getItem());
+        if (tItem == GTItemIdTable.NOT_FOUND) return null;
+        ItemData[][] tTable = sItemDataByMeta;
+        ItemData[] tMetas = tItem < tTable.length ? tTable[tItem] : null;
+        ItemData rData = tMetas != null && tMeta < tMetas.length ? tMetas[tMeta] : null;
         if (rData == null) { // Try the lookup again but with wildcard damage value
-            rData = sItemStack2DataMap.get(GTItemStack.internalCopyStack(aStack, true));
+            ItemData[] tWildcards = sWildcardItemData;
+            rData = tItem < tWildcards.length ? tWildcards[tItem] : null;
         }
         return rData;
     }
 
+    @Nullable
+    private static ItemData getItemDataFromMap(ItemStack aStack) {
+        ItemData rData = sItemStack2DataMap.get(aStack);
+        if (rData == null) rData = sItemStack2DataMap.get(GTItemStack.internalCopyStack(aStack, true));
+        return rData;
+    }
+
     @Nullable
     public static ItemData getAssociation(ItemStack aStack) {
         ItemData rData = getItemData(aStack);
@@ -425,6 +502,8 @@ public class GTOreDictUnificator {
 
     public static boolean isItemStackInstanceOf(ItemStack aStack, Object aName) {
         if (GTUtility.isStringInvalid(aName) || GTUtility.isStackInvalid(aStack)) return false;
+        // a wildcard stack matches any meta of the ore stacks, which the id cache does not cover
+        if (Items.feather.getDamage(aStack) != W) return GTOreDictMembership.hasOre(aStack, aName.toString());
         for (ItemStack tOreStack : getOresImmutable(aName.toString()))
             if (GTUtility.areStacksEqual(tOreStack, aStack, true)) return true;
         return false;
@@ -569,7 +648,7 @@ public class GTOreDictUnificator {
     public static ArrayList<ItemStack> getOres(Object aOreName) {
         String aName = aOreName == null ? E : aOreName.toString();
         ArrayList<ItemStack> rList = new ArrayList<>();
-        if (GTUtility.isStringValid(aName)) rList.addAll(OreDictionary.getOres(aName));
+        if (GTUtility.isStringValid(aName)) rList.addAll(getOresSynchronized(aName));
         return rList;
     }
 
@@ -580,10 +659,16 @@ public class GTOreDictUnificator {
     public static List<ItemStack> getOresImmutable(@Nullable Object aOreName) {
         String aName = aOreName == null ? E : aOreName.toString();
 
-        return GTUtility.isStringValid(aName) ? Collections.unmodifiableList(OreDictionary.getOres(aName))
+        return GTUtility.isStringValid(aName) ? Collections.unmodifiableList(getOresSynchronized(aName))
             : Collections.emptyList();
     }
 
+    private static List<ItemStack> getOresSynchronized(String aName) {
+        synchronized (sOreNameLock) {
+            return OreDictionary.getOres(aName);
+        }
+    }
+
     public static Map<String, ItemStack> getName2StackMap() {
         return sName2StackMap;
     }
@@ -0,0 +1,58 @@
+package gregtech.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Runs tasks on a fork-join pool, one partition at a time per worker. Tasks with the same partition key run one after
+ * another on the same thread in input order, tasks of different partitions run in parallel. The results are returned
+ * in input order, so as long as the tasks of different partitions don't depend on each other, the outcome is the same
+ * as running them all serially.
+ */
+public final class GTPartitionedTasks {
+
+    private GTPartitionedTasks() {}
+
+    /**
+     * @param aPartition   Key of the partition a task belongs to, may be null
+     * @param aTask        The task, its result may be null
+     * @param aParallelism Number of worker threads
+     * @return The results of the tasks, in the same order as the inputs
+     */
+    public static <T, R> List<R> map(List<T> aInputs, Function<? super T, ?> aPartition,
+        Function<? super T, ? extends R> aTask, int aParallelism) {
+        Map<Object, IntArrayList> tPartitions = new LinkedHashMap<>();
+        for (int i = 0; i < aInputs.size(); i++) {
+            tPartitions.computeIfAbsent(aPartition.apply(aInputs.get(i)), k -> new IntArrayList())
+                .add(i);
+        }
+        List<IntArrayList> tOrderedPartitions = new ArrayList<>(tPartitions.values());
+        Object[] tResults = new Object[aInputs.size()];
+        ForkJoinPool tPool = new ForkJoinPool(Math.max(1, aParallelism));
+        try {
+            tPool.submit(() -> tOrderedPartitions.parallelStream()
+                .forEach(tIndices -> {
+                    for (int j = 0; j < tIndices.size(); j++) {
+                        int i = tIndices.getInt(j);
+                        tResults[i] = aTask.apply(aInputs.get(i));
+                    }
+                }))
+                .get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to run partitioned tasks", e);
+        } finally {
+            tPool.shutdown();
+        }
+        @SuppressWarnings("unchecked")
+        List<R> rResults = (List<R>) Arrays.asList(tResults);
+        return rResults;
+    }
+}
@@ -0,0 +1,85 @@
+package gregtech.api.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import gregtech.api.interfaces.IRecipeMap;
+
+/**
+ * Thread confined buffer of recipe additions. While {@link #capture} runs a task, {@link GTRecipeBuilder#addTo} on the
+ * same thread stores a copy of the builder here instead of adding it, and {@link #flush} adds the stored builders
+ * later, in the order they were added. Lets recipe registration code run on worker threads while the recipemaps are
+ * only touched by the main thread.
+ * <p>
+ * Captured additions return an empty collection from {@link GTRecipeBuilder#addTo}, so the captured code must not
+ * depend on the added recipes.
+ */
+public final class GTRecipeBuffer {
+
+    private static final ThreadLocal<GTRecipeBuffer> sCurrent = new ThreadLocal<>();
+
+    private final List<IRecipeMap> mTargets = new ArrayList<>();
+    private final List<GTRecipeBuilder> mBuilders = new ArrayList<>();
+
+    /**
+     * Runs the task with the recipe additions of this thread going into this buffer.
+     */
+    public GTRecipeBuffer capture(Runnable aTask) {
+        GTRecipeBuffer tPrevious = sCurrent.get();
+        sCurrent.set(this);
+        try {
+            aTask.run();
+        } finally {
+            if (tPrevious == null) {
+                sCurrent.remove();
+            } else {
+                sCurrent.set(tPrevious);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return Whether the addition was stored in the buffer of the current thread
+     */
+    static boolean offer(IRecipeMap aTarget, GTRecipeBuilder aBuilder) {
+        GTRecipeBuffer tBuffer = sCurrent.get();
+        if (tBuffer == null) return false;
+        tBuffer.mTargets.add(aTarget);
+        tBuffer.mBuilders.add(aBuilder.copy());
+        return true;
+    }
+
+    /**
+     * Adds the stored recipes to their targets and empties the buffer. If another buffer is capturing on the current
+     * thread, the recipes go into that one instead, like any other addition.
+     */
+    public void flush() {
+        for (int i = 0; i < mTargets.size(); i++) {
+            IRecipeMap tTarget = mTargets.get(i);
+            GTRecipeBuilder tBuilder = mBuilders.get(i);
+            if (!offer(tTarget, tBuilder)) tTarget.doAdd(tBuilder);
+        }
+        mTargets.clear();
+        mBuilders.clear();
+    }
+
+    public int size() {
+        return mTargets.size();
+    }
+
+    /**
+     * @return The recipemaps the stored recipes are meant for, in the order they were added
+     */
+    public List<IRecipeMap> getTargets() {
+        return Collections.unmodifiableList(mTargets);
+    }
+
+    /**
+     * @return The stored recipes, in the order they were added
+     */
+    public List<GTRecipeBuilder> getBuilders() {
+        return Collections.unmodifiableList(mBuilders);
+    }
+}
@@ -47,7 +47,8 @@ public class GTRecipeBuilder {
     // Any stable release should be tested at least once with this: -Dgt.recipebuilder.panic.collision=true
     private static final boolean PANIC_MODE_COLLISION;
 
-    // This should only be enabled in non stable instances only with -Dgt.recipebuilder.recipe_collision_check=true
+    // Enable with -Dgt.recipebuilder.recipe_collision_check=true. Checks are staged during load and run in parallel
+    // right before load complete, see RecipeMap#runStagedCollisionChecks
     public static final boolean ENABLE_COLLISION_CHECK;
 
     public static final int WILDCARD = 32767;
@@ -899,7 +900,7 @@ public class GTRecipeBuilder {
     }
 
     public Collection<GTRecipe> addTo(IRecipeMap recipeMap) {
-        if (skip) {
+        if (skip || GTRecipeBuffer.offer(recipeMap, this)) {
             return Collections.emptyList();
         }
         return recipeMap.doAdd(this);
@@ -0,0 +1,58 @@
+package gregtech.api.util;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * Wake conditions and counters for dormant GregTech tiles.
+ * <p>
+ * A machine with nothing to do can put its tile to sleep with {@link IGregTechTileEntity#sleep}. The tile stays in the
+ * world's tile entity list, but its update only checks the timer and skips covers, energy averaging, the meta tile's
+ * tick methods and client syncing, until one of the wake conditions happens. Right clicks, facing changes and
+ * enabling or disabling the machine always wake it, tiles with covers never sleep.
+ */
+public final class GTTickScheduler {
+
+    /** Items or fluids were inserted or extracted. */
+    public static final int WAKE_ON_INVENTORY = 1;
+    /** Energy was offered to the tile. */
+    public static final int WAKE_ON_ENERGY = 2;
+    /** An adjacent block changed or a machine block update reached the tile. */
+    public static final int WAKE_ON_NEIGHBOUR = 4;
+    /** The strongest redstone input changed. */
+    public static final int WAKE_ON_REDSTONE = 8;
+
+    private static int awake, dormant, lastAwake, lastDormant;
+
+    private GTTickScheduler() {}
+
+    public static void countAwake() {
+        awake++;
+    }
+
+    public static void countDormant() {
+        dormant++;
+    }
+
+    /**
+     * Publishes the counts of the finished server tick. Called at the end of each server tick.
+     */
+    public static void onServerTickEnd() {
+        lastAwake = awake;
+        lastDormant = dormant;
+        awake = dormant = 0;
+    }
+
+    /**
+     * @return How many server side tiles ran their full update in the last server tick
+     */
+    public static int getAwakeTiles() {
+        return lastAwake;
+    }
+
+    /**
+     * @return How many server side tiles slept through the last server tick
+     */
+    public static int getDormantTiles() {
+        return lastDormant;
+    }
+}
@@ -801,406 +801,19 @@ public class GTUtility {
         ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter, byte aMaxTargetStackSize,
         byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce, int aMaxStackTransfer,
         boolean aDoCheckChests) {
-        if (fromInventory == null || aMaxTargetStackSize <= 0
-            || aMinTargetStackSize <= 0
-            || aMaxMoveAtOnce <= 0
-            || aMinTargetStackSize > aMaxTargetStackSize
-            || aMinMoveAtOnce > aMaxMoveAtOnce
-            || aMaxStackTransfer == 0) return 0;
-
-        // find where to take from
-        final int[] tGrabSlots = new int[fromInventory.getSizeInventory()];
-        int tGrabSlotsSize = 0;
-        if (fromInventory instanceof ISidedInventory) {
-            for (int i : ((ISidedInventory) fromInventory).getAccessibleSlotsFromSide(fromSide.ordinal())) {
-                final ItemStack s = fromInventory.getStackInSlot(i);
-                if (s == null || !isAllowedToTakeFromSlot(fromInventory, i, fromSide, s)
-                    || s.stackSize < aMinMoveAtOnce
-                    || !listContainsItem(aFilter, s, true, aInvertFilter)) continue;
-                tGrabSlots[tGrabSlotsSize++] = i;
-            }
-        } else {
-            for (int i = 0; i < tGrabSlots.length; i++) {
-                ItemStack s = fromInventory.getStackInSlot(i);
-                if (s == null || s.stackSize < aMinMoveAtOnce || !listContainsItem(aFilter, s, true, aInvertFilter))
-                    continue;
-                tGrabSlots[tGrabSlotsSize++] = i;
-            }
-        }
-
-        // no source, bail out
-        if (tGrabSlotsSize == 0) {
-            // maybe source is a double chest. check it
-            if (aDoCheckChests && fromInventory instanceof TileEntityChest chest) return moveFromAdjacentChests(
-                chest,
-                toObject,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aMaxStackTransfer);
-            return 0;
-        }
-
-        // if target is an inventory, e.g. chest, machine, drawers...
-        if (toObject instanceof IInventory toInventory) {
-
-            // partially filled slot spare space mapping.
-            // value is the sum of all spare space left not counting completely empty slot
-            final HashMap<ItemId, Integer> tPutItems = new HashMap<>(toInventory.getSizeInventory());
-            // partially filled slot contents
-            final HashMap<ItemId, List<ItemStack>> tPutItemStacks = new HashMap<>(toInventory.getSizeInventory());
-            // completely empty slots
-            final List<Integer> tPutFreeSlots = new ArrayList<>(toInventory.getSizeInventory());
-
-            // find possible target slots
-            int[] accessibleSlots = null;
-            if (toObject instanceof ISidedInventory sided)
-                accessibleSlots = sided.getAccessibleSlotsFromSide(putSide.ordinal());
-            for (int i = 0; i < toInventory.getSizeInventory(); i++) {
-                int slot = i;
-                if (accessibleSlots != null) {
-                    if (accessibleSlots.length <= i) break;
-                    slot = accessibleSlots[slot];
-                }
-                ItemStack s = toInventory.getStackInSlot(slot);
-                if (s == null) {
-                    tPutFreeSlots.add(slot);
-                } else if ((s.stackSize < s.getMaxStackSize() && s.stackSize < toInventory.getInventoryStackLimit())
-                    && aMinMoveAtOnce <= s.getMaxStackSize() - s.stackSize
-                    && isAllowedToPutIntoSlot(toInventory, slot, putSide, s, (byte) 64)) {
-                        ItemId sID = ItemId.createNoCopy(s);
-                        tPutItems.merge(
-                            sID,
-                            (Math.min(s.getMaxStackSize(), toInventory.getInventoryStackLimit()) - s.stackSize),
-                            Integer::sum);
-                        tPutItemStacks.computeIfAbsent(sID, k -> new ArrayList<>())
-                            .add(s);
-                    }
-            }
-
-            // target completely filled, bail out
-            if (tPutItems.isEmpty() && tPutFreeSlots.isEmpty()) {
-                // maybe target is a double chest. check it.
-                if (aDoCheckChests && toObject instanceof TileEntityChest chest) return moveToAdjacentChests(
-                    fromInventory,
-                    chest,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer);
-                return 0;
-            }
-
-            // go over source stacks one by one
-            int tStacksMoved = 0, tTotalItemsMoved = 0;
-            for (int j = 0; j < tGrabSlotsSize; j++) {
-                final int grabSlot = tGrabSlots[j];
-                int tMovedItems;
-                int tStackSize;
-                do {
-                    tMovedItems = 0;
-                    final ItemStack tGrabStack = fromInventory.getStackInSlot(grabSlot);
-                    if (tGrabStack == null) break;
-                    tStackSize = tGrabStack.stackSize;
-                    final ItemId sID = ItemId.createNoCopy(tGrabStack);
-
-                    if (tPutItems.containsKey(sID)) {
-                        // there is a partially filled slot, try merging
-                        final int canPut = Math.min(tPutItems.get(sID), aMaxMoveAtOnce);
-                        if (canPut >= aMinMoveAtOnce) {
-                            final List<ItemStack> putStack = tPutItemStacks.get(sID);
-                            if (!putStack.isEmpty()) {
-                                // can move, do merge
-                                int toPut = Math.min(canPut, tStackSize);
-                                tMovedItems = toPut;
-                                for (int i = 0; i < putStack.size(); i++) {
-                                    final ItemStack s = putStack.get(i);
-                                    final int sToPut = Math.min(
-                                        Math.min(
-                                            Math.min(toPut, s.getMaxStackSize() - s.stackSize),
-                                            toInventory.getInventoryStackLimit() - s.stackSize),
-                                        aMaxTargetStackSize - s.stackSize);
-                                    if (sToPut <= 0) continue;
-                                    if (sToPut < aMinMoveAtOnce) continue;
-                                    if (s.stackSize + sToPut < aMinTargetStackSize) continue;
-                                    toPut -= sToPut;
-                                    s.stackSize += sToPut;
-                                    if (s.stackSize == s.getMaxStackSize()
-                                        || s.stackSize == toInventory.getInventoryStackLimit()) {
-                                        // this slot is full. remove this stack from candidate list
-                                        putStack.remove(i);
-                                        i--;
-                                    }
-                                    if (toPut == 0) break;
-                                }
-                                tMovedItems -= toPut;
-                                if (tMovedItems > 0) {
-                                    tStackSize -= tMovedItems;
-                                    tTotalItemsMoved += tMovedItems;
-                                    // deduct spare space
-                                    tPutItems.merge(sID, tMovedItems, (a, b) -> a.equals(b) ? null : a - b);
-
-                                    if (tStackSize == 0) fromInventory.setInventorySlotContents(grabSlot, null);
-                                    else tGrabStack.stackSize = tStackSize;
-
-                                    fromInventory.markDirty();
-                                    toInventory.markDirty();
-                                }
-                            }
-                        }
-                    }
-                    // still stuff to move & have completely empty slots
-                    if (tStackSize > 0 && !tPutFreeSlots.isEmpty()) {
-                        for (int i = 0; i < tPutFreeSlots.size(); i++) {
-                            final int tPutSlot = tPutFreeSlots.get(i);
-                            if (isAllowedToPutIntoSlot(toInventory, tPutSlot, putSide, tGrabStack, (byte) 64)) {
-                                // allowed, now do moving
-                                final int tMoved = moveStackFromSlotAToSlotB(
-                                    fromInventory,
-                                    toInventory,
-                                    grabSlot,
-                                    tPutSlot,
-                                    aMaxTargetStackSize,
-                                    aMinTargetStackSize,
-                                    (byte) (aMaxMoveAtOnce - tMovedItems),
-                                    aMinMoveAtOnce);
-                                if (tMoved > 0) {
-                                    final ItemStack s = toInventory.getStackInSlot(tPutSlot);
-                                    if (s != null) {
-                                        // s might be null if tPutInventory is very special, e.g. infinity chest
-                                        // if s is null, we will not mark this slot as target candidate for anything
-                                        final int spare = Math
-                                            .min(s.getMaxStackSize(), toInventory.getInventoryStackLimit())
-                                            - s.stackSize;
-                                        if (spare > 0) {
-                                            final ItemId ssID = ItemId.createNoCopy(s);
-                                            // add back to spare space count
-                                            tPutItems.merge(ssID, spare, Integer::sum);
-                                            // add to partially filled slot list
-                                            tPutItemStacks.computeIfAbsent(ssID, k -> new ArrayList<>())
-                                                .add(s);
-                                        }
-                                        // this is no longer free
-                                        tPutFreeSlots.remove(i);
-                                        i--;
-                                    }
-                                    // else -> noop
-                                    // this is still a free slot. no need to do anything.
-                                    tTotalItemsMoved += tMoved;
-                                    tMovedItems += tMoved;
-                                    tStackSize -= tMoved;
-                                    if (tStackSize == 0) break;
-                                }
-                            }
-                        }
-                    }
-
-                    if (tMovedItems > 0) {
-                        // check if we have moved enough stacks
-                        if (++tStacksMoved >= aMaxStackTransfer) return tTotalItemsMoved;
-                    }
-                } while (tMovedItems > 0 && tStackSize > 0); // support inventories that store more than a stack in a
-                // slot
-            }
-
-            // check if source is a double chest, if yes, try move from the adjacent as well
-            if (aDoCheckChests && fromInventory instanceof TileEntityChest chest) {
-                final int tAmount = moveFromAdjacentChests(
-                    chest,
-                    toObject,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer - tStacksMoved);
-                if (tAmount != 0) return tAmount + tTotalItemsMoved;
-            }
-
-            // check if target is a double chest, if yes, try move to the adjacent as well
-            if (aDoCheckChests && toObject instanceof TileEntityChest chest) {
-                final int tAmount = moveToAdjacentChests(
-                    fromInventory,
-                    chest,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer - tStacksMoved);
-                if (tAmount != 0) return tAmount + tTotalItemsMoved;
-            }
-
-            return tTotalItemsMoved;
-        }
-        // there should be a function to transfer more than 1 stack in a pipe
-        // however I do not see any ways to improve it. too much work for what it is worth
-        int tTotalItemsMoved = 0;
-        final int tGrabInventorySize = tGrabSlots.length;
-        for (int i = 0; i < tGrabInventorySize; i++) {
-            final int tMoved = moveStackIntoPipe(
-                fromInventory,
-                toObject,
-                tGrabSlots,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aDoCheckChests);
-            if (tMoved == 0) return tTotalItemsMoved;
-            else tTotalItemsMoved += tMoved;
-        }
-        return 0;
-    }
-
-    private static int moveToAdjacentChests(IInventory aTileEntity1, TileEntityChest aTargetChest,
-        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
-        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
-        int aMaxStackTransfer) {
-        if (aTargetChest.adjacentChestChecked) {
-            if (aTargetChest.adjacentChestXNeg != null) {
-                return moveMultipleItemStacks(
-                    aTileEntity1,
-                    aTargetChest.adjacentChestXNeg,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer,
-                    false);
-            } else if (aTargetChest.adjacentChestZNeg != null) {
-                return moveMultipleItemStacks(
-                    aTileEntity1,
-                    aTargetChest.adjacentChestZNeg,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer,
-                    false);
-            } else if (aTargetChest.adjacentChestXPos != null) {
-                return moveMultipleItemStacks(
-                    aTileEntity1,
-                    aTargetChest.adjacentChestXPos,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer,
-                    false);
-            } else if (aTargetChest.adjacentChestZPos != null) {
-                return moveMultipleItemStacks(
-                    aTileEntity1,
-                    aTargetChest.adjacentChestZPos,
-                    fromSide,
-                    putSide,
-                    aFilter,
-                    aInvertFilter,
-                    aMaxTargetStackSize,
-                    aMinTargetStackSize,
-                    aMaxMoveAtOnce,
-                    aMinMoveAtOnce,
-                    aMaxStackTransfer,
-                    false);
-            }
-        }
-        return 0;
-    }
-
-    private static int moveFromAdjacentChests(TileEntityChest fromTileEntityChest, Object toObject,
-        ForgeDirection fromSide, ForgeDirection putSide, List<ItemStack> aFilter, boolean aInvertFilter,
-        byte aMaxTargetStackSize, byte aMinTargetStackSize, byte aMaxMoveAtOnce, byte aMinMoveAtOnce,
-        int aMaxStackTransfer) {
-        if (fromTileEntityChest.adjacentChestXNeg != null) {
-            return moveMultipleItemStacks(
-                fromTileEntityChest.adjacentChestXNeg,
-                toObject,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aMaxStackTransfer,
-                false);
-        } else if (fromTileEntityChest.adjacentChestZNeg != null) {
-            return moveMultipleItemStacks(
-                fromTileEntityChest.adjacentChestZNeg,
-                toObject,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aMaxStackTransfer,
-                false);
-        } else if (fromTileEntityChest.adjacentChestXPos != null) {
-            return moveMultipleItemStacks(
-                fromTileEntityChest.adjacentChestXPos,
-                toObject,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aMaxStackTransfer,
-                false);
-        } else if (fromTileEntityChest.adjacentChestZPos != null) {
-            return moveMultipleItemStacks(
-                fromTileEntityChest.adjacentChestZPos,
-                toObject,
-                fromSide,
-                putSide,
-                aFilter,
-                aInvertFilter,
-                aMaxTargetStackSize,
-                aMinTargetStackSize,
-                aMaxMoveAtOnce,
-                aMinMoveAtOnce,
-                aMaxStackTransfer,
-                false);
-        }
-        return 0;
+        return GTItemTransfer.moveMultipleItemStacks(
+            fromInventory,
+            toObject,
+            fromSide,
+            putSide,
+            aFilter,
+            aInvertFilter,
+            aMaxTargetStackSize,
+            aMinTargetStackSize,
+            aMaxMoveAtOnce,
+            aMinMoveAtOnce,
+            aMaxStackTransfer,
+            aDoCheckChests);
     }
 
     /**
@@ -1677,10 +1290,11 @@ public class GTUtility {
      * @param drainSide side used during draining operation
      * @param maxAmount max amount of fluid to transfer. method become noop if this is not a positive integer
      * @param allowMove filter. can be null to signal all fluids are accepted
+     * @return amount of fluid filled into dest
      */
-    public static void moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide, int maxAmount,
+    public static int moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide, int maxAmount,
         @Nullable Predicate<FluidStack> allowMove) {
-        moveFluid(source, dest, drainSide, drainSide.getOpposite(), maxAmount, allowMove);
+        return moveFluid(source, dest, drainSide, drainSide.getOpposite(), maxAmount, allowMove);
     }
 
     /**
@@ -1693,17 +1307,19 @@ public class GTUtility {
      * @param fillSide  side used during filling operation
      * @param maxAmount max amount of fluid to transfer. method become noop if this is not a positive integer
      * @param allowMove filter. can be null to signal all fluids are accepted
+     * @return amount of fluid filled into dest
      */
-    public static void moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide,
+    public static int moveFluid(IFluidHandler source, IFluidHandler dest, ForgeDirection drainSide,
         ForgeDirection fillSide, int maxAmount, @Nullable Predicate<FluidStack> allowMove) {
-        if (source == null || dest == null || maxAmount <= 0) return;
+        if (source == null || dest == null || maxAmount <= 0) return 0;
         FluidStack liquid = source.drain(drainSide, maxAmount, false);
-        if (liquid == null) return;
+        if (liquid == null) return 0;
         liquid = liquid.copy();
         liquid.amount = dest.fill(fillSide, liquid, false);
         if (liquid.amount > 0 && (allowMove == null || allowMove.test(liquid))) {
-            dest.fill(fillSide, source.drain(drainSide, liquid.amount, true), true);
+            return dest.fill(fillSide, source.drain(drainSide, liquid.amount, true), true);
         }
+        return 0;
     }
 
     public static boolean listContainsItem(Collection<ItemStack> aList, ItemStack aStack, boolean aTIfListEmpty,
@@ -0,0 +1,392 @@
+package gregtech.api.util;
+
+import java.math.BigInteger;
+
+/**
+ * Mutable fixed-width 128-bit unsigned integer, meant as an allocation free replacement of {@link BigInteger} for EU
+ * accumulators updated every tick.
+ * <p>
+ * Every arithmetic operation comes in an exact flavour, which throws {@link ArithmeticException} instead of
+ * overflowing or going below zero, and a saturating one, which clamps the result to {@code [0, MAX]}. Operations
+ * mutate and return this instance.
+ * <p>
+ * {@link #toByteArray()} and {@link #fromByteArray(byte[])} use the same encoding as {@link BigInteger#toByteArray()}
+ * and {@link BigInteger#BigInteger(byte[])}, so this can replace BigInteger fields already persisted in NBT.
+ */
+public final class UInt128 implements Comparable<UInt128> {
+
+    private long high;
+    private long low;
+
+    public UInt128() {}
+
+    public UInt128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    public UInt128(UInt128 other) {
+        this(other.high, other.low);
+    }
+
+    /**
+     * @param value Must not be negative
+     */
+    public static UInt128 valueOf(long value) {
+        return new UInt128().set(value);
+    }
+
+    public static UInt128 max() {
+        return new UInt128(-1L, -1L);
+    }
+
+    /**
+     * @throws ArithmeticException If the value is negative or does not fit in 128 bits
+     */
+    public static UInt128 valueOfExact(BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > 128) {
+            throw new ArithmeticException("Out of 128-bit unsigned range: " + value);
+        }
+        return new UInt128(
+            value.shiftRight(64)
+                .longValue(),
+            value.longValue());
+    }
+
+    /**
+     * Negative values become zero, values above {@link #max()} become max.
+     */
+    public static UInt128 valueOfSaturating(BigInteger value) {
+        if (value.signum() <= 0) return new UInt128();
+        if (value.bitLength() > 128) return max();
+        return valueOfExact(value);
+    }
+
+    /**
+     * Reads the encoding of {@link BigInteger#toByteArray()}. Empty array reads as zero, same as a missing NBT tag.
+     *
+     * @throws ArithmeticException If the value is negative or does not fit in 128 bits
+     */
+    public static UInt128 fromByteArray(byte[] bytes) {
+        if (bytes.length == 0) return new UInt128();
+        if (bytes[0] < 0) throw new ArithmeticException("Negative value");
+        int start = 0;
+        while (start < bytes.length - 1 && bytes[start] == 0) start++;
+        if (bytes.length - start > 16) throw new ArithmeticException("Out of 128-bit unsigned range");
+        long high = 0, low = 0;
+        for (int i = start; i < bytes.length; i++) {
+            high = (high << 8) | (low >>> 56);
+            low = (low << 8) | (bytes[i] & 0xFF);
+        }
+        return new UInt128(high, low);
+    }
+
+    /**
+     * Same as {@link #fromByteArray(byte[])}, but clamps out of range values instead of throwing.
+     */
+    public static UInt128 fromByteArraySaturating(byte[] bytes) {
+        if (bytes.length == 0) return new UInt128();
+        return valueOfSaturating(new BigInteger(bytes));
+    }
+
+    // region accessors
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public boolean isZero() {
+        return (high | low) == 0;
+    }
+
+    public boolean isMax() {
+        return (high & low) == -1L;
+    }
+
+    /**
+     * @return Whether the value fits in a non-negative long.
+     */
+    public boolean fitsInLong() {
+        return high == 0 && low >= 0;
+    }
+
+    /**
+     * @return The value, or {@link Long#MAX_VALUE} if it does not fit in a long.
+     */
+    public long longValueSaturating() {
+        return fitsInLong() ? low : Long.MAX_VALUE;
+    }
+
+    /**
+     * @throws ArithmeticException If the value does not fit in a long
+     */
+    public long longValueExact() {
+        if (!fitsInLong()) throw new ArithmeticException("Out of long range");
+        return low;
+    }
+
+    public double doubleValue() {
+        return fitsInLong() ? low : toBigInteger().doubleValue();
+    }
+
+    public BigInteger toBigInteger() {
+        if (fitsInLong()) return BigInteger.valueOf(low);
+        return new BigInteger(1, toMagnitude());
+    }
+
+    /**
+     * @return Same bytes as {@link BigInteger#toByteArray()} of this value would produce.
+     */
+    public byte[] toByteArray() {
+        byte[] magnitude = toMagnitude();
+        int start = 0;
+        while (start < magnitude.length - 1 && magnitude[start] == 0) start++;
+        boolean pad = magnitude[start] < 0;
+        byte[] ret = new byte[magnitude.length - start + (pad ? 1 : 0)];
+        System.arraycopy(magnitude, start, ret, pad ? 1 : 0, magnitude.length - start);
+        return ret;
+    }
+
+    private byte[] toMagnitude() {
+        byte[] ret = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            ret[i] = (byte) (high >>> (56 - 8 * i));
+            ret[i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+        return ret;
+    }
+
+    // endregion
+
+    // region setters
+
+    public UInt128 set(UInt128 other) {
+        high = other.high;
+        low = other.low;
+        return this;
+    }
+
+    /**
+     * @param value Must not be negative
+     */
+    public UInt128 set(long value) {
+        if (value < 0) throw new IllegalArgumentException("Value must not be negative");
+        high = 0;
+        low = value;
+        return this;
+    }
+
+    public UInt128 setZero() {
+        high = 0;
+        low = 0;
+        return this;
+    }
+
+    public UInt128 setMax() {
+        high = -1L;
+        low = -1L;
+        return this;
+    }
+
+    // endregion
+
+    // region arithmetic
+
+    /**
+     * Adds signed delta.
+     *
+     * @throws ArithmeticException If the result is negative or overflows
+     */
+    public UInt128 addExact(long delta) {
+        if (!addInternal(delta)) throw new ArithmeticException(delta < 0 ? "Underflow" : "Overflow");
+        return this;
+    }
+
+    /**
+     * Adds signed delta, clamping the result to {@code [0, MAX]}.
+     */
+    public UInt128 addSaturating(long delta) {
+        if (!addInternal(delta)) {
+            if (delta < 0) setZero();
+            else setMax();
+        }
+        return this;
+    }
+
+    /**
+     * @throws ArithmeticException If the result overflows
+     */
+    public UInt128 addExact(UInt128 other) {
+        if (!addInternal(other)) throw new ArithmeticException("Overflow");
+        return this;
+    }
+
+    public UInt128 addSaturating(UInt128 other) {
+        if (!addInternal(other)) setMax();
+        return this;
+    }
+
+    /**
+     * @throws ArithmeticException If the result would be negative
+     */
+    public UInt128 subtractExact(UInt128 other) {
+        if (compareTo(other) < 0) throw new ArithmeticException("Underflow");
+        long newLow = low - other.low;
+        long borrow = Long.compareUnsigned(low, other.low) < 0 ? 1 : 0;
+        high = high - other.high - borrow;
+        low = newLow;
+        return this;
+    }
+
+    /**
+     * Subtracts other, clamping the result at zero.
+     */
+    public UInt128 subtractSaturating(UInt128 other) {
+        if (compareTo(other) <= 0) return setZero();
+        return subtractExact(other);
+    }
+
+    /**
+     * @param factor Must not be negative
+     * @throws ArithmeticException If the result overflows
+     */
+    public UInt128 multiplyExact(long factor) {
+        if (!multiplyInternal(factor)) throw new ArithmeticException("Overflow");
+        return this;
+    }
+
+    /**
+     * @param factor Must not be negative
+     */
+    public UInt128 multiplySaturating(long factor) {
+        if (!multiplyInternal(factor)) setMax();
+        return this;
+    }
+
+    /**
+     * Truncating division, same as {@link BigInteger#divide}.
+     *
+     * @param divisor Must be positive
+     */
+    public UInt128 divide(long divisor) {
+        divideInternal(divisor);
+        return this;
+    }
+
+    /**
+     * Divides this by divisor.
+     *
+     * @param divisor Must be positive
+     * @return The remainder
+     */
+    public long divideAndRemainder(long divisor) {
+        return divideInternal(divisor);
+    }
+
+    private boolean addInternal(long delta) {
+        if (delta >= 0) {
+            long newLow = low + delta;
+            long newHigh = Long.compareUnsigned(newLow, low) < 0 ? high + 1 : high;
+            if (newHigh == 0 && high == -1L) return false;
+            high = newHigh;
+            low = newLow;
+        } else {
+            long abs = -delta; // Long.MIN_VALUE stays as 2^63 when read unsigned
+            if (high == 0 && Long.compareUnsigned(low, abs) < 0) return false;
+            long newLow = low - abs;
+            if (Long.compareUnsigned(low, abs) < 0) high--;
+            low = newLow;
+        }
+        return true;
+    }
+
+    private boolean addInternal(UInt128 other) {
+        long newLow = low + other.low;
+        long carry = Long.compareUnsigned(newLow, low) < 0 ? 1 : 0;
+        long sumHigh = high + other.high;
+        long newHigh = sumHigh + carry;
+        if (Long.compareUnsigned(sumHigh, high) < 0 || (carry == 1 && newHigh == 0)) return false;
+        high = newHigh;
+        low = newLow;
+        return true;
+    }
+
+    private boolean multiplyInternal(long factor) {
+        if (factor < 0) throw new IllegalArgumentException("Factor must not be negative");
+        long lowHigh = unsignedMultiplyHigh(low, factor);
+        long newLow = low * factor;
+        long highHigh = unsignedMultiplyHigh(high, factor);
+        long highLow = high * factor;
+        long newHigh = highLow + lowHigh;
+        if (highHigh != 0 || Long.compareUnsigned(newHigh, highLow) < 0) return false;
+        high = newHigh;
+        low = newLow;
+        return true;
+    }
+
+    private long divideInternal(long divisor) {
+        if (divisor <= 0) throw new IllegalArgumentException("Divisor must be positive");
+        long remainder = Long.remainderUnsigned(high, divisor);
+        high = Long.divideUnsigned(high, divisor);
+        // remainder < divisor < 2^63, so shifting it left never loses a bit, but it has to be read as unsigned
+        long quotient = 0;
+        for (int i = 63; i >= 0; i--) {
+            remainder = (remainder << 1) | ((low >>> i) & 1);
+            quotient <<= 1;
+            if (Long.compareUnsigned(remainder, divisor) >= 0) {
+                remainder -= divisor;
+                quotient |= 1;
+            }
+        }
+        low = quotient;
+        return remainder;
+    }
+
+    private static long unsignedMultiplyHigh(long a, long b) {
+        long aLow = a & 0xFFFFFFFFL, aHigh = a >>> 32;
+        long bLow = b & 0xFFFFFFFFL, bHigh = b >>> 32;
+        long lowLow = aLow * bLow;
+        long highLow = aHigh * bLow;
+        long lowHigh = aLow * bHigh;
+        long highHigh = aHigh * bHigh;
+        long middle = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + (lowHigh & 0xFFFFFFFFL);
+        return highHigh + (highLow >>> 32) + (lowHigh >>> 32) + (middle >>> 32);
+    }
+
+    // endregion
+
+    @Override
+    public int compareTo(UInt128 other) {
+        int ret = Long.compareUnsigned(high, other.high);
+        return ret != 0 ? ret : Long.compareUnsigned(low, other.low);
+    }
+
+    /**
+     * Compares with a non-negative long, without allocating.
+     */
+    public int compareTo(long other) {
+        if (high != 0 || low < 0) return 1;
+        return Long.compare(low, other);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UInt128 other)) return false;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return toBigInteger().toString();
+    }
+}
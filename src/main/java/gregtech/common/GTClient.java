@@ -78,6 +78,7 @@ import gregtech.api.recipe.RecipeCategory;
 import gregtech.api.util.ColorsMetadataSection;
 import gregtech.api.util.ColorsMetadataSectionSerializer;
 import gregtech.api.util.GTClientPreference;
+import gregtech.api.util.GTLanguageManager;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTMusicSystem;
@@ -873,6 +874,7 @@ public class GTClient extends GTProxy implements Runnable {
     public void onClientTickEvent(cpw.mods.fml.common.gameevent.TickEvent.ClientTickEvent aEvent) {
         if (aEvent.phase == cpw.mods.fml.common.gameevent.TickEvent.Phase.END) {
             GTMusicSystem.ClientSystem.tick();
+            GTLanguageManager.flushPendingTranslations();
 
             if (changeDetected > 0) changeDetected--;
             final int newHideValue = shouldHeldItemHideThings();
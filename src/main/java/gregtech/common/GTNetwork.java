@@ -2,8 +2,14 @@ package gregtech.common;
 
 import static gregtech.GTMod.GT_FML_LOGGER;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -23,17 +29,32 @@ import gregtech.api.net.GTPacket;
 import gregtech.api.net.GTPacketTypes;
 import gregtech.api.net.IGT_NetworkHandler;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.MessageToMessageCodec;
 
+/**
+ * Each payload starts with the packet id. If its highest bit is set, the rest is an int holding the encoded length,
+ * followed by the deflated encoding, see {@link GTPacket#getCompressionThreshold()}. Both sides decode packets sent by
+ * the other one, so a deflated payload is only accepted for packet types that compress, and never inflates to more
+ * than {@link #MAX_INFLATED_LENGTH} bytes.
+ */
 @ChannelHandler.Sharable
 public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> implements IGT_NetworkHandler {
 
+    private static final int COMPRESSED_FLAG = 0x80;
+    private static final int MAX_INFLATED_LENGTH = 1 << 21;
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
     private final EnumMap<Side, FMLEmbeddedChannel> mChannel;
     private final GTPacket[] mSubChannels;
+    /** Per packet id: packets, encoded bytes and payload bytes sent, packets and payload bytes received. */
+    private final AtomicLongArray mSentPackets, mSentBytes, mSentPayloadBytes, mReceivedPackets,
+        mReceivedPayloadBytes;
 
     public GTNetwork() {
         this("GregTech", GTPacketTypes.referencePackets());
@@ -45,34 +66,155 @@ public class GTNetwork extends MessageToMessageCodec<FMLProxyPacket, GTPacket> i
         this.mSubChannels = new GTPacket[lastPId + 1];
         for (GTPacket packetType : packetTypes) {
             final int pId = packetType.getPacketID();
+            if ((pId & COMPRESSED_FLAG) != 0) throw new IllegalArgumentException("Packet ID out of range! " + pId);
             if (this.mSubChannels[pId] == null) this.mSubChannels[pId] = packetType;
             else throw new IllegalArgumentException("Duplicate Packet ID! " + pId);
         }
+        this.mSentPackets = new AtomicLongArray(mSubChannels.length);
+        this.mSentBytes = new AtomicLongArray(mSubChannels.length);
+        this.mSentPayloadBytes = new AtomicLongArray(mSubChannels.length);
+        this.mReceivedPackets = new AtomicLongArray(mSubChannels.length);
+        this.mReceivedPayloadBytes = new AtomicLongArray(mSubChannels.length);
     }
 
     @Override
     protected void encode(ChannelHandlerContext aContext, GTPacket aPacket, List<Object> aOutput) {
-        final ByteBuf tBuf = Unpooled.buffer()
-            .writeByte(aPacket.getPacketID());
-        aPacket.encode(tBuf);
-        aOutput.add(
-            new FMLProxyPacket(
-                tBuf,
-                aContext.channel()
-                    .attr(NetworkRegistry.FML_CHANNEL)
-                    .get()));
+        // the payload's backing array is sent as a whole, so the packet is encoded into a pooled scratch buffer and
+        // only then copied into an array of the exact size
+        final ByteBuf tScratch = PooledByteBufAllocator.DEFAULT.heapBuffer();
+        try {
+            aPacket.encode(tScratch);
+            final byte[] tPayload = toPayload(aPacket, tScratch);
+            aOutput.add(
+                new FMLProxyPacket(
+                    Unpooled.wrappedBuffer(tPayload),
+                    aContext.channel()
+                        .attr(NetworkRegistry.FML_CHANNEL)
+                        .get()));
+        } finally {
+            tScratch.release();
+        }
+    }
+
+    private byte[] toPayload(GTPacket aPacket, ByteBuf aEncoded) {
+        final int tId = aPacket.getPacketID();
+        final int tLength = aEncoded.readableBytes();
+        mSentPackets.incrementAndGet(tId);
+        mSentBytes.addAndGet(tId, tLength);
+        byte[] tPayload = tLength > aPacket.getCompressionThreshold() && tLength <= MAX_INFLATED_LENGTH
+            ? deflate(tId, aEncoded)
+            : null;
+        if (tPayload == null) {
+            tPayload = new byte[1 + tLength];
+            tPayload[0] = (byte) tId;
+            aEncoded.readBytes(tPayload, 1, tLength);
+        }
+        mSentPayloadBytes.addAndGet(tId, tPayload.length);
+        return tPayload;
+    }
+
+    /**
+     * @return The compressed payload, or null if it would not be smaller
+     */
+    private static byte[] deflate(int aId, ByteBuf aEncoded) {
+        final int tLength = aEncoded.readableBytes();
+        final Deflater tDeflater = DEFLATER.get();
+        tDeflater.reset();
+        tDeflater.setInput(aEncoded.array(), aEncoded.arrayOffset() + aEncoded.readerIndex(), tLength);
+        tDeflater.finish();
+        final byte[] tOut = new byte[1 + tLength];
+        int tSize = 5;
+        while (!tDeflater.finished() && tSize < tOut.length) {
+            tSize += tDeflater.deflate(tOut, tSize, tOut.length - tSize);
+        }
+        if (!tDeflater.finished()) return null;
+        tOut[0] = (byte) (aId | COMPRESSED_FLAG);
+        tOut[1] = (byte) (tLength >>> 24);
+        tOut[2] = (byte) (tLength >>> 16);
+        tOut[3] = (byte) (tLength >>> 8);
+        tOut[4] = (byte) tLength;
+        return Arrays.copyOf(tOut, tSize);
     }
 
     @Override
-    protected void decode(ChannelHandlerContext aContext, FMLProxyPacket aPacket, List<Object> aOutput) {
-        final ByteArrayDataInput aData = ByteStreams.newDataInput(
-            aPacket.payload()
-                .array());
-        final GTPacket tPacket = this.mSubChannels[aData.readByte()].decode(aData);
+    protected void decode(ChannelHandlerContext aContext, FMLProxyPacket aPacket, List<Object> aOutput)
+        throws DataFormatException {
+        final byte[] tPayload = aPacket.payload()
+            .array();
+        ByteArrayDataInput aData = ByteStreams.newDataInput(tPayload);
+        final int tId = aData.readUnsignedByte();
+        final int tPId = tId & ~COMPRESSED_FLAG;
+        final GTPacket tPacketType = tPId < mSubChannels.length ? mSubChannels[tPId] : null;
+        if (tPacketType == null) throw new DataFormatException("Unknown GT packet id " + tPId);
+        mReceivedPackets.incrementAndGet(tPId);
+        mReceivedPayloadBytes.addAndGet(tPId, tPayload.length);
+        if (tId != tPId) {
+            if (tPacketType.getCompressionThreshold() == Integer.MAX_VALUE)
+                throw new DataFormatException("GT packet " + tPId + " is never sent compressed");
+            aData = ByteStreams.newDataInput(inflate(tPayload, aData.readInt()));
+        }
+        final GTPacket tPacket = tPacketType.decode(aData);
         tPacket.setINetHandler(aPacket.handler());
         aOutput.add(tPacket);
     }
 
+    /**
+     * @param aLength The encoded length declared by the sender
+     */
+    private static byte[] inflate(byte[] aPayload, int aLength) throws DataFormatException {
+        if (aLength <= 0 || aLength > MAX_INFLATED_LENGTH)
+            throw new DataFormatException("Invalid GT packet length " + aLength);
+        final Inflater tInflater = INFLATER.get();
+        tInflater.reset();
+        tInflater.setInput(aPayload, 5, aPayload.length - 5);
+        final byte[] tOut = new byte[aLength];
+        int tSize = 0;
+        while (tSize < aLength && !tInflater.finished()) {
+            final int tRead = tInflater.inflate(tOut, tSize, aLength - tSize);
+            if (tRead == 0 && (tInflater.needsInput() || tInflater.needsDictionary()))
+                throw new DataFormatException("Truncated GT packet");
+            tSize += tRead;
+        }
+        // a stream that ends exactly at the declared length only reports so on the next call
+        if (tSize == aLength && !tInflater.finished() && tInflater.inflate(new byte[1]) > 0)
+            throw new DataFormatException("GT packet inflates past its declared length " + aLength);
+        if (tSize != aLength || !tInflater.finished())
+            throw new DataFormatException("GT packet does not inflate to its declared length " + aLength);
+        return tOut;
+    }
+
+    /**
+     * @return One line per packet type that was sent or received
+     */
+    public List<String> getTrafficReport() {
+        final List<String> tLines = new ArrayList<>();
+        for (int i = 0; i < mSubChannels.length; i++) {
+            if (mSubChannels[i] == null || mSentPackets.get(i) == 0 && mReceivedPackets.get(i) == 0) continue;
+            tLines.add(
+                String.format(
+                    "%d %s: sent %d (%d bytes, %d on the wire), received %d (%d bytes on the wire)",
+                    i,
+                    mSubChannels[i].getClass()
+                        .getSimpleName(),
+                    mSentPackets.get(i),
+                    mSentBytes.get(i),
+                    mSentPayloadBytes.get(i),
+                    mReceivedPackets.get(i),
+                    mReceivedPayloadBytes.get(i)));
+        }
+        return tLines;
+    }
+
+    public void resetTrafficCounters() {
+        for (int i = 0; i < mSubChannels.length; i++) {
+            mSentPackets.set(i, 0);
+            mSentBytes.set(i, 0);
+            mSentPayloadBytes.set(i, 0);
+            mReceivedPackets.set(i, 0);
+            mReceivedPayloadBytes.set(i, 0);
+        }
+    }
+
     @Override
     public void sendToPlayer(GTPacket aPacket, EntityPlayerMP aPlayer) {
         if (aPacket == null) {
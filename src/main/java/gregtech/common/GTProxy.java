@@ -39,9 +39,11 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -50,6 +52,8 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import net.minecraft.block.Block;
@@ -125,8 +129,10 @@ import gregtech.api.enums.SubTag;
 import gregtech.api.enums.TCAspects.TC_AspectStack;
 import gregtech.api.enums.TierEU;
 import gregtech.api.enums.ToolDictNames;
+import gregtech.api.factory.standard.StandardFactoryGrid;
 import gregtech.api.fluid.GTFluidFactory;
 import gregtech.api.interfaces.IBlockOnWalkOver;
+import gregtech.api.interfaces.IOreRecipeRegistrator;
 import gregtech.api.interfaces.IProjectileItem;
 import gregtech.api.interfaces.IToolStats;
 import gregtech.api.interfaces.internal.IGTMod;
@@ -147,11 +153,15 @@ import gregtech.api.util.GTLanguageManager;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
 import gregtech.api.util.GTMusicSystem;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTPartitionedTasks;
 import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTRecipeBuffer;
 import gregtech.api.util.GTRecipeRegistrator;
 import gregtech.api.util.GTShapedRecipe;
 import gregtech.api.util.GTShapelessRecipe;
+import gregtech.api.util.GTTickScheduler;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.WorldSpawnedEventBuilder;
 import gregtech.common.config.OPStuff;
@@ -160,6 +170,7 @@ import gregtech.common.misc.GlobalEnergyWorldSavedData;
 import gregtech.common.misc.GlobalMetricsCoverDatabase;
 import gregtech.common.misc.spaceprojects.SpaceProjectWorldSavedData;
 import gregtech.common.pollution.Pollution;
+import gregtech.common.tileentities.machines.MEOutputAggregator;
 import gregtech.common.tileentities.machines.multi.drone.MTEDroneCentre;
 import gregtech.nei.GTNEIDefaultHandler;
 
@@ -1595,6 +1606,7 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
 
     @SubscribeEvent
     public void registerOre(OreDictionary.OreRegisterEvent aEvent) {
+        GTOreDictMembership.invalidate();
         ModContainer tContainer = Loader.instance()
             .activeModContainer();
         String aMod = tContainer == null ? "UNKNOWN" : tContainer.getModId();
@@ -2053,12 +2065,12 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
 
     @SuppressWarnings("deprecated")
     public static void stepMaterialsVanilla(Collection<GTProxy.OreDictEventContainer> mEvents,
-        ProgressManager.ProgressBar progressBar) {
+        ProgressManager.ProgressBar progressBar, Consumer<GTProxy.OreDictEventContainer> registration) {
         int size = 5;
         int sizeStep = mEvents.size() / 20 - 1;
         GTProxy.OreDictEventContainer tEvent;
-        for (Iterator<GTProxy.OreDictEventContainer> i$ = mEvents.iterator(); i$.hasNext(); GTProxy
-            .registerRecipes(tEvent)) {
+        for (Iterator<GTProxy.OreDictEventContainer> i$ = mEvents.iterator(); i$.hasNext(); registration
+            .accept(tEvent)) {
             tEvent = i$.next();
             sizeStep--;
             if (sizeStep == 0) {
@@ -2102,6 +2114,10 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
             } else {
                 TICK_LOCK.unlock();
                 GTMusicSystem.ServerSystem.tick();
+                StandardFactoryGrid.flushAll();
+                MEOutputAggregator.flushAll();
+                GTLanguageManager.flushPendingTranslations();
+                GTTickScheduler.onServerTickEnd();
             }
 
             // Making sure it is being freed up in order to prevent exploits or Garbage Collection mishaps.
@@ -2212,6 +2228,13 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
     }
 
     public static void registerRecipes(GTProxy.OreDictEventContainer aOre) {
+        registerRecipes(aOre, tRegistrator -> true);
+    }
+
+    /**
+     * Like {@link #registerRecipes(OreDictEventContainer)}, but only runs the matching registrators of the prefix.
+     */
+    public static void registerRecipes(GTProxy.OreDictEventContainer aOre, Predicate<IOreRecipeRegistrator> aFilter) {
         if ((aOre.mEvent.Ore == null) || (aOre.mEvent.Ore.getItem() == null)
             || (aOre.mPrefix == null)
             || (aOre.mPrefix.isIgnored(aOre.mMaterial))) {
@@ -2225,7 +2248,8 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
             aOre.mMaterial == null ? Materials._NULL : aOre.mMaterial,
             aOre.mEvent.Name,
             aOre.mModID,
-            GTUtility.copyAmount(1, aOre.mEvent.Ore));
+            GTUtility.copyAmount(1, aOre.mEvent.Ore),
+            aFilter);
     }
 
     @SubscribeEvent
@@ -2600,12 +2624,92 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
     @SuppressWarnings("deprecation")
     public void activateOreDictHandler() {
         this.mOreDictActivated = true;
-        ProgressManager.ProgressBar progressBar = ProgressManager.push("Register materials", mEvents.size());
+        Collection<OreDictEventContainer> tEvents = this.mEvents;
+        Consumer<OreDictEventContainer> tRegistration = GTProxy::registerRecipes;
+        if (GTValues.parallelOreProcessing) {
+            // ores registered while buffering clear mEvents, the buffered recipes still have to be added
+            List<OreDictEventContainer> tEventList = new ArrayList<>(this.mEvents);
+            tRegistration = bufferOreRecipes(tEventList);
+            tEvents = tEventList;
+        }
+        ProgressManager.ProgressBar progressBar = ProgressManager.push("Register materials", tEvents.size());
         if (BetterLoadingScreen.isModLoaded()) {
-            GTCLSCompat.stepMaterialsCLS(mEvents, progressBar);
+            GTCLSCompat.stepMaterialsCLS(tEvents, progressBar, tRegistration);
         } else {
-            GTProxy.stepMaterialsVanilla(this.mEvents, progressBar);
+            GTProxy.stepMaterialsVanilla(tEvents, progressBar, tRegistration);
+        }
+    }
+
+    /**
+     * Runs the registrators of the events that aren't thread safe first, in event order on the main thread, and then
+     * the thread safe ones on worker threads, with the events of each material in order on one thread. The thread safe
+     * registrators so see everything the others change, which is only item data without a prefix, and the lazily
+     * built unification tables are filled before the workers start. The recipes of every registrator are buffered,
+     * the returned registration adds those of an event in registrator order, so they end up in the same order as in a
+     * serial run.
+     */
+    public static Consumer<OreDictEventContainer> bufferOreRecipes(List<OreDictEventContainer> aEvents) {
+        long tStart = System.nanoTime();
+        Map<OreDictEventContainer, List<GTRecipeBuffer>> tSerialBuffers = new IdentityHashMap<>(aEvents.size());
+        for (OreDictEventContainer tOre : aEvents) tSerialBuffers.put(tOre, bufferRecipes(tOre, false));
+        GTOreDictUnificator.prepareConcurrentLookups();
+        long tForked = System.nanoTime();
+        List<List<GTRecipeBuffer>> tThreadSafeBuffers = GTPartitionedTasks.map(
+            aEvents,
+            tOre -> tOre.mMaterial,
+            tOre -> bufferRecipes(tOre, true),
+            Runtime.getRuntime()
+                .availableProcessors());
+        Map<OreDictEventContainer, List<GTRecipeBuffer>> tThreadSafeBuffersByEvent = new IdentityHashMap<>(
+            aEvents.size());
+        int tRecipes = 0;
+        for (int i = 0; i < aEvents.size(); i++) {
+            tThreadSafeBuffersByEvent.put(aEvents.get(i), tThreadSafeBuffers.get(i));
+            for (GTRecipeBuffer tBuffer : tThreadSafeBuffers.get(i)) tRecipes += tBuffer.size();
+        }
+        GT_FML_LOGGER.info(
+            "Generated " + tRecipes
+                + " ore processing recipes on worker threads in "
+                + (System.nanoTime() - tForked) / 1_000_000
+                + " ms, "
+                + (System.nanoTime() - tStart) / 1_000_000
+                + " ms including the other registrators");
+        return tOre -> {
+            List<GTRecipeBuffer> tSerial = tSerialBuffers.remove(tOre);
+            if (tSerial == null) {
+                registerRecipes(tOre);
+                return;
+            }
+            Iterator<GTRecipeBuffer> tNextSerial = tSerial.iterator();
+            Iterator<GTRecipeBuffer> tNextThreadSafe = tThreadSafeBuffersByEvent.remove(tOre)
+                .iterator();
+            // processOre tests the registrators in the order it runs them, none of them runs again
+            registerRecipes(tOre, tRegistrator -> {
+                Iterator<GTRecipeBuffer> tNext = tRegistrator.isThreadSafe() ? tNextThreadSafe : tNextSerial;
+                if (tNext.hasNext()) tNext.next()
+                    .flush();
+                return false;
+            });
+        };
+    }
+
+    /**
+     * @return One buffer per registrator of the prefix that is or isn't thread safe, in registrator order
+     */
+    private static List<GTRecipeBuffer> bufferRecipes(OreDictEventContainer aOre, boolean aThreadSafe) {
+        if (aOre.mPrefix == null) return Collections.emptyList();
+        List<IOreRecipeRegistrator> tRegistrators = aOre.mPrefix.getOreProcessing();
+        List<GTRecipeBuffer> rBuffers = new ArrayList<>();
+        for (int i = 0; i < tRegistrators.size(); i++) {
+            if (tRegistrators.get(i)
+                .isThreadSafe() != aThreadSafe) continue;
+            // match by position, a registrator could be added to the prefix twice
+            int tIndex = i;
+            int[] tPosition = { 0 };
+            rBuffers.add(
+                new GTRecipeBuffer().capture(() -> registerRecipes(aOre, tOther -> tPosition[0]++ == tIndex)));
         }
+        return rBuffers;
     }
 
     public static final HashMap<Integer, Pollution> dimensionWisePollution = new HashMap<>(16); // stores
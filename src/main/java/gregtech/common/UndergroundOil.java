@@ -25,6 +25,9 @@ import gregtech.api.objects.GTUODimension;
 import gregtech.api.objects.GTUOFluid;
 import gregtech.api.objects.XSTR;
 import gregtech.api.util.GTChunkAssociatedData;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 
 /**
  * Created by Tec on 29.04.2017.
@@ -34,6 +37,9 @@ public class UndergroundOil {
     public static final short DIVIDER = 5000;
     private static final GT_UndergroundOilStore STORAGE = new GT_UndergroundOilStore();
     private static final ChunkData NIL_FLUID_STACK = new ChunkData(-1, null, null, false);
+    /** Veins kept per dimension by {@link #getPristineAmount}, each covering 8x8 chunks. */
+    private static final int PRISTINE_CACHE_SIZE = 1024;
+    private static final Int2ObjectMap<PristineCache> PRISTINE_CACHES = new Int2ObjectOpenHashMap<>();
 
     /**
      * Effectively just call {@code undergroundOil(te, -1)} for you
@@ -128,19 +134,18 @@ public class UndergroundOil {
         int dimensionId = world.provider.dimensionId;
         GTUODimension dimension = GTMod.gregtechproxy.mUndergroundOil.GetDimension(dimensionId);
         if (dimension == null) return null;
-        // prepare RNG
-        final XSTR tVeinRNG = new XSTR(world.getSeed() + dimensionId * 2L + (chunkX >> 3) + 8267L * (chunkZ >> 3));
-        GTUOFluid uoFluid = dimension.getRandomFluid(tVeinRNG);
-        // nothing here :(
-        if (uoFluid == null || uoFluid.getFluid() == null) return null;
-        // offset each chunk's fluid amount by +-25%
-        // discard random values not for current chunk
-        int veinAverage = uoFluid.getRandomAmount(tVeinRNG);
-        for (int i = 0; i < (((chunkX & 0x7) << 3) | chunkZ & 0x7); i++) {
-            tVeinRNG.next(24);
+        PristineVein vein;
+        synchronized (PRISTINE_CACHES) {
+            PristineCache cache = PRISTINE_CACHES.get(dimensionId);
+            if (cache == null || cache.seed != world.getSeed() || cache.dimension != dimension) {
+                cache = new PristineCache(world.getSeed(), dimensionId, dimension);
+                PRISTINE_CACHES.put(dimensionId, cache);
+            }
+            vein = cache.get(chunkX >> 3, chunkZ >> 3);
         }
-        int amount = (int) ((float) veinAverage * (0.75f + (tVeinRNG.nextFloat() / 2f)));
-        return Pair.of(uoFluid, amount);
+        // nothing here :(
+        if (vein.fluid == null) return null;
+        return Pair.of(vein.fluid, vein.amounts[((chunkX & 0x7) << 3) | chunkZ & 0x7]);
     }
 
     static void migrate(ChunkDataEvent.Load e) {
@@ -255,6 +260,62 @@ public class UndergroundOil {
         }
     }
 
+    /**
+     * Pristine veins of one dimension, least recently used first.
+     */
+    private static final class PristineCache {
+
+        private final long seed;
+        private final int dimensionId;
+        private final GTUODimension dimension;
+        private final Long2ObjectLinkedOpenHashMap<PristineVein> veins = new Long2ObjectLinkedOpenHashMap<>();
+
+        private PristineCache(long seed, int dimensionId, GTUODimension dimension) {
+            this.seed = seed;
+            this.dimensionId = dimensionId;
+            this.dimension = dimension;
+        }
+
+        private PristineVein get(int veinX, int veinZ) {
+            long key = (long) veinX << 32 | veinZ & 0xFFFFFFFFL;
+            PristineVein vein = veins.getAndMoveToLast(key);
+            if (vein == null) {
+                vein = generate(veinX, veinZ);
+                veins.putAndMoveToLast(key, vein);
+                if (veins.size() > PRISTINE_CACHE_SIZE) veins.removeFirst();
+            }
+            return vein;
+        }
+
+        private PristineVein generate(int veinX, int veinZ) {
+            // prepare RNG
+            final XSTR tVeinRNG = new XSTR(seed + dimensionId * 2L + veinX + 8267L * veinZ);
+            GTUOFluid uoFluid = dimension.getRandomFluid(tVeinRNG);
+            if (uoFluid == null || uoFluid.getFluid() == null) return PristineVein.EMPTY;
+            int veinAverage = uoFluid.getRandomAmount(tVeinRNG);
+            // offset each chunk's fluid amount by +-25%, drawn in the order of the chunk index within the vein
+            int[] amounts = new int[64];
+            for (int i = 0; i < amounts.length; i++) {
+                amounts[i] = (int) ((float) veinAverage * (0.75f + (tVeinRNG.nextFloat() / 2f)));
+            }
+            return new PristineVein(uoFluid, amounts);
+        }
+    }
+
+    private static final class PristineVein {
+
+        private static final PristineVein EMPTY = new PristineVein(null, null);
+
+        @Nullable
+        private final GTUOFluid fluid;
+        private final int[] amounts;
+
+        private PristineVein(@Nullable GTUOFluid fluid, int[] amounts) {
+            this.fluid = fluid;
+            this.amounts = amounts;
+        }
+    }
+
     /**
      * Represent the amount of fluid in a given chunk.
      */
@@ -268,6 +329,7 @@ public class UndergroundOil {
         private final String veinKey;
         private final int veinHash;
         private int amount;
+        private int savedAmount;
         private boolean dirty;
 
         private ChunkData(int amount, GTUOFluid veinKey, String veinID) {
@@ -276,6 +338,7 @@ public class UndergroundOil {
 
         private ChunkData(int amount, @Nullable GTUOFluid vein, @Nullable String veinKey, boolean dirty) {
             this.amount = amount;
+            this.savedAmount = amount;
             this.vein = vein;
             this.dirty = dirty;
             if (vein == null) {
@@ -335,5 +398,15 @@ public class UndergroundOil {
         public boolean isSameAsDefault() {
             return !dirty;
         }
+
+        @Override
+        public boolean isChangedSinceSave() {
+            return amount != savedAmount;
+        }
+
+        @Override
+        public void markSaved() {
+            savedAmount = amount;
+        }
     }
 }
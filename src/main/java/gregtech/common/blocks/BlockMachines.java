@@ -99,6 +99,9 @@ public class BlockMachines extends GTGenericBlock implements IDebugableBlock, IT
         if ((tTileEntity instanceof BaseTileEntity)) {
             ((BaseTileEntity) tTileEntity).onAdjacentBlockChange(aTileX, aTileY, aTileZ);
         }
+        if (tTileEntity instanceof BaseMetaTileEntity baseTileEntity) {
+            baseTileEntity.onNeighborChange();
+        }
     }
 
     @Override
@@ -106,6 +109,8 @@ public class BlockMachines extends GTGenericBlock implements IDebugableBlock, IT
         final TileEntity tTileEntity = aWorld.getTileEntity(aX, aY, aZ);
         if ((tTileEntity instanceof BaseMetaPipeEntity)) {
             ((BaseMetaPipeEntity) tTileEntity).onNeighborBlockChange(aX, aY, aZ);
+        } else if (tTileEntity instanceof BaseMetaTileEntity baseTileEntity) {
+            baseTileEntity.onNeighborChange();
         }
     }
 
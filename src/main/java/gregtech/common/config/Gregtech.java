@@ -178,6 +178,11 @@ public class Gregtech {
         @Config.RequiresMcRestart
         public boolean multiThreadedSounds;
 
+        @Config.Comment("If true, the ore processing recipes of thread safe handlers are generated on worker threads during postload.")
+        @Config.DefaultBoolean(false)
+        @Config.RequiresMcRestart
+        public boolean parallelOreProcessing;
+
         @Config.Comment("Max entity amount in the same block for entity craming.")
         @Config.DefaultInt(6)
         @Config.RequiresMcRestart
@@ -474,6 +479,11 @@ public class Gregtech {
         @Config.RequiresMcRestart
         public boolean alwaysReloadChunkloaders;
 
+        @Config.Comment("If true, multiblocks search their recipes on worker threads and start them on a later check.")
+        @Config.DefaultBoolean(false)
+        @Config.RequiresMcRestart
+        public boolean asyncRecipeSearch;
+
         @Config.Comment("If true, then digital chest with AE2 storage bus will be accessible only through AE2")
         @Config.DefaultBoolean(false)
         @Config.RequiresMcRestart
@@ -33,6 +33,7 @@ public class CoverArm extends CoverBehavior {
     protected static final int SLOT_ID_MASK = 0x3FFF;
     protected static final int SLOT_ID_MIN = 0;
     protected static final int CONVERTED_BIT = 0x80000000;
+    private final CoverIdleTracker idleTracker = new CoverIdleTracker();
 
     public CoverArm(CoverContext context, int aTickRate, ITexture coverTexture) {
         super(context, coverTexture);
@@ -77,9 +78,14 @@ public class CoverArm extends CoverBehavior {
             toSlot = coverDataValue & SLOT_ID_MASK;
         }
 
+        if (!idleTracker.shouldTransfer(fromTile, toTile, coverDataValue, aTimer)) {
+            return LegacyCoverData.of(coverDataValue);
+        }
+
+        byte moved = 0;
         if (fromSlot > 0 && toSlot > 0) {
             if (fromTile instanceof IInventory fromInventory && toTile instanceof IInventory toInventory)
-                GTUtility.moveFromSlotToSlot(
+                moved = GTUtility.moveFromSlotToSlot(
                     fromInventory,
                     toInventory,
                     fromSlot - 1,
@@ -94,7 +100,7 @@ public class CoverArm extends CoverBehavior {
             final ForgeDirection toSide;
             if ((coverDataValue & EXPORT_MASK) > 0) toSide = coverSide;
             else toSide = coverSide.getOpposite();
-            GTUtility.moveOneItemStackIntoSlot(
+            moved = GTUtility.moveOneItemStackIntoSlot(
                 fromTile,
                 toTile,
                 toSide,
@@ -109,7 +115,7 @@ public class CoverArm extends CoverBehavior {
             final ForgeDirection toSide;
             if ((coverDataValue & EXPORT_MASK) > 0) toSide = coverSide;
             else toSide = coverSide.getOpposite();
-            if (fromTile instanceof IInventory fromInventory) GTUtility.moveFromSlotToSide(
+            if (fromTile instanceof IInventory fromInventory) moved = GTUtility.moveFromSlotToSide(
                 fromInventory,
                 toTile,
                 fromSlot - 1,
@@ -130,7 +136,7 @@ public class CoverArm extends CoverBehavior {
                 fromSide = coverSide.getOpposite();
                 toSide = coverSide;
             }
-            GTUtility.moveOneItemStack(
+            moved = GTUtility.moveOneItemStack(
                 fromTile,
                 toTile,
                 fromSide,
@@ -142,6 +148,7 @@ public class CoverArm extends CoverBehavior {
                 (byte) 64,
                 (byte) 1);
         }
+        idleTracker.onTransfer(moved > 0, fromTile, toTile, coverDataValue, aTimer);
 
         return LegacyCoverData.of(coverDataValue);
     }
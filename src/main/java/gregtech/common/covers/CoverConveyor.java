@@ -27,6 +27,7 @@ public class CoverConveyor extends CoverBehavior {
 
     public final int mTickRate;
     private final int mMaxStacks;
+    private final CoverIdleTracker idleTracker = new CoverIdleTracker();
 
     public CoverConveyor(CoverContext context, int aTickRate, int maxStacks, ITexture coverTexture) {
         super(context, coverTexture);
@@ -56,8 +57,11 @@ public class CoverConveyor extends CoverBehavior {
         final Object toEntity = coverDataValue % 2 != 0 ? coverable : tTileEntity;
         final ForgeDirection fromSide = coverDataValue % 2 != 0 ? coverSide.getOpposite() : coverSide;
         final ForgeDirection toSide = coverDataValue % 2 == 0 ? coverSide.getOpposite() : coverSide;
+        if (!idleTracker.shouldTransfer(fromEntity, toEntity, coverDataValue, aTimer)) {
+            return LegacyCoverData.of(coverDataValue);
+        }
 
-        moveMultipleItemStacks(
+        final int moved = moveMultipleItemStacks(
             fromEntity,
             toEntity,
             fromSide,
@@ -69,6 +73,7 @@ public class CoverConveyor extends CoverBehavior {
             (byte) 64,
             (byte) 1,
             this.mMaxStacks);
+        idleTracker.onTransfer(moved > 0, fromEntity, toEntity, coverDataValue, aTimer);
 
         return LegacyCoverData.of(coverDataValue);
     }
@@ -0,0 +1,73 @@
+package gregtech.common.covers;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+
+/**
+ * Lets transfer covers sleep while there is nothing to move.
+ * <p>
+ * After a transfer moved nothing, further attempts are skipped for as long as both ends report the same
+ * {@link IGregTechTileEntity#getContentModificationCount()} as right after the failed attempt. Ends which don't track
+ * their contents (pipes, chests, other mods) get an exponential back off instead. Either way an attempt is still made
+ * after a fixed number of ticks, since not everything that can unblock a transfer shows up in the contents (e.g. a
+ * machine being toggled, or a stack changed in place). The limits are in ticks rather than runs, so that slow covers
+ * never wait much longer than their own tick rate.
+ */
+final class CoverIdleTracker {
+
+    /**
+     * Ticks skipped at most while both ends are tracked and unchanged.
+     */
+    static final int MAX_TRACKED_SKIP_TICKS = 100;
+    /**
+     * Cap of the back off for untracked ends, in ticks.
+     */
+    static final int MAX_UNTRACKED_BACKOFF_TICKS = 20;
+
+    private int idleTransfers;
+    private int skipped;
+    private int coverDataValue;
+    private long lastAttempt;
+    private Object from, to;
+    private long fromCount, toCount;
+
+    /**
+     * @param timer The tick timer the cover was called with
+     * @return Whether the cover should attempt a transfer this run
+     */
+    boolean shouldTransfer(Object from, Object to, int coverDataValue, long timer) {
+        if (idleTransfers == 0 || from != this.from || to != this.to || coverDataValue != this.coverDataValue) {
+            return true;
+        }
+        long fromCount = getCount(from);
+        long toCount = getCount(to);
+        if (fromCount != this.fromCount || toCount != this.toCount) return true;
+        boolean tracked = fromCount >= 0 && toCount >= 0;
+        long waited = timer - lastAttempt;
+        if (waited < 0 || waited >= (tracked ? MAX_TRACKED_SKIP_TICKS : MAX_UNTRACKED_BACKOFF_TICKS)) return true;
+        return !tracked && ++skipped >= 1 << (idleTransfers - 1);
+    }
+
+    /**
+     * Must be called after every attempt {@link #shouldTransfer} allowed.
+     */
+    void onTransfer(boolean moved, Object from, Object to, int coverDataValue, long timer) {
+        skipped = 0;
+        if (moved) {
+            idleTransfers = 0;
+            this.from = this.to = null;
+            return;
+        }
+        if (idleTransfers < 31) idleTransfers++;
+        this.from = from;
+        this.to = to;
+        this.coverDataValue = coverDataValue;
+        lastAttempt = timer;
+        // read after the attempt, so that whatever the attempt itself touched does not count as a change
+        fromCount = getCount(from);
+        toCount = getCount(to);
+    }
+
+    private static long getCount(Object tile) {
+        return tile instanceof IGregTechTileEntity gtTile ? gtTile.getContentModificationCount() : -1;
+    }
+}
@@ -25,6 +25,7 @@ import gregtech.common.gui.modularui.widget.CoverDataFollowerToggleButtonWidget;
 public class CoverPump extends CoverBehavior {
 
     public final int mTransferRate;
+    private final CoverIdleTracker idleTracker = new CoverIdleTracker();
 
     public CoverPump(CoverContext context, int aTransferRate, ITexture coverTexture) {
         super(context, coverTexture);
@@ -52,17 +53,23 @@ public class CoverPump extends CoverBehavior {
             final IFluidHandler toAccess = coverable.getITankContainerAtSide(coverSide);
             if (toAccess == null) return LegacyCoverData.of(coverDataValue);
 
-            transferFluid(current, toAccess, coverSide, coverDataValue % 2 == 0);
+            if (idleTracker.shouldTransfer(current, toAccess, coverDataValue, aTimer)) {
+                final int moved = transferFluid(current, toAccess, coverSide, coverDataValue % 2 == 0);
+                idleTracker.onTransfer(moved > 0, current, toAccess, coverDataValue, aTimer);
+            }
         }
         return LegacyCoverData.of(coverDataValue);
     }
 
-    protected void transferFluid(IFluidHandler current, IFluidHandler toAccess, ForgeDirection coverSide,
+    /**
+     * @return Amount of fluid moved
+     */
+    protected int transferFluid(IFluidHandler current, IFluidHandler toAccess, ForgeDirection coverSide,
         boolean export) {
         IFluidHandler source = export ? current : toAccess;
         IFluidHandler dest = export ? toAccess : current;
         ForgeDirection drainSide = export ? coverSide : coverSide.getOpposite();
-        GTUtility.moveFluid(source, dest, drainSide, mTransferRate, this::canTransferFluid);
+        return GTUtility.moveFluid(source, dest, drainSide, mTransferRate, this::canTransferFluid);
     }
 
     protected boolean canTransferFluid(FluidStack fluid) {
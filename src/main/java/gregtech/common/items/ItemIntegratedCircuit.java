@@ -43,6 +43,7 @@ import gregtech.api.util.GTConfig;
 import gregtech.api.util.GTLanguageManager;
 import gregtech.api.util.GTLog;
 import gregtech.api.util.GTModHandler;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.common.gui.modularui.uifactory.SelectItemUIFactory;
 import ic2.core.IC2;
 import ic2.core.IHasGui;
@@ -340,42 +341,38 @@ public class ItemIntegratedCircuit extends GTGenericItem implements INetworkUpda
                     ItemStack toolboxStack = toolboxInventory.getStackInSlot(j);
                     if (toolboxStack == null || toolboxStack.getItem() == null || toolboxStack.stackSize <= 0) continue;
 
-                    for (int id : OreDictionary.getOreIDs(toolboxStack)) {
-                        if (id == screwdriverOreId) {
-                            if (doDamage) {
-                                toolboxStack = toolboxStack.getItem()
-                                    .getContainerItem(toolboxStack);
-                                if (toolboxStack != null && toolboxStack.stackSize <= 0) {
-                                    toolboxInventory.setInventorySlotContents(j, null);
-                                } else {
-                                    toolboxInventory.setInventorySlotContents(j, toolboxStack);
-                                }
+                    if (GTOreDictMembership.hasOre(toolboxStack, screwdriverOreId)) {
+                        if (doDamage) {
+                            toolboxStack = toolboxStack.getItem()
+                                .getContainerItem(toolboxStack);
+                            if (toolboxStack != null && toolboxStack.stackSize <= 0) {
+                                toolboxInventory.setInventorySlotContents(j, null);
+                            } else {
+                                toolboxInventory.setInventorySlotContents(j, toolboxStack);
                             }
-                            return potentialStack; // return the toolbox for display
                         }
+                        return potentialStack; // return the toolbox for display
                     }
                 }
             }
 
             // Screwdriver
-            for (int id : OreDictionary.getOreIDs(potentialStack)) {
-                if (id == screwdriverOreId) {
-                    if (doDamage) {
-                        if (potentialStack.getItem()
-                            .equals(One_Use_craftingToolScrewdriver.getItem())) {
-                            potentialStack.stackSize -= 1;
-                        } else {
-                            potentialStack = potentialStack.getItem()
-                                .getContainerItem(potentialStack);
-                        }
-                        if (potentialStack != null && potentialStack.stackSize <= 0) {
-                            mainInventory[i] = null;
-                        } else {
-                            mainInventory[i] = potentialStack;
-                        }
+            if (GTOreDictMembership.hasOre(potentialStack, screwdriverOreId)) {
+                if (doDamage) {
+                    if (potentialStack.getItem()
+                        .equals(One_Use_craftingToolScrewdriver.getItem())) {
+                        potentialStack.stackSize -= 1;
+                    } else {
+                        potentialStack = potentialStack.getItem()
+                            .getContainerItem(potentialStack);
+                    }
+                    if (potentialStack != null && potentialStack.stackSize <= 0) {
+                        mainInventory[i] = null;
+                    } else {
+                        mainInventory[i] = potentialStack;
                     }
-                    return potentialStack;
                 }
+                return potentialStack;
             }
         }
         return null;
@@ -7,6 +7,7 @@ import static gregtech.common.misc.WirelessNetworkManager.setUserEU;
 import java.lang.reflect.Field;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -17,14 +18,19 @@ import net.minecraft.util.ChatComponentText;
 import net.minecraft.util.ChunkCoordinates;
 import net.minecraft.util.EnumChatFormatting;
 
+import com.google.common.cache.CacheStats;
 import com.gtnewhorizon.structurelib.StructureLib;
 
 import cpw.mods.fml.relauncher.FMLLaunchHandler;
 import gregtech.GTMod;
 import gregtech.api.enums.GTValues;
 import gregtech.api.objects.GTChunkManager;
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBackend;
 import gregtech.api.util.GTMusicSystem;
+import gregtech.api.util.GTTickScheduler;
 import gregtech.api.util.GTUtility;
+import gregtech.common.GTNetwork;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
 import gregtech.common.pollution.Pollution;
 
@@ -37,13 +43,13 @@ public final class GTCommand extends CommandBase {
 
     @Override
     public String getCommandUsage(ICommandSender sender) {
-        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations.";
+        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations, network_stats, tick_stats, recipe_stats.";
     }
 
     private void printHelp(ICommandSender sender) {
         sender.addChatMessage(
             new ChatComponentText(
-                "Usage: gt <toggle|chunks|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations>"));
+                "Usage: gt <toggle|chunks|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations|network_stats|tick_stats|recipe_stats>"));
         sender.addChatMessage(new ChatComponentText("\"toggle D1\" - toggles general.Debug (D1)"));
         sender.addChatMessage(new ChatComponentText("\"toggle D2\" - toggles general.Debug2 (D2)"));
         sender.addChatMessage(new ChatComponentText("\"toggle debugCleanroom\" - toggles cleanroom debug log"));
@@ -101,6 +107,14 @@ public final class GTCommand extends CommandBase {
         sender.addChatMessage(
             new ChatComponentText(
                 "\"dump_music_durations\" - dumps soundmeta/durations.json for all registered records in the game to the log. Client-only"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"network_stats [reset]\" - prints how many GT packets of each type were sent and received, and their size"));
+        sender.addChatMessage(
+            new ChatComponentText("\"tick_stats\" - prints how many GT machines were awake and asleep last tick"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"recipe_stats [reset]\" - prints how often recipe lookups were shared between machines, per recipemap"));
     }
 
     @Override
@@ -116,7 +130,10 @@ public final class GTCommand extends CommandBase {
                 "global_energy_set",
                 "global_energy_join",
                 "global_energy_display",
-                "dump_music_durations")
+                "dump_music_durations",
+                "network_stats",
+                "tick_stats",
+                "recipe_stats")
             .anyMatch(s -> s.startsWith(test)))) {
             Stream
                 .of(
@@ -127,7 +144,10 @@ public final class GTCommand extends CommandBase {
                     "global_energy_set",
                     "global_energy_join",
                     "global_energy_display",
-                    "dump_music_durations")
+                    "dump_music_durations",
+                    "network_stats",
+                    "tick_stats",
+                "recipe_stats")
                 .filter(s -> test.isEmpty() || s.startsWith(test))
                 .forEach(l::add);
         } else if (test.equals("toggle")) {
@@ -344,6 +364,55 @@ public final class GTCommand extends CommandBase {
                 }
                 GTMusicSystem.ClientSystem.dumpAllRecordDurations();
             }
+            case "network_stats" -> {
+                if (!(GTValues.NW instanceof GTNetwork network)) return;
+                if (strings.length > 1 && "reset".equals(strings[1])) {
+                    network.resetTrafficCounters();
+                    sender.addChatMessage(new ChatComponentText("GT network counters reset."));
+                    return;
+                }
+                List<String> lines = network.getTrafficReport();
+                if (lines.isEmpty()) {
+                    sender.addChatMessage(new ChatComponentText("No GT packets sent or received yet."));
+                }
+                for (String line : lines) sender.addChatMessage(new ChatComponentText(line));
+            }
+            case "tick_stats" -> sender.addChatMessage(
+                new ChatComponentText(
+                    "GT machines last tick: " + GTTickScheduler.getAwakeTiles()
+                        + " awake, "
+                        + GTTickScheduler.getDormantTiles()
+                        + " asleep"));
+            case "recipe_stats" -> {
+                boolean reset = strings.length > 1 && "reset".equals(strings[1]);
+                List<RecipeMap<?>> recipeMaps = new ArrayList<>(RecipeMap.ALL_RECIPE_MAPS.values());
+                recipeMaps.sort(Comparator.comparing(recipeMap -> recipeMap.unlocalizedName));
+                boolean any = false;
+                for (RecipeMap<?> recipeMap : recipeMaps) {
+                    RecipeMapBackend backend = recipeMap.getBackend();
+                    if (reset) {
+                        backend.resetMatchCacheStats();
+                        continue;
+                    }
+                    CacheStats stats = backend.getMatchCacheStats();
+                    if (stats.requestCount() == 0) continue;
+                    any = true;
+                    sender.addChatMessage(
+                        new ChatComponentText(
+                            recipeMap.unlocalizedName + ": "
+                                + stats.hitCount()
+                                + " shared, "
+                                + stats.missCount()
+                                + " searched ("
+                                + Math.round(stats.hitRate() * 100)
+                                + "% shared)"));
+                }
+                if (reset) {
+                    sender.addChatMessage(new ChatComponentText("Recipe lookup counters reset."));
+                } else if (!any) {
+                    sender.addChatMessage(new ChatComponentText("No recipe lookups yet."));
+                }
+            }
             default -> {
                 sender
                     .addChatMessage(new ChatComponentText(EnumChatFormatting.RED + "Invalid command/syntax detected."));
@@ -491,6 +491,7 @@ public class Pollution {
     private static final class ChunkData implements GTChunkAssociatedData.IData {
 
         public int amount;
+        private int savedAmount;
 
         private ChunkData() {
             this(0);
@@ -498,6 +499,7 @@ public class Pollution {
 
         private ChunkData(int amount) {
             this.amount = Math.max(0, amount);
+            this.savedAmount = this.amount;
         }
 
         /**
@@ -519,5 +521,15 @@ public class Pollution {
         public boolean isSameAsDefault() {
             return amount == 0;
         }
+
+        @Override
+        public boolean isChangedSinceSave() {
+            return amount != savedAmount;
+        }
+
+        @Override
+        public void markSaved() {
+            savedAmount = amount;
+        }
     }
 }
@@ -0,0 +1,182 @@
+package gregtech.common.tileentities.machines;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import appeng.api.AEApi;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.energy.IEnergySource;
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.networking.storage.IStorageGrid;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.data.IAEFluidStack;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IAEStack;
+import appeng.api.storage.data.IItemList;
+import appeng.me.GridAccessException;
+import appeng.me.helpers.AENetworkProxy;
+import appeng.util.Platform;
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+/**
+ * Pushes the caches of ME output buses and hatches into their grids. The caches of all outputs on one grid are merged
+ * first, so every item and fluid type is inserted once per window rather than once per output, which keeps the number
+ * of storage change notifications on big grids down.
+ * <p>
+ * Outputs queue themselves every tick while their cache holds anything, the queue is flushed every
+ * {@link #FLUSH_INTERVAL} ticks at the end of the server tick. What the grid doesn't take stays in the caches, so
+ * {@link MTEHatchOutputBusME#canAcceptItem()} and {@link MTEHatchOutputME#canAcceptFluid()} keep backing up the
+ * machines like before.
+ */
+public final class MEOutputAggregator<T extends IAEStack<T>> {
+
+    public static final int FLUSH_INTERVAL = 40;
+
+    static final MEOutputAggregator<IAEItemStack> ITEMS = new MEOutputAggregator<>(Kind.ITEMS);
+    static final MEOutputAggregator<IAEFluidStack> FLUIDS = new MEOutputAggregator<>(Kind.FLUIDS);
+
+    private static long ticks;
+
+    /**
+     * An ME output whose cache gets flushed by the aggregator.
+     */
+    interface Output<T extends IAEStack<T>> {
+
+        IGregTechTileEntity getBaseMetaTileEntity();
+
+        AENetworkProxy getProxy();
+
+        BaseActionSource getRequest();
+
+        IItemList<T> getOutputCache();
+    }
+
+    private final Kind kind;
+    private final ReferenceLinkedOpenHashSet<Output<T>> pending = new ReferenceLinkedOpenHashSet<>();
+
+    private MEOutputAggregator(Kind kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Flushes the queued outputs once the window is over. Called at the end of each server tick.
+     */
+    public static void flushAll() {
+        if (++ticks % FLUSH_INTERVAL != 0) return;
+        ITEMS.flush();
+        FLUIDS.flush();
+    }
+
+    void enqueue(Output<T> output) {
+        pending.add(output);
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<IGrid, List<Output<T>>> byGrid = new Reference2ObjectLinkedOpenHashMap<>();
+        for (Output<T> output : pending) {
+            IGregTechTileEntity base = output.getBaseMetaTileEntity();
+            AENetworkProxy proxy = output.getProxy();
+            if (base == null || base.isDead() || proxy == null) continue;
+            try {
+                byGrid.computeIfAbsent(proxy.getGrid(), g -> new ArrayList<>())
+                    .add(output);
+            } catch (GridAccessException ignored) {}
+        }
+        pending.clear();
+
+        for (List<Output<T>> outputs : byGrid.values()) {
+            try {
+                flushGrid(outputs);
+            } catch (GridAccessException ignored) {}
+        }
+    }
+
+    private void flushGrid(List<Output<T>> outputs) throws GridAccessException {
+        Output<T> first = outputs.get(0);
+        AENetworkProxy proxy = first.getProxy();
+        IMEMonitor<T> monitor = kind.getMonitor(proxy.getStorage());
+        IEnergySource energy = proxy.getEnergy();
+        BaseActionSource source = first.getRequest();
+
+        IItemList<T> merged = kind.createList();
+        for (Output<T> output : outputs) {
+            for (T stack : output.getOutputCache()) {
+                merged.add(stack);
+            }
+        }
+
+        for (T stack : merged) {
+            long total = stack.getStackSize();
+            if (total <= 0) continue;
+            T rest = kind.insert(energy, monitor, stack.copy(), source);
+            long inserted = rest == null ? total : total - rest.getStackSize();
+            for (int i = 0; i < outputs.size() && inserted > 0; i++) {
+                T own = outputs.get(i)
+                    .getOutputCache()
+                    .findPrecise(stack);
+                if (own == null) continue;
+                long taken = Math.min(own.getStackSize(), inserted);
+                own.decStackSize(taken);
+                inserted -= taken;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private enum Kind {
+
+        ITEMS {
+
+            @Override
+            <T extends IAEStack<T>> IMEMonitor<T> getMonitor(IStorageGrid storage) {
+                return (IMEMonitor<T>) storage.getItemInventory();
+            }
+
+            @Override
+            <T extends IAEStack<T>> IItemList<T> createList() {
+                return (IItemList<T>) AEApi.instance()
+                    .storage()
+                    .createItemList();
+            }
+
+            @Override
+            <T extends IAEStack<T>> T insert(IEnergySource energy, IMEMonitor<T> monitor, T stack,
+                BaseActionSource source) {
+                return Platform.poweredInsert(energy, monitor, stack, source);
+            }
+        },
+        FLUIDS {
+
+            @Override
+            <T extends IAEStack<T>> IMEMonitor<T> getMonitor(IStorageGrid storage) {
+                return (IMEMonitor<T>) storage.getFluidInventory();
+            }
+
+            @Override
+            <T extends IAEStack<T>> IItemList<T> createList() {
+                return (IItemList<T>) AEApi.instance()
+                    .storage()
+                    .createFluidList();
+            }
+
+            @Override
+            <T extends IAEStack<T>> T insert(IEnergySource energy, IMEMonitor<T> monitor, T stack,
+                BaseActionSource source) {
+                return (T) MTEHatchOutputME
+                    .fluidAEInsert(energy, (IMEMonitor<IAEFluidStack>) monitor, (IAEFluidStack) stack, source);
+            }
+        };
+
+        abstract <T extends IAEStack<T>> IMEMonitor<T> getMonitor(IStorageGrid storage);
+
+        abstract <T extends IAEStack<T>> IItemList<T> createList();
+
+        abstract <T extends IAEStack<T>> T insert(IEnergySource energy, IMEMonitor<T> monitor, T stack,
+            BaseActionSource source);
+    }
+}
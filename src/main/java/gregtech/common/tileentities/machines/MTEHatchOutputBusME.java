@@ -35,16 +35,13 @@ import appeng.api.networking.GridFlags;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
-import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.items.contents.CellConfig;
 import appeng.items.storage.ItemBasicStorageCell;
-import appeng.me.GridAccessException;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.me.helpers.IGridProxyable;
-import appeng.util.Platform;
 import appeng.util.ReadableNumberConverter;
 import appeng.util.item.AEItemStack;
 import cpw.mods.fml.relauncher.Side;
@@ -61,7 +58,8 @@ import gregtech.api.util.GTUtility;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
-public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChannelState, IMEConnectable {
+public class MTEHatchOutputBusME extends MTEHatchOutputBus
+    implements IPowerChannelState, IMEConnectable, MEOutputAggregator.Output<IAEItemStack> {
 
     protected static final long DEFAULT_CAPACITY = 1_600;
     protected long baseCapacity = DEFAULT_CAPACITY;
@@ -71,7 +69,6 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
     final IItemList<IAEItemStack> itemCache = AEApi.instance()
         .storage()
         .createItemList();
-    long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
     boolean additionalConnection = false;
@@ -186,7 +183,8 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         return stack.stackSize;
     }
 
-    protected BaseActionSource getRequest() {
+    @Override
+    public BaseActionSource getRequest() {
         if (requestSource == null) requestSource = new MachineSource((IActionHost) getBaseMetaTileEntity());
         return requestSource;
     }
@@ -264,27 +262,9 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
         return this.gridProxy;
     }
 
-    protected void flushCachedStack() {
-        AENetworkProxy proxy = getProxy();
-        if (proxy == null) {
-            return;
-        }
-        try {
-            IMEMonitor<IAEItemStack> sg = proxy.getStorage()
-                .getItemInventory();
-            for (IAEItemStack s : itemCache) {
-                if (s.getStackSize() == 0) continue;
-                IAEItemStack rest = Platform.poweredInsert(proxy.getEnergy(), sg, s, getRequest());
-                if (rest != null && rest.getStackSize() > 0) {
-                    s.setStackSize(rest.getStackSize());
-                    break;
-                }
-                s.setStackSize(0);
-            }
-        } catch (final GridAccessException ignored) {
-
-        }
-        lastOutputTick = tickCounter;
+    @Override
+    public IItemList<IAEItemStack> getOutputCache() {
+        return itemCache;
     }
 
     @Override
@@ -303,7 +283,7 @@ public class MTEHatchOutputBusME extends MTEHatchOutputBus implements IPowerChan
 
         if (getBaseMetaTileEntity().isServerSide()) {
             tickCounter = aTick;
-            if (tickCounter > (lastOutputTick + 40)) flushCachedStack();
+            if (!itemCache.isEmpty()) MEOutputAggregator.ITEMS.enqueue(this);
             if (tickCounter % 20 == 0) getBaseMetaTileEntity().setActive(isActive());
         }
         super.onPostTick(aBaseMetaTileEntity, aTick);
@@ -46,13 +46,11 @@ import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
 import appeng.api.networking.security.PlayerSource;
 import appeng.api.storage.IMEInventory;
-import appeng.api.storage.IMEMonitor;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
 import appeng.api.util.AECableType;
 import appeng.core.stats.Stats;
 import appeng.items.contents.CellConfig;
-import appeng.me.GridAccessException;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.me.helpers.IGridProxyable;
 import appeng.util.ReadableNumberConverter;
@@ -71,7 +69,8 @@ import gregtech.api.util.GTUtility;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
-public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelState, IMEConnectable {
+public class MTEHatchOutputME extends MTEHatchOutput
+    implements IPowerChannelState, IMEConnectable, MEOutputAggregator.Output<IAEFluidStack> {
 
     private static final long DEFAULT_CAPACITY = 128_000;
     private long baseCapacity = DEFAULT_CAPACITY;
@@ -81,7 +80,6 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
     final IItemList<IAEFluidStack> fluidCache = AEApi.instance()
         .storage()
         .createFluidList();
-    long lastOutputTick = 0;
     long lastInputTick = 0;
     long tickCounter = 0;
     boolean additionalConnection = false;
@@ -323,7 +321,8 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         return 0;
     }
 
-    private BaseActionSource getRequest() {
+    @Override
+    public BaseActionSource getRequest() {
         if (requestSource == null) requestSource = new MachineSource((IActionHost) getBaseMetaTileEntity());
         return requestSource;
     }
@@ -411,26 +410,9 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
         return this.gridProxy;
     }
 
-    private void flushCachedStack() {
-        if (fluidCache.isEmpty()) return;
-        AENetworkProxy proxy = getProxy();
-        if (proxy == null) {
-            return;
-        }
-        try {
-            IMEMonitor<IAEFluidStack> sg = proxy.getStorage()
-                .getFluidInventory();
-            for (IAEFluidStack s : fluidCache) {
-                if (s.getStackSize() == 0) continue;
-                IAEFluidStack rest = fluidAEInsert(proxy.getEnergy(), sg, s, getRequest());
-                if (rest != null && rest.getStackSize() > 0) {
-                    s.setStackSize(rest.getStackSize());
-                    continue;
-                }
-                s.setStackSize(0);
-            }
-        } catch (final GridAccessException ignored) {}
-        lastOutputTick = tickCounter;
+    @Override
+    public IItemList<IAEFluidStack> getOutputCache() {
+        return fluidCache;
     }
 
     @Override
@@ -447,7 +429,7 @@ public class MTEHatchOutputME extends MTEHatchOutput implements IPowerChannelSta
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         if (getBaseMetaTileEntity().isServerSide()) {
             tickCounter = aTick;
-            if (tickCounter > (lastOutputTick + 40)) flushCachedStack();
+            if (!fluidCache.isEmpty()) MEOutputAggregator.FLUIDS.enqueue(this);
             if (tickCounter % 20 == 0) getBaseMetaTileEntity().setActive(isActive());
         }
 
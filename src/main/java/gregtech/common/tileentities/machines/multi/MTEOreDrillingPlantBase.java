@@ -8,7 +8,6 @@ import static gregtech.api.enums.HatchElement.Maintenance;
 import static gregtech.api.enums.HatchElement.OutputBus;
 import static gregtech.api.metatileentity.BaseTileEntity.TOOLTIP_DELAY;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -22,13 +21,13 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.StatCollector;
 import net.minecraft.world.ChunkCoordIntPair;
-import net.minecraft.world.ChunkPosition;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.google.common.collect.ImmutableList;
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
 import com.gtnewhorizons.modularui.api.NumberFormatMUI;
 import com.gtnewhorizons.modularui.api.drawable.IDrawable;
 import com.gtnewhorizons.modularui.api.math.Alignment;
@@ -59,10 +58,16 @@ import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.common.blocks.BlockOresAbstract;
 import gregtech.common.blocks.TileEntityOres;
 import gregtech.crossmod.visualprospecting.VisualProspectingDatabase;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
 public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements IMetricsExporter {
 
-    private final List<ChunkPosition> oreBlockPositions = new ArrayList<>();
+    /**
+     * Blocks left to mine, packed with {@link CoordinatePacker}. Entries before {@link #oreBlockHead} have been mined
+     * already, so taking the next block does not shift the whole list.
+     */
+    private final LongArrayList oreBlockPositions = new LongArrayList();
+    private int oreBlockHead = 0;
     protected int mTier = 1;
     private int chunkRadiusConfig = getRadiusInChunks();
     private boolean replaceWithCobblestone = true;
@@ -135,7 +140,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
             GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
         }
 
-        oreBlockPositions.clear();
+        clearOreBlockPositions();
         createInitialWorkingChunk();
     }
 
@@ -167,14 +172,14 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     @Override
     protected boolean workingDownward(ItemStack aStack, int xDrill, int yDrill, int zDrill, int xPipe, int zPipe,
         int yHead, int oldYHead) {
-        if (yHead != oldYHead) oreBlockPositions.clear();
+        if (yHead != oldYHead) clearOreBlockPositions();
 
         if (mWorkChunkNeedsReload && mChunkLoadingEnabled) { // ask to load machine itself
             GTChunkManager.requestChunkLoad((TileEntity) getBaseMetaTileEntity(), null);
             mWorkChunkNeedsReload = false;
         }
         fillMineListIfEmpty(xDrill, yDrill, zDrill, xPipe, zPipe, yHead);
-        if (oreBlockPositions.isEmpty()) {
+        if (isOreBlockListEmpty()) {
             if (veinName == null) {
                 updateVeinNameFromVP(getDrillCoords());
             }
@@ -222,18 +227,18 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     }
 
     private boolean processOreList(boolean simulate) {
-        ChunkPosition oreBlockPos = null;
-        List<ChunkPosition> oreBlockPositions = simulate ? copyOreBlockPositions(this.oreBlockPositions)
-            : this.oreBlockPositions;
+        // a simulation only moves a local cursor, the real run commits it
+        int cursor = oreBlockHead;
         int x = 0, y = 0, z = 0;
         Block oreBlock = null;
         int oreBlockMetadata = 0;
 
-        while ((oreBlock == null || !GTUtility.isOre(oreBlock, oreBlockMetadata)) && !oreBlockPositions.isEmpty()) {
-            oreBlockPos = oreBlockPositions.remove(0);
-            x = oreBlockPos.chunkPosX;
-            y = oreBlockPos.chunkPosY;
-            z = oreBlockPos.chunkPosZ;
+        while ((oreBlock == null || !GTUtility.isOre(oreBlock, oreBlockMetadata))
+            && cursor < oreBlockPositions.size()) {
+            long oreBlockPos = oreBlockPositions.getLong(cursor++);
+            x = CoordinatePacker.unpackX(oreBlockPos);
+            y = CoordinatePacker.unpackY(oreBlockPos);
+            z = CoordinatePacker.unpackZ(oreBlockPos);
             if (GTUtility.eraseBlockByFakePlayer(getFakePlayer(getBaseMetaTileEntity()), x, y, z, true))
                 oreBlock = getBaseMetaTileEntity().getBlock(x, y, z);
             oreBlockMetadata = getBaseMetaTileEntity().getWorld()
@@ -241,10 +246,12 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         }
 
         if (!tryConsumeDrillingFluid(simulate)) {
-            oreBlockPositions.add(0, oreBlockPos);
+            // keep the block we were about to mine for the next try
+            if (!simulate) consumeOreBlocksUpTo(cursor > oreBlockHead ? cursor - 1 : cursor);
             setRuntimeFailureReason(CheckRecipeResultRegistry.NO_DRILLING_FLUID);
             return false;
         }
+        if (!simulate) consumeOreBlocksUpTo(cursor);
         if (oreBlock != null && GTUtility.isOre(oreBlock, oreBlockMetadata)) {
             short metaData = 0;
             TileEntity tTileEntity = getBaseMetaTileEntity().getTileEntity(x, y, z);
@@ -260,7 +267,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                         .setBlock(x, y, z, Block.getBlockFromItem(cobble.getItem()), cobble.getItemDamage(), 3);
                 } else {
                     getBaseMetaTileEntity().getWorld()
-                        .setBlockToAir(oreBlockPos.chunkPosX, oreBlockPos.chunkPosY, oreBlockPos.chunkPosZ);
+                        .setBlockToAir(x, y, z);
                 }
             }
             ItemStack[] toOutput = getOutputByDrops(oreBlockDrops);
@@ -273,12 +280,22 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
         return true;
     }
 
-    private static List<ChunkPosition> copyOreBlockPositions(List<ChunkPosition> oreBlockPositions) {
-        List<ChunkPosition> ret = new ArrayList<>();
-        for (ChunkPosition chunkPosition : oreBlockPositions) {
-            ret.add(new ChunkPosition(chunkPosition.chunkPosX, chunkPosition.chunkPosY, chunkPosition.chunkPosZ));
-        }
-        return ret;
+    private boolean isOreBlockListEmpty() {
+        return oreBlockHead >= oreBlockPositions.size();
+    }
+
+    private int getOreBlockCount() {
+        return oreBlockPositions.size() - oreBlockHead;
+    }
+
+    private void consumeOreBlocksUpTo(int head) {
+        oreBlockHead = head;
+        if (isOreBlockListEmpty()) clearOreBlockPositions();
+    }
+
+    private void clearOreBlockPositions() {
+        oreBlockPositions.clear();
+        oreBlockHead = 0;
     }
 
     @Override
@@ -297,9 +314,9 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
             mWorkChunkNeedsReload = false;
             return true;
         }
-        if (oreBlockPositions.isEmpty()) {
+        if (isOreBlockListEmpty()) {
             fillChunkMineList(yHead, yDrill);
-            if (oreBlockPositions.isEmpty()) {
+            if (isOreBlockListEmpty()) {
                 GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
                 if (!moveToNextChunk(xDrill >> 4, zDrill >> 4)) {
                     workState = STATE_UPWARD;
@@ -393,11 +410,11 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     protected boolean workingUpward(ItemStack aStack, int xDrill, int yDrill, int zDrill, int xPipe, int zPipe,
         int yHead, int oldYHead) {
         boolean result;
-        if (!mChunkLoadingEnabled || oreBlockPositions.isEmpty()) {
+        if (!mChunkLoadingEnabled || isOreBlockListEmpty()) {
             result = super.workingUpward(aStack, xDrill, yDrill, zDrill, xPipe, zPipe, yHead, oldYHead);
         } else {
             result = tryProcessOreList();
-            if (oreBlockPositions.isEmpty()) GTChunkManager.releaseTicket((TileEntity) getBaseMetaTileEntity());
+            if (isOreBlockListEmpty()) GTChunkManager.releaseTicket((TileEntity) getBaseMetaTileEntity());
         }
 
         if (!result) {
@@ -409,7 +426,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
 
     @Override
     protected void onAbort() {
-        oreBlockPositions.clear();
+        clearOreBlockPositions();
         if (mCurrentChunk != null) {
             GTChunkManager.releaseChunk((TileEntity) getBaseMetaTileEntity(), mCurrentChunk);
         }
@@ -563,44 +580,40 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
     }
 
     private void fillChunkMineList(int yHead, int yDrill) {
-        if (mCurrentChunk == null || !oreBlockPositions.isEmpty()) return;
+        if (mCurrentChunk == null || !isOreBlockListEmpty()) return;
+        clearOreBlockPositions();
         final int minX = mCurrentChunk.chunkXPos << 4;
-        final int maxX = minX + 16;
         final int minZ = mCurrentChunk.chunkZPos << 4;
-        final int maxZ = minZ + 16;
-        for (int x = minX; x < maxX; ++x)
-            for (int z = minZ; z < maxZ; ++z) for (int y = yHead; y < yDrill; ++y) tryAddOreBlockToMineList(x, y, z);
+        new OreBlockScanner(getBaseMetaTileEntity().getWorld(), oreBlockPositions)
+            .scan(minX, yHead, minZ, minX + 16, yDrill, minZ + 16);
     }
 
     private void fillMineListIfEmpty(int xDrill, int yDrill, int zDrill, int xPipe, int zPipe, int yHead) {
-        if (!oreBlockPositions.isEmpty()) return;
+        if (!isOreBlockListEmpty()) return;
+        clearOreBlockPositions();
 
         tryAddOreBlockToMineList(xPipe, yHead - 1, zPipe);
         if (yHead == yDrill) return; // skip controller block layer
 
+        OreBlockScanner scanner = new OreBlockScanner(getBaseMetaTileEntity().getWorld(), oreBlockPositions);
         if (mChunkLoadingEnabled) {
             int startX = (xDrill >> 4) << 4;
             int startZ = (zDrill >> 4) << 4;
-            for (int x = startX; x < (startX + 16); ++x)
-                for (int z = startZ; z < (startZ + 16); ++z) tryAddOreBlockToMineList(x, yHead, z);
+            scanner.scan(startX, yHead, startZ, startX + 16, yHead + 1, startZ + 16);
         } else {
             int radius = chunkRadiusConfig << 4;
-            for (int xOff = -radius; xOff <= radius; xOff++) for (int zOff = -radius; zOff <= radius; zOff++)
-                tryAddOreBlockToMineList(xDrill + xOff, yHead, zDrill + zOff);
+            scanner.scan(xDrill - radius, yHead, zDrill - radius, xDrill + radius + 1, yHead + 1, zDrill + radius + 1);
         }
     }
 
     private void tryAddOreBlockToMineList(int x, int y, int z) {
         Block block = getBaseMetaTileEntity().getBlock(x, y, z);
         int blockMeta = getBaseMetaTileEntity().getMetaID(x, y, z);
-        ChunkPosition blockPos = new ChunkPosition(x, y, z);
-        if (!oreBlockPositions.contains(blockPos)) {
-            if (block instanceof BlockOresAbstract) {
-                TileEntity tTileEntity = getBaseMetaTileEntity().getTileEntity(x, y, z);
-                if (tTileEntity instanceof TileEntityOres && ((TileEntityOres) tTileEntity).mNatural)
-                    oreBlockPositions.add(blockPos);
-            } else if (GTUtility.isOre(block, blockMeta)) oreBlockPositions.add(blockPos);
-        }
+        if (block instanceof BlockOresAbstract) {
+            TileEntity tTileEntity = getBaseMetaTileEntity().getTileEntity(x, y, z);
+            if (tTileEntity instanceof TileEntityOres && ((TileEntityOres) tTileEntity).mNatural)
+                oreBlockPositions.add(CoordinatePacker.pack(x, y, z));
+        } else if (GTUtility.isOre(block, blockMeta)) oreBlockPositions.add(CoordinatePacker.pack(x, y, z));
     }
 
     protected abstract int getRadiusInChunks();
@@ -684,7 +697,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                     .setTextAlignment(Alignment.CenterLeft)
                     .setEnabled(
                         widget -> veinName != null && (workState == STATE_AT_BOTTOM || workState == STATE_DOWNWARD)))
-            .widget(new FakeSyncWidget.IntegerSyncer(oreBlockPositions::size, (newInt) -> clientOreListSize = newInt))
+            .widget(new FakeSyncWidget.IntegerSyncer(this::getOreBlockCount, (newInt) -> clientOreListSize = newInt))
             .widget(new FakeSyncWidget.IntegerSyncer(this::getTotalChunkCount, (newInt) -> clientTotalChunks = newInt))
             .widget(new FakeSyncWidget.IntegerSyncer(this::getChunkNumber, (newInt) -> clientCurrentChunk = newInt))
             .widget(new FakeSyncWidget.IntegerSyncer(() -> workState, (newInt) -> workState = newInt))
@@ -765,7 +778,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                 case STATE_AT_BOTTOM -> ImmutableList.of(
                     StatCollector.translateToLocalFormatted(
                         "GT5U.gui.text.drill_ores_left_chunk",
-                        GTUtility.formatNumbers(oreBlockPositions.size())),
+                        GTUtility.formatNumbers(getOreBlockCount())),
                     StatCollector.translateToLocalFormatted(
                         "GT5U.gui.text.drill_chunks_left",
                         GTUtility.formatNumbers(getChunkNumber()),
@@ -776,7 +789,7 @@ public abstract class MTEOreDrillingPlantBase extends MTEDrillerBase implements
                     StatCollector.translateToLocalFormatted(
                         "GT5U.gui.text.drill_ores_left_layer",
                         getYHead(),
-                        GTUtility.formatNumbers(oreBlockPositions.size())),
+                        GTUtility.formatNumbers(getOreBlockCount())),
                     veinName == null ? ""
                         : StatCollector.translateToLocalFormatted("GT5U.gui.text.drill_current_vein", veinName));
                 case STATE_UPWARD, STATE_ABORT -> ImmutableList
@@ -0,0 +1,126 @@
+package gregtech.common.tileentities.machines.multi;
+
+import java.util.Arrays;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import com.gtnewhorizon.gtnhlib.util.CoordinatePacker;
+
+import gregtech.api.util.GTUtility;
+import gregtech.common.blocks.BlockOresAbstract;
+import gregtech.common.blocks.TileEntityOres;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Finds the blocks an ore drilling plant should mine in a box, by reading chunk sections directly instead of calling
+ * {@link World#getBlock} for every position.
+ * <p>
+ * Sections that hold nothing but air are skipped as a whole, and whether a block + meta is an ore is only worked out
+ * once per scan. Blocks are read through {@link ExtendedBlockStorage#getBlockByExtId}, which mods extending the block
+ * id and meta ranges hook, rather than from the raw id arrays. Unloaded chunks are skipped, the same as
+ * {@code BaseTileEntity#getBlock} treats them as air. GT ores count only if they were generated naturally.
+ */
+final class OreBlockScanner {
+
+    private static final byte UNKNOWN = 0, NOT_ORE = 1, ORE = 2, GT_ORE = 3;
+
+    private final World world;
+    private final LongList out;
+    /** Per block, indexed by meta and grown to the highest meta seen. */
+    private final Reference2ObjectOpenHashMap<Block, byte[]> states = new Reference2ObjectOpenHashMap<>();
+    private Block lastBlock;
+    private byte[] lastStates;
+
+    /**
+     * @param out Receives the positions, packed with {@link CoordinatePacker}
+     */
+    OreBlockScanner(World world, LongList out) {
+        this.world = world;
+        this.out = out;
+    }
+
+    /**
+     * Scans {@code [minX, maxX) x [minY, maxY) x [minZ, maxZ)}.
+     */
+    void scan(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        minY = Math.max(minY, 0);
+        maxY = Math.min(maxY, world.getHeight());
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+
+        for (int chunkX = minX >> 4; chunkX <= (maxX - 1) >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= (maxZ - 1) >> 4; chunkZ++) {
+                if (!world.getChunkProvider()
+                    .chunkExists(chunkX, chunkZ)) continue;
+                Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+                ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+                int startX = Math.max(minX, chunkX << 4), endX = Math.min(maxX, (chunkX << 4) + 16);
+                int startZ = Math.max(minZ, chunkZ << 4), endZ = Math.min(maxZ, (chunkZ << 4) + 16);
+                for (int sectionY = minY >> 4; sectionY <= (maxY - 1) >> 4; sectionY++) {
+                    ExtendedBlockStorage section = sections[sectionY];
+                    if (section == null || section.isEmpty()) continue;
+                    scanSection(
+                        section,
+                        startX,
+                        Math.max(minY, sectionY << 4),
+                        startZ,
+                        endX,
+                        Math.min(maxY, (sectionY << 4) + 16),
+                        endZ);
+                }
+            }
+        }
+    }
+
+    private void scanSection(ExtendedBlockStorage section, int minX, int minY, int minZ, int maxX, int maxY,
+        int maxZ) {
+        for (int x = minX; x < maxX; x++) {
+            for (int z = minZ; z < maxZ; z++) {
+                for (int y = minY; y < maxY; y++) {
+                    final int localX = x & 15, localY = y & 15, localZ = z & 15;
+                    final Block block = section.getBlockByExtId(localX, localY, localZ);
+                    if (block == null || block == Blocks.air) continue;
+                    final int meta = section.getExtBlockMetadata(localX, localY, localZ);
+                    switch (getState(block, meta)) {
+                        case ORE -> out.add(CoordinatePacker.pack(x, y, z));
+                        case GT_ORE -> {
+                            TileEntity tileEntity = world.getTileEntity(x, y, z);
+                            if (tileEntity instanceof TileEntityOres ores && ores.mNatural)
+                                out.add(CoordinatePacker.pack(x, y, z));
+                        }
+                        default -> {}
+                    }
+                }
+            }
+        }
+    }
+
+    private byte getState(Block block, int meta) {
+        byte[] blockStates = lastStates;
+        if (block != lastBlock) {
+            blockStates = states.get(block);
+            if (blockStates == null) {
+                blockStates = new byte[16];
+                states.put(block, blockStates);
+            }
+            lastBlock = block;
+        }
+        if (meta >= blockStates.length) {
+            blockStates = Arrays.copyOf(blockStates, Integer.highestOneBit(meta) << 1);
+            states.put(block, blockStates);
+        }
+        lastStates = blockStates;
+        byte state = blockStates[meta];
+        if (state == UNKNOWN) {
+            if (block instanceof BlockOresAbstract) state = GT_ORE;
+            else state = GTUtility.isOre(block, meta) ? ORE : NOT_ORE;
+            blockStates[meta] = state;
+        }
+        return state;
+    }
+}
@@ -17,6 +17,11 @@ public class ProcessingBeans implements gregtech.api.interfaces.IOreRecipeRegist
         OrePrefixes.beans.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
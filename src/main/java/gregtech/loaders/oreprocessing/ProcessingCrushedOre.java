@@ -23,6 +23,11 @@ public class ProcessingCrushedOre implements gregtech.api.interfaces.IOreRecipeR
         OrePrefixes.crushedPurified.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
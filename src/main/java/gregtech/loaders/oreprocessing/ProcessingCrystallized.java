@@ -21,6 +21,11 @@ public class ProcessingCrystallized implements gregtech.api.interfaces.IOreRecip
         OrePrefixes.crystalline.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
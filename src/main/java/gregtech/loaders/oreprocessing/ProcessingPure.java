@@ -21,6 +21,11 @@ public class ProcessingPure implements gregtech.api.interfaces.IOreRecipeRegistr
         OrePrefixes.reduced.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
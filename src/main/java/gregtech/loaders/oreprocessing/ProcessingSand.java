@@ -19,6 +19,11 @@ public class ProcessingSand implements gregtech.api.interfaces.IOreRecipeRegistr
         OrePrefixes.sand.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
@@ -21,6 +21,11 @@ public class ProcessingSaplings implements gregtech.api.interfaces.IOreRecipeReg
         OrePrefixes.treeSapling.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
@@ -17,6 +17,11 @@ public class ProcessingStoneCobble implements gregtech.api.interfaces.IOreRecipe
         OrePrefixes.stoneCobble.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
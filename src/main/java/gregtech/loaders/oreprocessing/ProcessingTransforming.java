@@ -23,6 +23,11 @@ public class ProcessingTransforming implements IOreRecipeRegistrator {
                 || (tPrefix == OrePrefixes.plank)) tPrefix.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
@@ -17,6 +17,11 @@ public class ProcessingWax implements gregtech.api.interfaces.IOreRecipeRegistra
         OrePrefixes.wax.add(this);
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public void registerOre(OrePrefixes aPrefix, Materials aMaterial, String aOreDictName, String aModName,
         ItemStack aStack) {
@@ -359,6 +359,7 @@ public class GTPreLoad {
         GTValues.oreveinMaxPlacementAttempts = Gregtech.general.oreveinMaxPlacementAttempts;
         GTValues.oreveinPlacerOres = Gregtech.general.oreveinPlacerOres;
         GTValues.oreveinPlacerOresMultiplier = Gregtech.general.oreveinPlacerOresMultiplier;
+        GTValues.parallelOreProcessing = Gregtech.general.parallelOreProcessing;
         GregTechAPI.TICKS_FOR_LAG_AVERAGING = Gregtech.general.ticksForLagAveraging;
         GregTechAPI.MILLISECOND_THRESHOLD_UNTIL_LAG_WARNING = Gregtech.general.millisecondThesholdUntilLagWarning;
         GregTechAPI.sTimber = Gregtech.general.timber;
@@ -414,6 +415,7 @@ public class GTPreLoad {
         GTValues.cleanroomGlass = Gregtech.machines.cleanroomGlass;
         GTValues.enableChunkloaders = Gregtech.machines.enableChunkloaders;
         GTValues.alwaysReloadChunkloaders = Gregtech.machines.alwaysReloadChunkloaders;
+        GTValues.asyncRecipeSearch = Gregtech.machines.asyncRecipeSearch;
         GTValues.debugChunkloaders = Gregtech.debug.debugChunkloaders;
         GTValues.disableDigitalChestsExternalAccess = Gregtech.machines.disableDigitalChestsExternalAccess;
         GregTechAPI.sMachineExplosions = Gregtech.machines.machineExplosions;
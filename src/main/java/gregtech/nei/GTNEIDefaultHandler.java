@@ -6,6 +6,7 @@ import java.awt.Rectangle;
 import java.lang.ref.SoftReference;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -15,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,9 +25,11 @@ import javax.annotation.Nullable;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.StatCollector;
 import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
 
 import org.apache.commons.lang3.Range;
 import org.lwjgl.opengl.GL11;
@@ -69,6 +73,13 @@ import gregtech.api.util.GTUtility;
 import gregtech.api.util.OverclockCalculator;
 import gregtech.common.blocks.ItemMachines;
 import gregtech.common.gui.modularui.UIHelper;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 
 public class GTNEIDefaultHandler extends TemplateRecipeHandler {
 
@@ -250,7 +261,10 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
             }
         }
         addFluidStacks(aResult, tResults);
-        for (CachedDefaultRecipe recipe : getCache()) {
+        List<CachedDefaultRecipe> cache = getCache();
+        for (int i : getCacheHolder().getOutputIndex(cache)
+            .getCandidates(tResults)) {
+            CachedDefaultRecipe recipe = cache.get(i);
             if (tResults.stream()
                 .anyMatch(stack -> recipe.contains(recipe.mOutputs, stack))) arecipes.add(recipe);
         }
@@ -307,7 +321,10 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
             }
         }
         addFluidStacks(aInput, tInputs);
-        for (CachedDefaultRecipe recipe : getCache()) {
+        List<CachedDefaultRecipe> cache = getCache();
+        for (int i : getCacheHolder().getInputIndex(cache)
+            .getCandidates(tInputs)) {
+            CachedDefaultRecipe recipe = cache.get(i);
             if (tInputs.stream()
                 .anyMatch(stack -> recipe.contains(recipe.mInputs, stack))) arecipes.add(recipe);
         }
@@ -729,6 +746,11 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
         private Map<Byte, Range<Integer>> mTierIndexes;
         private Range<Byte> mTierRange;
 
+        @Nullable
+        private SoftReference<RecipeItemIndex> mOutputIndex;
+        @Nullable
+        private SoftReference<RecipeItemIndex> mInputIndex;
+
         public int getCachedRecipesVersion() {
             return mCachedRecipesVersion;
         }
@@ -744,6 +766,26 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
 
         public void setCachedRecipes(@Nonnull List<CachedDefaultRecipe> aCachedRecipes) {
             this.mCachedRecipes = new SoftReference<>(aCachedRecipes);
+            this.mOutputIndex = null;
+            this.mInputIndex = null;
+        }
+
+        public RecipeItemIndex getOutputIndex(List<CachedDefaultRecipe> aCachedRecipes) {
+            RecipeItemIndex index = mOutputIndex == null ? null : mOutputIndex.get();
+            if (index == null || index.recipes != aCachedRecipes) {
+                index = new RecipeItemIndex(aCachedRecipes, recipe -> recipe.mOutputs);
+                mOutputIndex = new SoftReference<>(index);
+            }
+            return index;
+        }
+
+        public RecipeItemIndex getInputIndex(List<CachedDefaultRecipe> aCachedRecipes) {
+            RecipeItemIndex index = mInputIndex == null ? null : mInputIndex.get();
+            if (index == null || index.recipes != aCachedRecipes) {
+                index = new RecipeItemIndex(aCachedRecipes, recipe -> recipe.mInputs);
+                mInputIndex = new SoftReference<>(index);
+            }
+            return index;
         }
 
         public Range<Integer> getIndexRangeForTiers(byte lowerTier, byte upperTier) {
@@ -805,4 +847,78 @@ public class GTNEIDefaultHandler extends TemplateRecipeHandler {
                 .getMaximum();
         }
     }
+
+    /**
+     * Maps items to the indices of the cached recipes holding them on one side, so that looking up a stack only has to
+     * check the recipes that can match it instead of the whole category. Matching follows
+     * {@link PositionedStack#contains(ItemStack)}: same item, and the same damage unless either side is a wildcard or
+     * the item is damageable. The candidates are still checked with {@code contains} afterwards.
+     */
+    private static class RecipeItemIndex {
+
+        private final List<CachedDefaultRecipe> recipes;
+        /** Every recipe per item, for queries that match any damage. */
+        private final Map<Item, IntList> byItem = new Reference2ObjectOpenHashMap<>();
+        /** Recipes per item and damage. */
+        private final Map<Item, Int2ObjectMap<IntList>> byDamage = new Reference2ObjectOpenHashMap<>();
+        /** Recipes per item whose stack matches any damage. */
+        private final Map<Item, IntList> anyDamage = new Reference2ObjectOpenHashMap<>();
+
+        private RecipeItemIndex(List<CachedDefaultRecipe> recipes,
+            Function<CachedDefaultRecipe, List<PositionedStack>> side) {
+            this.recipes = recipes;
+            for (int i = 0; i < recipes.size(); i++) {
+                for (PositionedStack positionedStack : side.apply(recipes.get(i))) {
+                    for (ItemStack stack : positionedStack.items) {
+                        if (stack == null || stack.getItem() == null) continue;
+                        Item item = stack.getItem();
+                        add(byItem.computeIfAbsent(item, k -> new IntArrayList()), i);
+                        if (matchesAnyDamage(stack)) {
+                            add(anyDamage.computeIfAbsent(item, k -> new IntArrayList()), i);
+                        } else {
+                            add(
+                                byDamage.computeIfAbsent(item, k -> new Int2ObjectOpenHashMap<>())
+                                    .computeIfAbsent(stack.getItemDamage(), k -> new IntArrayList()),
+                                i);
+                        }
+                    }
+                }
+            }
+        }
+
+        private static boolean matchesAnyDamage(ItemStack stack) {
+            return stack.getItemDamage() == OreDictionary.WILDCARD_VALUE || stack.getItem()
+                .isDamageable();
+        }
+
+        private static void add(IntList list, int index) {
+            // recipes are added in order, so a recipe holding the stack twice is always the last element
+            if (list.isEmpty() || list.getInt(list.size() - 1) != index) list.add(index);
+        }
+
+        /**
+         * @return the indices of the recipes which may hold any of the stacks, in recipe order
+         */
+        public int[] getCandidates(List<ItemStack> stacks) {
+            IntSet candidates = new IntOpenHashSet();
+            for (ItemStack stack : stacks) {
+                if (stack == null || stack.getItem() == null) continue;
+                Item item = stack.getItem();
+                if (matchesAnyDamage(stack)) {
+                    addAll(candidates, byItem.get(item));
+                } else {
+                    Int2ObjectMap<IntList> damages = byDamage.get(item);
+                    if (damages != null) addAll(candidates, damages.get(stack.getItemDamage()));
+                    addAll(candidates, anyDamage.get(item));
+                }
+            }
+            int[] result = candidates.toIntArray();
+            Arrays.sort(result);
+            return result;
+        }
+
+        private static void addAll(IntSet candidates, @Nullable IntList indices) {
+            if (indices != null) candidates.addAll(indices);
+        }
+    }
 }
@@ -34,6 +34,7 @@ import gtPlusPlus.core.handler.BookHandler;
 import gtPlusPlus.core.handler.CompatHandler;
 import gtPlusPlus.core.handler.CompatIntermodStaging;
 import gtPlusPlus.core.handler.GuiHandler;
+import gtPlusPlus.core.handler.events.DecayScheduler;
 import gtPlusPlus.core.handler.events.EnderDragonDeathHandler;
 import gtPlusPlus.core.handler.events.EntityDeathHandler;
 import gtPlusPlus.core.handler.events.MolecularTransformerTooltipNotice;
@@ -91,6 +92,8 @@ public class CommonProxy implements IFuelHandler {
         }
         // Handles Sleep Benefits
         PlayerSleepEventHandler.init();
+        // Decays radioactive dusts carried by players
+        DecayScheduler.init();
 
         MinecraftForge.EVENT_BUS.register(new EnderDragonDeathHandler());
         MinecraftForge.EVENT_BUS.register(new EntityDeathHandler());
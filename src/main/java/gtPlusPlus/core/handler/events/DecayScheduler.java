@@ -0,0 +1,102 @@
+package gtPlusPlus.core.handler.events;
+
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.world.WorldEvent;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import gtPlusPlus.core.item.materials.DustDecayable;
+
+/**
+ * Decays {@link DustDecayable} stacks carried by players once their time is up, so that the stacks don't have to count
+ * down their age every tick.
+ * <p>
+ * Every world keeps its pending stacks ordered by deadline. A stack which left its player before the deadline is
+ * dropped, whoever holds it next schedules it again when they see it. A stack which was stored for a while in between
+ * has aged less than its deadline assumed, it is checked again and put back with a later one.
+ */
+public class DecayScheduler {
+
+    private static final Map<World, WorldQueue> QUEUES = new HashMap<>();
+
+    public static void init() {
+        DecayScheduler handler = new DecayScheduler();
+        MinecraftForge.EVENT_BUS.register(handler);
+        FMLCommonHandler.instance()
+            .bus()
+            .register(handler);
+    }
+
+    /**
+     * Makes sure the stack gets decayed at the given world time, unless it was already scheduled for it.
+     */
+    public static void schedule(EntityPlayer holder, ItemStack stack, long deadline) {
+        QUEUES.computeIfAbsent(holder.worldObj, w -> new WorldQueue())
+            .schedule(holder, stack, deadline);
+    }
+
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.world.isRemote) return;
+        WorldQueue queue = QUEUES.get(event.world);
+        if (queue != null) queue.fire(event.world.getTotalWorldTime());
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        QUEUES.remove(event.world);
+    }
+
+    private static final class WorldQueue {
+
+        private final PriorityQueue<Entry> entries = new PriorityQueue<>(
+            Comparator.comparingLong((Entry e) -> e.deadline));
+        /** Latest entry per stack, older ones left in {@link #entries} are ignored when they fire. */
+        private final Map<ItemStack, Entry> latest = new WeakHashMap<>();
+
+        void schedule(EntityPlayer holder, ItemStack stack, long deadline) {
+            Entry previous = latest.get(stack);
+            if (previous != null && previous.deadline == deadline && previous.holder.get() == holder) return;
+            Entry entry = new Entry(holder, stack, deadline);
+            latest.put(stack, entry);
+            entries.add(entry);
+        }
+
+        void fire(long now) {
+            while (!entries.isEmpty() && entries.peek().deadline <= now) {
+                Entry entry = entries.poll();
+                ItemStack stack = entry.stack.get();
+                if (stack == null || latest.get(stack) != entry) continue;
+                latest.remove(stack);
+                EntityPlayer holder = entry.holder.get();
+                if (holder != null && !holder.isDead && stack.getItem() instanceof DustDecayable dust) {
+                    dust.checkDecay(holder, stack);
+                }
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        final WeakReference<EntityPlayer> holder;
+        final WeakReference<ItemStack> stack;
+        final long deadline;
+
+        Entry(EntityPlayer holder, ItemStack stack, long deadline) {
+            this.holder = new WeakReference<>(holder);
+            this.stack = new WeakReference<>(stack);
+            this.deadline = deadline;
+        }
+    }
+}
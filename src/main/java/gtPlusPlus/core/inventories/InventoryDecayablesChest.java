@@ -1,5 +1,7 @@
 package gtPlusPlus.core.inventories;
 
+import java.util.function.Consumer;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
@@ -16,9 +18,14 @@ public class InventoryDecayablesChest implements IInventory {
     /** Inventory's size must be same as number of slots you add to the Container class */
     private ItemStack[] inventory = new ItemStack[INV_SIZE];
 
+    private boolean changed = true;
+
+    private Consumer<ItemStack> removeListener = stack -> {};
+
     public void readFromNBT(final NBTTagCompound nbt) {
         final NBTTagList list = nbt.getTagList("Items", 10);
         this.inventory = new ItemStack[INV_SIZE];
+        this.changed = true;
         for (int i = 0; i < list.tagCount(); i++) {
             final NBTTagCompound data = list.getCompoundTagAt(i);
             final int slot = data.getInteger("Slot");
@@ -53,6 +60,22 @@ public class InventoryDecayablesChest implements IInventory {
         return this.inventory;
     }
 
+    /**
+     * Sets what is called with every stack that is about to be taken out.
+     */
+    public void setRemoveListener(Consumer<ItemStack> removeListener) {
+        this.removeListener = removeListener;
+    }
+
+    /**
+     * @return Whether the contents changed since the last call
+     */
+    public boolean pollChanged() {
+        final boolean ret = this.changed;
+        this.changed = false;
+        return ret;
+    }
+
     @Override
     public ItemStack getStackInSlot(final int slot) {
         return this.inventory[slot];
@@ -63,6 +86,7 @@ public class InventoryDecayablesChest implements IInventory {
         ItemStack stack = this.getStackInSlot(slot);
         if (stack != null) {
             if (stack.stackSize > amount) {
+                this.removeListener.accept(stack);
                 stack = stack.splitStack(amount);
                 // Don't forget this line or your inventory will not be saved!
                 this.markDirty();
@@ -83,6 +107,9 @@ public class InventoryDecayablesChest implements IInventory {
 
     @Override
     public void setInventorySlotContents(final int slot, final ItemStack stack) {
+        if (this.inventory[slot] != null && this.inventory[slot] != stack) {
+            this.removeListener.accept(this.inventory[slot]);
+        }
         this.inventory[slot] = stack;
 
         if ((stack != null) && (stack.stackSize > this.getInventoryStackLimit())) {
@@ -118,6 +145,7 @@ public class InventoryDecayablesChest implements IInventory {
     // 1.7.2+ renamed to markDirty
     @Override
     public void markDirty() {
+        this.changed = true;
         for (int i = 0; i < this.getSizeInventory(); ++i) {
             final ItemStack temp = this.getStackInSlot(i);
             if ((temp != null) && (temp.stackSize == 0)) {
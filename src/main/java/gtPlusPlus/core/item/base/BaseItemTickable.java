@@ -71,6 +71,12 @@ public class BaseItemTickable extends CoreItem {
             return;
         }
 
+        if (decaysLazily()) {
+            // the holder adds up the age, see observe
+            if (!iStack.hasTagCompound()) createNBT(world, iStack);
+            return;
+        }
+
         boolean active = isTicking(world, iStack);
         if (active) {
             tickItemTag(world, iStack);
@@ -128,16 +134,62 @@ public class BaseItemTickable extends CoreItem {
         return maxTicks;
     }
 
+    /**
+     * Items which tick in containers don't count their age every tick. Whoever holds them adds the time since they were
+     * last seen now and then, see {@link #observe}. Time spent anywhere else, like a chest or an ME system, is not
+     * counted, the same as when only ticking in an inventory aged them.
+     */
+    public boolean decaysLazily() {
+        return ticksInContainers;
+    }
+
+    /**
+     * Longest time since a stack was last seen that still counts as aging when the holder can't tell whether it had
+     * the stack all along. Players check their stacks every 20 ticks.
+     */
+    public static final int MAX_UNSEEN_TICKS = 40;
+
+    public final long getRemainingTicks(World world, final ItemStack aStack) {
+        return Math.max(0, getMaxTicks(aStack) - getTicks(world, aStack));
+    }
+
+    /**
+     * Adds the time since a lazily decaying stack was last seen to its age.
+     *
+     * @param heldSinceLastSeen The caller has held this stack since it was last seen. Otherwise only a short gap is
+     *                          counted, a longer one means the stack was stored in between.
+     * @return Ticks left until the stack decays
+     */
+    public final long observe(World world, final ItemStack aStack, boolean heldSinceLastSeen) {
+        NBTTagCompound aNBT = aStack.getTagCompound();
+        if (aNBT == null || !aNBT.hasKey("TickableItem")) {
+            createNBT(world, aStack);
+            aNBT = aStack.getTagCompound();
+        }
+        aNBT = aNBT.getCompoundTag("TickableItem");
+        long now = world.getTotalWorldTime();
+        long ticks = aNBT.getLong("Tick");
+        if (aNBT.hasKey("LastSeen")) {
+            long unseen = now - aNBT.getLong("LastSeen");
+            if (unseen > 0 && (heldSinceLastSeen || unseen <= MAX_UNSEEN_TICKS)) {
+                ticks = Math.min(ticks + unseen, getMaxTicks(aStack));
+            }
+        }
+        aNBT.setLong("Tick", ticks);
+        aNBT.setLong("LastSeen", now);
+        return getMaxTicks(aStack) - ticks;
+    }
+
     protected boolean createNBT(World world, ItemStack rStack) {
-        final NBTTagCompound tagMain = new NBTTagCompound();
+        final NBTTagCompound tagMain = rStack.hasTagCompound() ? rStack.getTagCompound() : new NBTTagCompound();
         final NBTTagCompound tagNBT = new NBTTagCompound();
         tagNBT.setLong("Tick", 0);
         tagNBT.setLong("maxTick", getMaxTicks(rStack));
         tagNBT.setBoolean("isActive", true);
 
         // Try set world time
-        if (world != null) {
-            // tagNBT.setLong("CreationDate", world.getTotalWorldTime());
+        if (world != null && decaysLazily()) {
+            tagNBT.setLong("LastSeen", world.getTotalWorldTime());
         }
 
         tagMain.setTag("TickableItem", tagNBT);
@@ -174,6 +226,9 @@ public class BaseItemTickable extends CoreItem {
     }
 
     public final boolean isTicking(World world, final ItemStack aStack) {
+        if (decaysLazily() && world != null) {
+            return getRemainingTicks(world, aStack) > 0;
+        }
         NBTTagCompound aNBT = aStack.getTagCompound();
         if (aNBT != null) {
             aNBT = aNBT.getCompoundTag("TickableItem");
@@ -255,6 +310,9 @@ public class BaseItemTickable extends CoreItem {
     }
 
     public final boolean tickItemTag(World world, ItemStack aStack) {
+        if (decaysLazily() && world != null) {
+            return getRemainingTicks(world, aStack) > 0;
+        }
         NBTTagCompound aNBT = aStack.getTagCompound();
         if (aNBT != null) {
             if (aNBT.hasKey("TickableItem")) {
@@ -14,6 +14,7 @@ import net.minecraft.world.World;
 
 import gregtech.api.util.GTOreDictUnificator;
 import gtPlusPlus.core.handler.Recipes.DecayableRecipe;
+import gtPlusPlus.core.handler.events.DecayScheduler;
 import gtPlusPlus.core.item.base.BaseItemTickable;
 import gtPlusPlus.core.lib.GTPPCore;
 import gtPlusPlus.core.util.minecraft.EntityUtils;
@@ -59,36 +60,45 @@ public class DustDecayable extends BaseItemTickable {
             return;
         }
 
-        if (entityHolding instanceof EntityPlayer) {
-            if (!((EntityPlayer) entityHolding).capabilities.isCreativeMode) {
-                EntityUtils.applyRadiationDamageToEntity(iStack.stackSize, this.radLevel, world, entityHolding);
-            }
+        if (!(entityHolding instanceof EntityPlayer player)) {
+            return;
+        }
+        if (!player.capabilities.isCreativeMode) {
+            EntityUtils.applyRadiationDamageToEntity(iStack.stackSize, this.radLevel, world, player);
         }
-        boolean a1, a2;
 
-        a1 = this.isTicking(world, iStack);
-        a2 = tickItemTag(world, iStack);
+        // a stamped stack is already scheduled, only add up its age now and then
+        if (iStack.hasTagCompound() && world.getTotalWorldTime() % 20 != 0) {
+            return;
+        }
+        checkDecay(player, iStack);
+    }
 
-        if (!a1 && !a2) {
-            if (entityHolding instanceof EntityPlayer) {
-                // Logger.INFO("Replacing "+iStack.getDisplayName()+" with "+replacement.getDisplayName()+".");
-                if (iStack.stackSize > 1) {
-                    int u = iStack.stackSize;
-                    ItemUtils.getSimpleStack(getDecayResult()).stackSize = u;
-                    ((EntityPlayer) entityHolding).inventory
-                        .addItemStackToInventory((ItemUtils.getSimpleStack(getDecayResult())));
-                    for (int l = 0; l < u; l++) {
-                        ((EntityPlayer) entityHolding).inventory.consumeInventoryItem(this);
-                    }
+    /**
+     * Decays the stack if its time is up, otherwise schedules it for when it will be. Does nothing if the player no
+     * longer carries it.
+     */
+    public void checkDecay(EntityPlayer player, ItemStack iStack) {
+        int slot = getSlot(player, iStack);
+        if (slot < 0) {
+            return;
+        }
+        long remaining = observe(player.worldObj, iStack, false);
+        if (remaining <= 0) {
+            player.inventory.setInventorySlotContents(slot, ItemUtils.getSimpleStack(getDecayResult()));
+        } else {
+            DecayScheduler.schedule(player, iStack, player.worldObj.getTotalWorldTime() + remaining);
+        }
+    }
 
-                } else {
-                    ItemUtils.getSimpleStack(getDecayResult()).stackSize = 1;
-                    ((EntityPlayer) entityHolding).inventory
-                        .addItemStackToInventory((ItemUtils.getSimpleStack(getDecayResult())));
-                    ((EntityPlayer) entityHolding).inventory.consumeInventoryItem(this);
-                }
+    private static int getSlot(EntityPlayer player, ItemStack iStack) {
+        ItemStack[] inventory = player.inventory.mainInventory;
+        for (int i = 0; i < inventory.length; i++) {
+            if (inventory[i] == iStack) {
+                return i;
             }
         }
+        return -1;
     }
 
     public Item getDecayResult() {
@@ -1,6 +1,7 @@
 package gtPlusPlus.core.tileentities.general;
 
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 import java.util.WeakHashMap;
 
@@ -9,7 +10,6 @@ import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 
 import com.cleanroommc.modularui.api.IGuiHolder;
@@ -48,9 +48,14 @@ public class TileEntityDecayablesChest extends TileEntity implements ISidedInven
     private int cachedChestType;
     private int tickCount = -1;
     private int facing;
+    /** World time at which the next stack runs out. */
+    private long nextDecay;
+    /** The contents as of the last {@link #updateDecayables}, to tell which stacks stayed in here since. */
+    private final Set<ItemStack> seenStacks = Collections.newSetFromMap(new IdentityHashMap<>());
 
     public TileEntityDecayablesChest() {
         this.inventoryContents = new InventoryDecayablesChest();
+        this.inventoryContents.setRemoveListener(this::onStackRemoved);
     }
 
     public InventoryDecayablesChest getInventory() {
@@ -70,61 +75,56 @@ public class TileEntityDecayablesChest extends TileEntity implements ISidedInven
         try {
             if (!this.worldObj.isRemote) {
                 this.tickCount++;
-                if ((this.tickCount % 10) == 0) {
+                if (this.inventoryContents.pollChanged()) {
                     cachedChestType = 1;
+                    nextDecay = 0;
                 }
-
-                if ((this.tickCount % 20) == 0) {
-                    for (ItemStack inv : this.getInventory()
-                        .getInventory()) {
-                        if (inv == null) {
-                            continue;
-                        }
-                        if (inv.getItem() instanceof DustDecayable D) {
-                            tryUpdateDecayable(D, inv, this.worldObj);
-                        }
-                    }
+                final long now = this.worldObj.getTotalWorldTime();
+                if (now >= nextDecay) {
+                    updateDecayables(now);
                 }
                 updateSlots();
             }
         } catch (final Throwable ignored) {}
     }
 
-    public void tryUpdateDecayable(final DustDecayable b, ItemStack iStack, final World world) {
-        if (world == null || iStack == null) {
-            return;
-        }
-        if (world.isRemote) {
-            return;
-        }
-
-        boolean a1, a2;
-        int u = 0;
-        a1 = b.isTicking(world, iStack);
-        a2 = false;
-        int SECONDS_TO_PROCESS = 1;
-        while (u < (20 * SECONDS_TO_PROCESS)) {
-            if (!a1) {
-                break;
+    /**
+     * Adds the time the stacks spent in here to their age, replaces every stack which ran out by its decay result, and
+     * works out when the next one will.
+     */
+    private void updateDecayables(long now) {
+        long next = Long.MAX_VALUE;
+        final int size = this.inventoryContents.getSizeInventory();
+        for (int i = 0; i < size; i++) {
+            ItemStack stack = this.inventoryContents.getStackInSlot(i);
+            if (stack == null || !(stack.getItem() instanceof DustDecayable dust)) {
+                continue;
+            }
+            long remaining = dust.observe(this.worldObj, stack, seenStacks.contains(stack));
+            if (remaining > 0) {
+                next = Math.min(next, now + remaining);
+                continue;
             }
-            a1 = b.isTicking(world, iStack);
-            a2 = b.tickItemTag(world, iStack);
-            u++;
+            Logger.MACHINE_INFO("| " + dust.getUnlocalizedName() + " | decayed");
+            // the replacement marks the inventory as changed, so it is looked at again next tick
+            this.inventoryContents.setInventorySlotContents(i, ItemUtils.getSimpleStack(dust.getDecayResult()));
         }
-        Logger.MACHINE_INFO("| " + b.getUnlocalizedName() + " | " + a1 + "/" + a2);
-
-        if (!a1 && !a2) {
-            ItemStack replacement = ItemUtils.getSimpleStack(b.getDecayResult());
-            replacement.stackSize = 1;
-            // iStack = replacement.copy();
-            for (int fff = 0; fff < this.inventoryContents.getSizeInventory(); fff++) {
-                if (this.inventoryContents.getStackInSlot(fff) == iStack) {
-                    this.inventoryContents.setInventorySlotContents(fff, replacement.copy());
-                }
+        seenStacks.clear();
+        for (int i = 0; i < size; i++) {
+            ItemStack stack = this.inventoryContents.getStackInSlot(i);
+            if (stack != null) {
+                seenStacks.add(stack);
             }
+        }
+        nextDecay = next;
+    }
 
-            updateSlots();
-            this.inventoryContents.markDirty();
+    /**
+     * Counts the time a stack spent in here before it leaves, whoever gets it only counts a short gap.
+     */
+    private void onStackRemoved(ItemStack stack) {
+        if (this.worldObj != null && !this.worldObj.isRemote && stack.getItem() instanceof DustDecayable dust) {
+            dust.observe(this.worldObj, stack, seenStacks.remove(stack));
         }
     }
 
@@ -142,6 +142,10 @@ public class TileEntityDecayablesChest extends TileEntity implements ISidedInven
     @Override
     public void writeToNBT(final NBTTagCompound nbt) {
         super.writeToNBT(nbt);
+        if (this.worldObj != null && !this.worldObj.isRemote) {
+            // the stacks are new ones once loaded again, so the time since the last look has to be counted now
+            updateDecayables(this.worldObj.getTotalWorldTime());
+        }
         // Utils.LOG_WARNING("Trying to write NBT data to TE.");
         final NBTTagCompound chestData = new NBTTagCompound();
         this.inventoryContents.writeToNBT(chestData);
@@ -0,0 +1,73 @@
+package gtPlusPlus.core.util.math;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Samples loot lists that are rolled entry by entry: every roll walks the list in order and takes each entry with the
+ * same chance {@code p}, so entry {@code k} comes up with {@code p(1-p)^k} and a roll of a list with {@code n} entries
+ * stays empty with {@code (1-p)^n}.
+ * <p>
+ * Of the rolls that got past the earlier entries, the number taking the next one is binomial with that same {@code p},
+ * so any number of rolls is sampled with one binomial draw per entry until no rolls are left. The binomial
+ * distributions are tabulated once per roll count and drawn from with a single binary search.
+ */
+public final class SequentialLootTable {
+
+    private final double chance;
+    /** Cumulative binomial distribution per roll count, filled on first use. */
+    private double[][] cumulative = new double[0][];
+
+    /**
+     * @param chance the chance of each entry to be taken by a roll that reaches it
+     */
+    public SequentialLootTable(double chance) {
+        if (!(chance >= 0 && chance <= 1)) throw new IllegalArgumentException("chance " + chance);
+        this.chance = chance;
+    }
+
+    /**
+     * Rolls a list of {@code entries} items {@code rolls} times.
+     *
+     * @return how many rolls landed on each entry, rolls which stayed empty are not counted
+     */
+    public int[] sample(Random random, int entries, int rolls) {
+        int[] counts = new int[entries];
+        int left = rolls;
+        for (int i = 0; i < entries && left > 0; i++) {
+            int hits = drawBinomial(random, left);
+            counts[i] = hits;
+            left -= hits;
+        }
+        return counts;
+    }
+
+    private int drawBinomial(Random random, int trials) {
+        if (chance == 0) return 0;
+        if (chance == 1) return trials;
+        double[] table = getCumulative(trials);
+        int index = Arrays.binarySearch(table, random.nextDouble());
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private double[] getCumulative(int trials) {
+        if (trials >= cumulative.length) {
+            cumulative = Arrays.copyOf(cumulative, Math.max(trials + 1, cumulative.length * 2));
+        }
+        double[] table = cumulative[trials];
+        if (table == null) {
+            table = new double[trials + 1];
+            double ratio = chance / (1 - chance);
+            double probability = Math.pow(1 - chance, trials);
+            double sum = 0;
+            for (int k = 0; k < trials; k++) {
+                sum += probability;
+                table[k] = sum;
+                probability *= ratio * (trials - k) / (k + 1);
+            }
+            table[trials] = 1;
+            cumulative[trials] = table;
+        }
+        return table;
+    }
+}
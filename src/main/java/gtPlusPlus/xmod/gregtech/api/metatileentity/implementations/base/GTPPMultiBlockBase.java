@@ -28,7 +28,6 @@ import net.minecraft.util.StatCollector;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
-import net.minecraftforge.oredict.OreDictionary;
 
 import com.gtnewhorizon.structurelib.StructureLibAPI;
 import com.gtnewhorizon.structurelib.structure.AutoPlaceEnvironment;
@@ -69,6 +68,7 @@ import gregtech.api.metatileentity.implementations.MTEHatchOutput;
 import gregtech.api.metatileentity.implementations.MTEHatchOutputBus;
 import gregtech.api.recipe.RecipeMap;
 import gregtech.api.render.TextureFactory;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.IGTHatchAdder;
@@ -983,14 +983,10 @@ public abstract class GTPPMultiBlockBase<T extends MTEExtendedPowerMultiBlockBas
                 // Logger.INFO("Holding Item.");
                 if (tCurrentItem.getItem() instanceof MetaGeneratedTool) {
                     // Logger.INFO("Is MetaGeneratedTool.");
-                    int[] aOreID = OreDictionary.getOreIDs(tCurrentItem);
-                    for (int id : aOreID) {
-                        // Plunger
-                        if (OreDictionary.getOreName(id)
-                            .equals("craftingToolPlunger")) {
-                            // Logger.INFO("Is Plunger.");
-                            return onPlungerRightClick(aPlayer, side, aX, aY, aZ);
-                        }
+                    // Plunger
+                    if (GTOreDictMembership.hasOre(tCurrentItem, "craftingToolPlunger")) {
+                        // Logger.INFO("Is Plunger.");
+                        return onPlungerRightClick(aPlayer, side, aX, aY, aZ);
                     }
                 }
             }
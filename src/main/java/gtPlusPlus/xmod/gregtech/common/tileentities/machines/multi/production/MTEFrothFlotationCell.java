@@ -41,6 +41,7 @@ import gregtech.api.recipe.RecipeMap;
 import gregtech.api.recipe.check.CheckRecipeResult;
 import gregtech.api.recipe.check.CheckRecipeResultRegistry;
 import gregtech.api.recipe.check.SimpleCheckRecipeResult;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.common.pollution.PollutionConfig;
@@ -231,7 +232,7 @@ public class MTEFrothFlotationCell extends GTPPMultiBlockBase<MTEFrothFlotationC
                 }
 
                 for (ItemStack stack : recipe.mInputs) {
-                    for (int oreID : OreDictionary.getOreIDs(stack)) {
+                    for (int oreID : GTOreDictMembership.getOreIDs(stack)) {
                         String oredict = OreDictionary.getOreName(oreID);
                         if (oredict.startsWith(OrePrefixes.milled.toString())) {
                             return oredict;
@@ -51,12 +51,15 @@ import gregtech.api.util.ReflectionUtil;
 import gregtech.common.pollution.PollutionConfig;
 import gtPlusPlus.api.recipe.GTPPRecipeMaps;
 import gtPlusPlus.core.block.ModBlocks;
-import gtPlusPlus.core.util.math.MathUtils;
+import gtPlusPlus.core.lib.GTPPCore;
+import gtPlusPlus.core.util.math.SequentialLootTable;
 import gtPlusPlus.core.util.minecraft.FluidUtils;
 import gtPlusPlus.core.util.minecraft.ItemUtils;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.GTPPMultiBlockBase;
 import ic2.core.init.BlocksItems;
 import ic2.core.init.InternalName;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFishingPond>
@@ -68,11 +71,17 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
     private static final Item CONTROL_CIRCUIT = GTUtility.getIntegratedCircuit(0)
         .getItem();
     private static IStructureDefinition<MTEIndustrialFishingPond> STRUCTURE_DEFINITION;
+    /** Loot tables by the bound of the roll, see {@link #getLootFromList}. */
+    private static final Int2ObjectMap<SequentialLootTable> LOOT_TABLES = new Int2ObjectOpenHashMap<>();
+    /** The water is checked again after this many ticks, as taking it out doesn't cause a machine block update. */
+    private static final int WATER_RECHECK_TICKS = 1200;
 
     private boolean isUsingControllerCircuit = false;
     private int mCasing;
     private int mMode = FISH_MODE;
     private int mMax = 8;
+    private boolean mWaterValid = false;
+    private long mWaterCheckTime;
 
     private static final Class<?> cofhWater;
 
@@ -168,6 +177,7 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
     @Override
     public boolean checkMachine(IGregTechTileEntity aBaseMetaTileEntity, ItemStack aStack) {
         mCasing = 0;
+        mWaterValid = false;
         return checkPiece(mName, 4, 1, 0) && mCasing >= 64 && checkHatch();
     }
 
@@ -312,10 +322,25 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
         return TAE.GTPP_INDEX(32);
     }
 
+    @Override
+    public void onMachineBlockUpdate() {
+        super.onMachineBlockUpdate();
+        mWaterValid = false;
+    }
+
     private boolean checkForWater() {
+        IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
+        long tTime = aBaseMetaTileEntity.getTimer();
+        if (mWaterValid && tTime - mWaterCheckTime < WATER_RECHECK_TICKS) {
+            return true;
+        }
+        mWaterValid = validateWater(aBaseMetaTileEntity);
+        mWaterCheckTime = tTime;
+        return mWaterValid;
+    }
 
+    private boolean validateWater(IGregTechTileEntity aBaseMetaTileEntity) {
         // Get Facing direction
-        IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
         final int mCurrentDirectionX = 4;
         final int mCurrentDirectionZ = 4;
         final int mOffsetX_Lower = -4;
@@ -325,6 +350,7 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
         final int xDir = aBaseMetaTileEntity.getBackFacing().offsetX * mCurrentDirectionX;
         final int zDir = aBaseMetaTileEntity.getBackFacing().offsetZ * mCurrentDirectionZ;
 
+        ArrayList<FluidStack> tStoredWater = null;
         int tAmount = 0;
         for (int i = mOffsetX_Lower + 1; i <= mOffsetX_Upper - 1; ++i) {
             for (int j = mOffsetZ_Lower + 1; j <= mOffsetZ_Upper - 1; ++j) {
@@ -332,20 +358,19 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
                     Block tBlock = aBaseMetaTileEntity.getBlockOffset(xDir + i, h, zDir + j);
                     int tMeta = aBaseMetaTileEntity.getMetaIDOffset(xDir + i, h, zDir + j);
                     if (isNotStaticWater(tBlock, tMeta)) {
-                        if (this.getStoredFluids() != null) {
-                            for (FluidStack stored : this.getStoredFluids()) {
-                                if (stored.isFluidEqual(FluidUtils.getFluidStack("water", 1))) {
-                                    if (stored.amount >= 1000) {
-                                        // Utils.LOG_WARNING("Going to try swap an air block for water from inut bus.");
-                                        stored.amount -= 1000;
-                                        aBaseMetaTileEntity.getWorld()
-                                            .setBlock(
-                                                aBaseMetaTileEntity.getXCoord() + xDir + i,
-                                                aBaseMetaTileEntity.getYCoord() + h,
-                                                aBaseMetaTileEntity.getZCoord() + zDir + j,
-                                                Blocks.water);
-                                    }
-                                }
+                        if (tStoredWater == null) {
+                            tStoredWater = getStoredWater();
+                        }
+                        for (FluidStack stored : tStoredWater) {
+                            if (stored.amount >= 1000) {
+                                stored.amount -= 1000;
+                                aBaseMetaTileEntity.getWorld()
+                                    .setBlock(
+                                        aBaseMetaTileEntity.getXCoord() + xDir + i,
+                                        aBaseMetaTileEntity.getYCoord() + h,
+                                        aBaseMetaTileEntity.getZCoord() + zDir + j,
+                                        Blocks.water);
+                                break;
                             }
                         }
                     }
@@ -364,6 +389,20 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
         return tAmount >= 60;
     }
 
+    private ArrayList<FluidStack> getStoredWater() {
+        ArrayList<FluidStack> tWater = new ArrayList<>();
+        ArrayList<FluidStack> tStored = this.getStoredFluids();
+        if (tStored != null) {
+            FluidStack tReference = FluidUtils.getFluidStack("water", 1);
+            for (FluidStack stored : tStored) {
+                if (stored.isFluidEqual(tReference)) {
+                    tWater.add(stored);
+                }
+            }
+        }
+        return tWater;
+    }
+
     private boolean isNotStaticWater(Block block, int meta) {
         return block == Blocks.air || block == Blocks.flowing_water
             || block == BlocksItems.getFluidBlock(InternalName.fluidDistilledWater)
@@ -411,14 +450,17 @@ public class MTEIndustrialFishingPond extends GTPPMultiBlockBase<MTEIndustrialFi
         }
     }
 
+    /**
+     * Rolls the list {@link #mMax} times, each roll takes the first entry for which a number in {@code [0, max]} comes
+     * up at most 2, or nothing. Hits on the same entry are merged into one stack.
+     */
     private ItemStack[] getLootFromList(ArrayList<ItemStack> list, int max) {
-        ItemStack[] out = new ItemStack[this.mMax];
-        for (int i = 0; i < this.mMax; i++) {
-            for (ItemStack stack : list) {
-                if (MathUtils.randInt(0, max) <= 2) {
-                    out[i] = ItemUtils.getSimpleStack(stack, 1);
-                    break;
-                }
+        int[] counts = LOOT_TABLES.computeIfAbsent(max, m -> new SequentialLootTable(3.0 / (m + 1)))
+            .sample(GTPPCore.RANDOM, list.size(), this.mMax);
+        ItemStack[] out = new ItemStack[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                out[i] = ItemUtils.getSimpleStack(list.get(i), counts[i]);
             }
         }
         return out;
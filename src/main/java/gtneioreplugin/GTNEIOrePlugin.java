@@ -44,14 +44,15 @@ public class GTNEIOrePlugin {
     public static final String VERSION = GT_Version.VERSION;
     public static final Logger LOG = LogManager.getLogger(NAME);
     public static File instanceDir;
+    public static File configDir;
 
     @Mod.Instance(MODID)
     public static GTNEIOrePlugin instance;
 
     @EventHandler
     public void preinit(FMLPreInitializationEvent event) {
-        instanceDir = event.getModConfigurationDirectory()
-            .getParentFile();
+        configDir = event.getModConfigurationDirectory();
+        instanceDir = configDir.getParentFile();
     }
 
     @EventHandler
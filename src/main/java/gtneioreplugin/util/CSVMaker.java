@@ -1,119 +1,151 @@
 package gtneioreplugin.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
+import cpw.mods.fml.common.FMLCommonHandler;
 import gtneioreplugin.Config;
 import gtneioreplugin.GTNEIOrePlugin;
 import gtneioreplugin.plugin.gregtech5.PluginGT5VeinStat;
 import gtneioreplugin.util.GT5OreLayerHelper.OreLayerWrapper;
+import gtneioreplugin.util.GT5OreSmallHelper.OreSmallWrapper;
 
-// todo: yeet any opencsv usage.
+/**
+ * Writes the ore vein and small ore sheets. The sheets are only rewritten when the worldgen definitions, the language
+ * or the sheet format changed since the last run, which is tracked by a fingerprint stored next to the config.
+ */
 public class CSVMaker implements Runnable {
 
-    public void runSmallOres() {
-        try {
-            Iterator<Map.Entry<String, GT5OreSmallHelper.OreSmallWrapper>> it = GT5OreSmallHelper.mapOreSmallWrapper
-                .entrySet()
-                .iterator();
-            List<SmallOre> SmallOreVeins = new ArrayList<>();
-            while (it.hasNext()) {
-                SmallOre oremix = new SmallOre();
-
-                Map.Entry<String, GT5OreSmallHelper.OreSmallWrapper> pair = it.next();
-                GT5OreSmallHelper.OreSmallWrapper oreLayer = pair.getValue();
-
-                Map<String, Boolean> Dims = GT5OreSmallHelper.bufferedDims.get(oreLayer);
-
-                oremix.setOreName(oreLayer.oreGenName);
-                oremix.setOreMeta(oreLayer.oreMeta);
-                oremix.setHeight(oreLayer.worldGenHeightRange);
-                oremix.setAmount(oreLayer.amountPerChunk);
-                oremix.setDims(Dims);
-
-                SmallOreVeins.add(oremix);
+    /** Bump when the columns change, so that existing sheets get rewritten. */
+    private static final int FORMAT_VERSION = 1;
+    private static final int WRITE_BUFFER_SIZE = 8192;
 
-                it.remove(); // avoids a ConcurrentModificationException
-            }
-
-            BufferedWriter one = Files.newBufferedWriter(
-                GTNEIOrePlugin.instanceDir.toPath()
-                    .resolve(Config.CSVnameSmall));
-            Collections.sort(SmallOreVeins);
-
-            // header first
-            one.write(SmallOre.getCsvHeader());
-            one.newLine();
-            for (SmallOre ore : SmallOreVeins) {
-                one.write(ore.getCsvEntry());
-                one.newLine();
+    @Override
+    public void run() {
+        Path veinSheet = GTNEIOrePlugin.instanceDir.toPath()
+            .resolve(Config.CSVName);
+        Path smallOreSheet = GTNEIOrePlugin.instanceDir.toPath()
+            .resolve(Config.CSVnameSmall);
+        Path fingerprintFile = GTNEIOrePlugin.configDir.toPath()
+            .resolve(GTNEIOrePlugin.MODID + "-csv.fingerprint");
+
+        List<OreLayerWrapper> veins = new ArrayList<>(GT5OreLayerHelper.mapOreLayerWrapper.values());
+        veins.sort(Comparator.comparing(vein -> vein.veinName));
+        List<OreSmallWrapper> smallOres = new ArrayList<>(GT5OreSmallHelper.mapOreSmallWrapper.values());
+        smallOres.sort(Comparator.comparing(ore -> ore.oreGenName));
+
+        String fingerprint = fingerprint(veins, smallOres);
+        try {
+            if (Files.exists(veinSheet) && Files.exists(smallOreSheet)
+                && Files.exists(fingerprintFile)
+                && fingerprint.equals(new String(Files.readAllBytes(fingerprintFile), UTF_8))) {
+                GTNEIOrePlugin.LOG.info("Ore sheets are up to date");
+                return;
             }
-            one.flush();
-            one.close();
-        } catch (Exception e) {
-            e.printStackTrace();
+            writeSheet(veinSheet, Oremix.getCsvHeader(), veins, vein -> toOremix(vein).getCsvEntry());
+            writeSheet(smallOreSheet, SmallOre.getCsvHeader(), smallOres, ore -> toSmallOre(ore).getCsvEntry());
+            Files.write(fingerprintFile, fingerprint.getBytes(UTF_8));
+        } catch (IOException e) {
+            GTNEIOrePlugin.LOG.error("Could not write the ore sheets", e);
         }
     }
 
-    @Override
-    public void run() {
-        runVeins();
-        runSmallOres();
+    private static String fingerprint(List<OreLayerWrapper> veins, List<OreSmallWrapper> smallOres) {
+        Hasher hasher = Hashing.murmur3_128()
+            .newHasher()
+            .putInt(FORMAT_VERSION)
+            .putString(
+                FMLCommonHandler.instance()
+                    .getCurrentLanguage(),
+                UTF_8);
+        for (OreLayerWrapper vein : veins) {
+            hasher.putString(vein.veinName, UTF_8)
+                .putShort(vein.Meta[0])
+                .putShort(vein.Meta[1])
+                .putShort(vein.Meta[2])
+                .putShort(vein.Meta[3])
+                .putShort(vein.size)
+                .putShort(vein.density)
+                .putShort(vein.randomWeight)
+                .putString(vein.worldGenHeightRange, UTF_8);
+            putDims(hasher, GT5OreLayerHelper.bufferedDims.get(vein));
+        }
+        for (OreSmallWrapper ore : smallOres) {
+            hasher.putString(ore.oreGenName, UTF_8)
+                .putShort(ore.oreMeta)
+                .putShort(ore.amountPerChunk)
+                .putString(ore.worldGenHeightRange, UTF_8);
+            putDims(hasher, GT5OreSmallHelper.bufferedDims.get(ore));
+        }
+        return hasher.hash()
+            .toString();
     }
 
-    public void runVeins() {
-        try {
-            Iterator<Map.Entry<String, OreLayerWrapper>> it = GT5OreLayerHelper.mapOreLayerWrapper.entrySet()
-                .iterator();
-            List<Oremix> OreVeins = new ArrayList<>();
-            while (it.hasNext()) {
-                Oremix oremix = new Oremix();
-
-                Map.Entry<String, OreLayerWrapper> pair = it.next();
-                Map<String, Boolean> Dims = GT5OreLayerHelper.bufferedDims.get(pair.getValue());
-                OreLayerWrapper oreLayer = pair.getValue();
-                oremix.setOreMixName(oreLayer.veinName);
-                oremix.setPrimary(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[0]));
-                oremix.setSecondary(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[1]));
-                oremix.setInbetween(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[2]));
-                oremix.setSporadic(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[3]));
-                oremix.setSize(oreLayer.size);
-                oremix.setHeight(oreLayer.worldGenHeightRange);
-                oremix.setDensity(oreLayer.density);
-                oremix.setWeight(oreLayer.randomWeight);
-                oremix.setOreMixIDs(
-                    Integer.toString(oreLayer.Meta[0]) + "|"
-                        + Integer.toString(oreLayer.Meta[1])
-                        + "|"
-                        + Integer.toString(oreLayer.Meta[2])
-                        + "|"
-                        + Integer.toString(oreLayer.Meta[3]));
-                oremix.setDims(Dims);
-                OreVeins.add(oremix);
-
-                it.remove(); // avoids a ConcurrentModificationException
-            }
-            BufferedWriter one = Files.newBufferedWriter(
-                GTNEIOrePlugin.instanceDir.toPath()
-                    .resolve(Config.CSVName));
-            Collections.sort(OreVeins);
+    private static void putDims(Hasher hasher, Map<String, Boolean> dims) {
+        for (Map.Entry<String, Boolean> dim : new TreeMap<>(dims).entrySet()) {
+            hasher.putString(dim.getKey(), UTF_8)
+                .putBoolean(dim.getValue());
+        }
+    }
 
-            // header first
-            one.write(Oremix.getCsvHeader());
-            one.newLine();
-            for (Oremix ore : OreVeins) {
-                one.write(ore.getCsvEntry());
-                one.newLine();
+    /**
+     * Streams the rows into a temporary file, which replaces the sheet once complete.
+     */
+    private static <T> void writeSheet(Path sheet, String header, List<T> rows, Function<T, String> toCsvEntry)
+        throws IOException {
+        Path temp = sheet.resolveSibling(sheet.getFileName() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(
+            new OutputStreamWriter(Files.newOutputStream(temp), UTF_8),
+            WRITE_BUFFER_SIZE)) {
+            writer.write(header);
+            writer.newLine();
+            for (T row : rows) {
+                writer.write(toCsvEntry.apply(row));
+                writer.newLine();
             }
-            one.flush();
-            one.close();
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        Files.move(temp, sheet, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Oremix toOremix(OreLayerWrapper oreLayer) {
+        Oremix oremix = new Oremix();
+        oremix.setOreMixName(oreLayer.veinName);
+        oremix.setPrimary(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[0]));
+        oremix.setSecondary(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[1]));
+        oremix.setInbetween(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[2]));
+        oremix.setSporadic(PluginGT5VeinStat.getGTOreLocalizedName(oreLayer.Meta[3]));
+        oremix.setSize(oreLayer.size);
+        oremix.setHeight(oreLayer.worldGenHeightRange);
+        oremix.setDensity(oreLayer.density);
+        oremix.setWeight(oreLayer.randomWeight);
+        oremix.setOreMixIDs(
+            oreLayer.Meta[0] + "|" + oreLayer.Meta[1] + "|" + oreLayer.Meta[2] + "|" + oreLayer.Meta[3]);
+        oremix.setDims(GT5OreLayerHelper.bufferedDims.get(oreLayer));
+        return oremix;
+    }
+
+    private static SmallOre toSmallOre(OreSmallWrapper oreLayer) {
+        SmallOre smallOre = new SmallOre();
+        smallOre.setOreName(oreLayer.oreGenName);
+        smallOre.setOreMeta(oreLayer.oreMeta);
+        smallOre.setHeight(oreLayer.worldGenHeightRange);
+        smallOre.setAmount(oreLayer.amountPerChunk);
+        smallOre.setDims(GT5OreSmallHelper.bufferedDims.get(oreLayer));
+        return smallOre;
     }
 }
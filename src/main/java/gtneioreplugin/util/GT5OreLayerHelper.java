@@ -59,13 +59,12 @@ public class GT5OreLayerHelper {
                 dimensionOres.internalDimOreList.add(veinInfo);
                 dimToOreWrapper.put(dim, dimensionOres);
             }
-
-            // Calculate probabilities for each dim.
-            for (String dim : dimToOreWrapper.keySet()) {
-                dimToOreWrapper.get(dim)
-                    .calculateWeights();
-            }
         });
+
+        // Calculate probabilities for each dim, once all of its veins are known.
+        for (NormalOreDimensionWrapper dimensionOres : dimToOreWrapper.values()) {
+            dimensionOres.calculateWeights();
+        }
         // --- End of handling for dimToOreWrapper ---
     }
 
@@ -132,13 +132,12 @@ public class GT5OreSmallHelper {
                 dimensionSmallOres.internalDimOreList.add(veinInfo);
                 dimToSmallOreWrapper.put(dim, dimensionSmallOres);
             }
-
-            // Calculate probabilities for each dim.
-            for (String dim : dimToSmallOreWrapper.keySet()) {
-                dimToSmallOreWrapper.get(dim)
-                    .calculateWeights();
-            }
         });
+
+        // Calculate probabilities for each dim, once all of its small ores are known.
+        for (SmallOreDimensionWrapper dimensionSmallOres : dimToSmallOreWrapper.values()) {
+            dimensionSmallOres.calculateWeights();
+        }
         // --- End of handling for dimToOreWrapper ---
     }
 
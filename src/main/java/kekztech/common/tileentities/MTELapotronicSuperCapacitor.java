@@ -92,6 +92,7 @@ import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.LongData;
 import gregtech.api.util.LongRunningAverage;
 import gregtech.api.util.MultiblockTooltipBuilder;
+import gregtech.api.util.UInt128;
 import gregtech.common.gui.modularui.widget.ShutDownReasonSyncer;
 import gregtech.common.misc.WirelessNetworkManager;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
@@ -324,7 +325,16 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     private final int[] capacitors = new int[10];
 
     private BigInteger capacity = BigInteger.ZERO;
-    private BigInteger stored = BigInteger.ZERO;
+    /**
+     * {@link #capacity} clamped to 128 bits for the per-tick comparisons. Only differs from it with more than 4 UMV
+     * capacitors, where no reachable stored value can tell the difference.
+     */
+    private final UInt128 capacityLimit = new UInt128();
+    private final UInt128 stored = new UInt128();
+    /**
+     * Scratch value for per-tick calculations, so they don't allocate.
+     */
+    private final UInt128 remainingCapacity = new UInt128();
     private long passiveDischargeAmount = 0;
     private long inputLastTick = 0;
     private long outputLastTick = 0;
@@ -642,13 +652,14 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
             + getUMVCapacitorCount()) return false;
 
         // Calculate total capacity
-        capacity = BigInteger.ZERO;
+        BigInteger totalCapacity = BigInteger.ZERO;
         for (int i = 0; i < capacitors.length; i++) {
             int count = capacitors[i];
-            capacity = capacity.add(
+            totalCapacity = totalCapacity.add(
                 Capacitor.VALUES[i].getProvidedCapacity()
                     .multiply(BigInteger.valueOf(count)));
         }
+        setCapacity(totalCapacity);
         // Calculate how much energy to void each tick
         passiveDischargeAmount = recalculateLossWithMaintenance(getRepairStatus());
         return mMaintenanceHatches.size() == 1;
@@ -783,10 +794,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
 
         // This will break if you transfer more than 2^63 EU/t, so don't do that. Thanks <3
         temp_stored -= passiveDischargeAmount;
-        stored = stored.add(BigInteger.valueOf(temp_stored));
-
-        // Check that the machine has positive EU stored.
-        stored = (stored.compareTo(BigInteger.ZERO) <= 0) ? BigInteger.ZERO : stored;
+        // Saturating at zero also makes sure that the machine has positive EU stored.
+        stored.addSaturating(temp_stored);
 
         IGregTechTileEntity tBMTE = this.getBaseMetaTileEntity();
 
@@ -804,17 +813,19 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         balanced = true;
 
         // Find difference.
-        BigInteger transferred_eu = stored.subtract(
-            (ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap.multiply(BigInteger.valueOf(getUHVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUEVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
+        BigInteger transferred_eu = stored.toBigInteger()
+            .subtract(
+                (ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap
+                    .multiply(BigInteger.valueOf(getUHVCapacitorCount())))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUEVCapacitorCount())))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
+                    .add(
+                        ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
+                            .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
 
         if (transferred_eu.signum() == -1) {
             inputLastTick += Math.abs(transferred_eu.longValue());
@@ -825,22 +836,29 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         // If that difference can be added then do so.
         if (WirelessNetworkManager.addEUToGlobalEnergyMap(global_energy_user_uuid, transferred_eu)) {
             // If it succeeds there was sufficient energy so set the internal capacity as such.
-            stored = ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap
-                .multiply(BigInteger.valueOf(getUHVCapacitorCount()))
-                .add(
-                    ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
-                        .multiply(BigInteger.valueOf(getUEVCapacitorCount()))
+            stored.set(
+                UInt128.valueOfSaturating(
+                    ItemBlockLapotronicEnergyUnit.LSC_wireless_eu_cap
+                        .multiply(BigInteger.valueOf(getUHVCapacitorCount()))
                         .add(
-                            ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
-                                .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
-                        .add(
-                            ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
-                                .multiply(BigInteger.valueOf(getUMVCapacitorCount()))));
+                            ItemBlockLapotronicEnergyUnit.UEV_wireless_eu_cap
+                                .multiply(BigInteger.valueOf(getUEVCapacitorCount()))
+                                .add(
+                                    ItemBlockLapotronicEnergyUnit.UIV_wireless_eu_cap
+                                        .multiply(BigInteger.valueOf(getUIVCapacitorCount())))
+                                .add(
+                                    ItemBlockLapotronicEnergyUnit.UMV_wireless_eu_cap
+                                        .multiply(BigInteger.valueOf(getUMVCapacitorCount()))))));
         }
 
         return 1;
     }
 
+    private void setCapacity(BigInteger capacity) {
+        this.capacity = capacity;
+        capacityLimit.set(UInt128.valueOfSaturating(capacity));
+    }
+
     /**
      * To be called whenever the maintenance status changes or the capacity was recalculated
      *
@@ -879,10 +897,10 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
      * @return EU amount
      */
     private long getPowerToDraw(long hatchWatts) {
-        if (stored.compareTo(capacity) >= 0) return 0;
-        final BigInteger remcapActual = capacity.subtract(stored);
-        final BigInteger recampLimited = (MAX_LONG.compareTo(remcapActual) > 0) ? remcapActual : MAX_LONG;
-        return min(hatchWatts, recampLimited.longValue());
+        if (stored.compareTo(capacityLimit) >= 0) return 0;
+        remainingCapacity.set(capacityLimit)
+            .subtractExact(stored);
+        return min(hatchWatts, remainingCapacity.longValueSaturating());
     }
 
     /**
@@ -892,8 +910,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
      * @return EU amount
      */
     private long getPowerToPush(long hatchWatts) {
-        final BigInteger remStoredLimited = (MAX_LONG.compareTo(stored) > 0) ? stored : MAX_LONG;
-        return min(hatchWatts, remStoredLimited.longValue());
+        return min(hatchWatts, stored.longValueSaturating());
     }
 
     private String getTimeTo() {
@@ -922,12 +939,13 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     }
 
     private String getStoredCache() {
+        BigInteger stored = this.stored.toBigInteger();
         return stored.compareTo(guiCapacityStoredReformatLimit) > 0 ? standardFormat.format(stored)
             : numberFormat.format(stored);
     }
 
     private String getUsedPercentCache() {
-        return toPercentageFrom(stored, capacity);
+        return toPercentageFrom(stored.toBigInteger(), capacity);
     }
 
     private String getWirelessStoredCache() {
@@ -948,6 +966,7 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
         NumberFormat nf = NumberFormat.getNumberInstance();
         int secInterval = DURATION_AVERAGE_TICKS / 20;
 
+        final BigInteger stored = this.stored.toBigInteger();
         final ArrayList<String> ll = new ArrayList<>();
         ll.add(EnumChatFormatting.YELLOW + "Operational Data:" + EnumChatFormatting.RESET);
         ll.add("EU Stored: " + nf.format(stored) + " EU");
@@ -1242,8 +1261,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     public void loadNBTData(NBTTagCompound nbt) {
         nbt = (nbt == null) ? new NBTTagCompound() : nbt;
 
-        capacity = new BigInteger(nbt.getByteArray("capacity"));
-        stored = new BigInteger(nbt.getByteArray("stored"));
+        setCapacity(new BigInteger(nbt.getByteArray("capacity")));
+        stored.set(UInt128.fromByteArraySaturating(nbt.getByteArray("stored")));
         wireless_mode = nbt.getBoolean("wireless_mode");
         counter = nbt.getInteger("wireless_mode_cooldown");
         warningReceived = nbt.getBoolean("warningReceived");
@@ -1275,7 +1294,8 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
     // called by the getEUStored() function in BaseMetaTileEntity
     @Override
     public long getEUVar() {
-        return stored.longValue();
+        // same as BigInteger#longValue
+        return stored.getLow();
     }
 
     /*
@@ -1440,8 +1460,10 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
                 .setSize(150, 20))
             .widget(
                 new NumericWidget().setSetter(
-                    val -> stored = BigDecimal.valueOf(val)
-                        .toBigInteger())
+                    val -> stored.set(
+                        UInt128.valueOfSaturating(
+                            BigDecimal.valueOf(val)
+                                .toBigInteger())))
                     .setGetter(() -> stored.doubleValue())
                     .setIntegerOnly(false)
                     .setBounds(0, capacity.doubleValue())
@@ -1454,14 +1476,17 @@ public class MTELapotronicSuperCapacitor extends MTEEnhancedMultiBlockBase<MTELa
                     .attachSyncer(
                         new FakeSyncWidget.DoubleSyncer(
                             () -> capacity.doubleValue(),
-                            (val) -> capacity = BigDecimal.valueOf(val)
-                                .toBigInteger()),
+                            (val) -> setCapacity(
+                                BigDecimal.valueOf(val)
+                                    .toBigInteger())),
                         builder)
                     .attachSyncer(
                         new FakeSyncWidget.DoubleSyncer(
                             () -> stored.doubleValue(),
-                            (val) -> stored = BigDecimal.valueOf(val)
-                                .toBigInteger()),
+                            (val) -> stored.set(
+                                UInt128.valueOfSaturating(
+                                    BigDecimal.valueOf(val)
+                                        .toBigInteger()))),
                         builder));
         return builder.build();
     }
@@ -18,6 +18,7 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import gregtech.api.GregTechAPI;
 import gregtech.api.enums.ItemList;
+import gregtech.api.util.GTOreDictMembership;
 import gregtech.common.blocks.BlockOresAbstract;
 import gregtech.common.blocks.ItemOres;
 import gregtech.common.blocks.TileEntityOres;
@@ -282,21 +283,19 @@ public class EIGIC2Bucket extends EIGBucket {
                     boolean keepLooking = !inputs.isEmpty();
                     if (keepLooking && !crop.reqBlockOreDict.isEmpty()) {
                         oreDictLoop: for (String reqOreDictName : crop.reqBlockOreDict) {
-                            if (reqOreDictName == null || OreDictionary.doesOreNameExist(reqOreDictName)) continue;
+                            if (reqOreDictName == null || !OreDictionary.doesOreNameExist(reqOreDictName)) continue;
                             int oreId = OreDictionary.getOreID(reqOreDictName);
                             for (ItemStack potentialBlock : inputs) {
                                 if (potentialBlock == null || potentialBlock.stackSize <= 0) continue;
-                                for (int inputOreId : OreDictionary.getOreIDs(potentialBlock)) {
-                                    if (inputOreId != oreId) continue;
-                                    blockInputStackToConsume = potentialBlock;
-                                    // Don't consume the block just yet, we do that once everything is valid.
-                                    ItemStack newSupport = potentialBlock.copy();
-                                    newSupport.stackSize = 1;
-                                    this.supportItems = new ItemStack[] { newSupport };
-                                    keepLooking = false;
-                                    crop.updateNutrientsForBlockUnder();
-                                    break oreDictLoop;
-                                }
+                                if (!GTOreDictMembership.hasOre(potentialBlock, oreId)) continue;
+                                blockInputStackToConsume = potentialBlock;
+                                // Don't consume the block just yet, we do that once everything is valid.
+                                ItemStack newSupport = potentialBlock.copy();
+                                newSupport.stackSize = 1;
+                                this.supportItems = new ItemStack[] { newSupport };
+                                keepLooking = false;
+                                crop.updateNutrientsForBlockUnder();
+                                break oreDictLoop;
                             }
                         }
                     }
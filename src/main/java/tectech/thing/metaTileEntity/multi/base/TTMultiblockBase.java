@@ -1004,7 +1004,7 @@ public abstract class TTMultiblockBase extends MTEExtendedPowerMultiBlockBase<TT
                 mEfficiency = 0;
             }
 
-            if (--mUpdate == 0 || --mStartUpCheck == 0
+            if (--mUpdate == 0 || countDownStartUpCheck()
                 || cyclicUpdate()
                 || aBaseMetaTileEntity.hasWorkJustBeenEnabled()) {
                 clearHatches_EM();
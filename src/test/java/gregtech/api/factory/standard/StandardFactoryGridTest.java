@@ -0,0 +1,211 @@
+package gregtech.api.factory.standard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import net.minecraftforge.common.util.ForgeDirection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import gregtech.api.factory.test.TestFactoryElement;
+import gregtech.api.factory.test.TestFactoryGrid;
+import gregtech.api.factory.test.TestFactoryNetwork;
+
+class StandardFactoryGridTest {
+
+    /**
+     * Headless stand-in for {@link gregtech.api.factory.test.TestFactoryPipe}, connected to its loaded neighbours.
+     */
+    static class Node implements TestFactoryElement {
+
+        final List<Node> neighbours = new ArrayList<>();
+        boolean loaded = true;
+        TestFactoryNetwork network;
+
+        @Override
+        public boolean canConnectOnSide(ForgeDirection side) {
+            return true;
+        }
+
+        @Override
+        public void getNeighbours(Collection<TestFactoryElement> neighbours) {
+            for (Node neighbour : this.neighbours) {
+                if (neighbour.loaded) neighbours.add(neighbour);
+            }
+        }
+
+        @Override
+        public TestFactoryNetwork getNetwork() {
+            return network;
+        }
+
+        @Override
+        public void setNetwork(TestFactoryNetwork network) {
+            this.network = network;
+        }
+    }
+
+    private static void connect(Node a, Node b) {
+        a.neighbours.add(b);
+        b.neighbours.add(a);
+    }
+
+    private static List<Node> chain(int length) {
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            Node node = new Node();
+            if (i > 0) connect(nodes.get(i - 1), node);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
+    private static int networkSize(Node node) {
+        return node.network.getElements()
+            .size();
+    }
+
+    private static void unload(TestFactoryGrid grid, Node node) {
+        node.loaded = false;
+        grid.removeElement(node);
+    }
+
+    @Test
+    void queuedChainFormsOneNetwork() {
+        TestFactoryGrid grid = new TestFactoryGrid();
+        List<Node> nodes = chain(1000);
+        List<Node> shuffled = new ArrayList<>(nodes);
+        Collections.shuffle(shuffled, new Random(1));
+
+        for (Node node : shuffled) grid.queueElement(node);
+        assertNull(nodes.get(0).network);
+        grid.flush();
+
+        assertEquals(1, grid.networks.size());
+        TestFactoryNetwork network = nodes.get(0).network;
+        assertEquals(1000, networkSize(nodes.get(0)));
+        for (Node node : nodes) assertSame(network, node.network);
+    }
+
+    @Test
+    void bridgeMergesNetworks() {
+        TestFactoryGrid grid = new TestFactoryGrid();
+        List<Node> left = chain(3);
+        List<Node> right = chain(5);
+        for (Node node : left) grid.addElement(node);
+        for (Node node : right) grid.addElement(node);
+        assertEquals(2, grid.networks.size());
+
+        Node bridge = new Node();
+        connect(left.get(2), bridge);
+        connect(bridge, right.get(0));
+        grid.addElement(bridge);
+
+        assertEquals(1, grid.networks.size());
+        assertEquals(9, networkSize(bridge));
+        assertSame(bridge.network, left.get(0).network);
+        assertSame(bridge.network, right.get(4).network);
+    }
+
+    @Test
+    void removingMiddleSplitsOnFlush() {
+        TestFactoryGrid grid = new TestFactoryGrid();
+        List<Node> nodes = chain(5);
+        for (Node node : nodes) grid.queueElement(node);
+        grid.flush();
+
+        unload(grid, nodes.get(2));
+        assertNull(nodes.get(2).network);
+        assertFalse(
+            nodes.get(0).network.getElements()
+                .contains(nodes.get(2)));
+        grid.flush();
+
+        assertEquals(2, grid.networks.size());
+        assertNotSame(nodes.get(0).network, nodes.get(4).network);
+        assertSame(nodes.get(0).network, nodes.get(1).network);
+        assertSame(nodes.get(3).network, nodes.get(4).network);
+        assertEquals(2, networkSize(nodes.get(0)));
+        assertEquals(2, networkSize(nodes.get(4)));
+    }
+
+    @Test
+    void removingQueuedElementCancelsIt() {
+        TestFactoryGrid grid = new TestFactoryGrid();
+        Node node = new Node();
+        grid.queueElement(node);
+        grid.removeElement(node);
+        grid.flush();
+
+        assertTrue(grid.vertices.isEmpty());
+        assertTrue(grid.networks.isEmpty());
+        assertNull(node.network);
+    }
+
+    @Test
+    void removingQueuedElementDropsEdgesToIt() {
+        TestFactoryGrid grid = new TestFactoryGrid();
+        List<Node> nodes = chain(2);
+        // the registered element gets a one-way edge to its neighbour, which is only queued
+        grid.addElement(nodes.get(0));
+        grid.queueElement(nodes.get(1));
+        assertTrue(grid.edges.containsEntry(nodes.get(0), nodes.get(1)));
+
+        unload(grid, nodes.get(1));
+        grid.flush();
+
+        assertFalse(grid.edges.containsValue(nodes.get(1)));
+        assertEquals(1, grid.vertices.size());
+        assertEquals(1, networkSize(nodes.get(0)));
+    }
+
+    /**
+     * Loads and unloads a 40^3 cube of pipes, the way a chunk full of pipes would. Splitting used to walk the whole
+     * network on every removal, which made this quadratic.
+     */
+    @Test
+    @Timeout(value = 60, unit = TimeUnit.SECONDS)
+    void largeNetworkLoadAndUnload() {
+        int size = 40;
+        Node[][][] cube = new Node[size][size][size];
+        List<Node> nodes = new ArrayList<>();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                for (int z = 0; z < size; z++) {
+                    Node node = new Node();
+                    cube[x][y][z] = node;
+                    nodes.add(node);
+                    if (x > 0) connect(cube[x - 1][y][z], node);
+                    if (y > 0) connect(cube[x][y - 1][z], node);
+                    if (z > 0) connect(cube[x][y][z - 1], node);
+                }
+            }
+        }
+        Collections.shuffle(nodes, new Random(2));
+        TestFactoryGrid grid = new TestFactoryGrid();
+
+        for (Node node : nodes) grid.queueElement(node);
+        grid.flush();
+
+        assertEquals(1, grid.networks.size());
+        assertEquals(nodes.size(), networkSize(cube[0][0][0]));
+
+        for (Node node : nodes) unload(grid, node);
+        grid.flush();
+
+        assertTrue(grid.networks.isEmpty());
+        assertTrue(grid.vertices.isEmpty());
+    }
+}
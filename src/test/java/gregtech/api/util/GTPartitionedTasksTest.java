@@ -0,0 +1,77 @@
+package gregtech.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+// stands in for the parallel ore processing: events of a material register recipes into their own buffer, which may
+// depend on earlier events of the same material, and the buffers get merged in event order
+class GTPartitionedTasksTest {
+
+    private static final int EVENTS = 5000;
+    private static final int MATERIALS = 97;
+
+    private static List<int[]> events() {
+        Random random = new Random(42);
+        List<int[]> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new int[] { i, random.nextInt(MATERIALS) });
+        }
+        return events;
+    }
+
+    private static Function<int[], List<String>> registrator(Map<Integer, List<Integer>> seen) {
+        return event -> {
+            // not thread safe on purpose, tasks of one material must not overlap
+            List<Integer> previous = seen.computeIfAbsent(event[1], k -> new ArrayList<>());
+            List<String> recipes = new ArrayList<>();
+            for (int i = 0; i <= event[0] % 4; i++) {
+                recipes.add(event[1] + ":" + event[0] + ":" + i + ":" + previous.size());
+            }
+            previous.add(event[0]);
+            return recipes;
+        };
+    }
+
+    private static List<String> merge(List<List<String>> buffers) {
+        return buffers.stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void mergedResultEqualsSerialRun() {
+        List<int[]> events = events();
+        Map<Integer, List<Integer>> serialSeen = new ConcurrentHashMap<>();
+        List<String> serial = merge(
+            events.stream()
+                .map(registrator(serialSeen))
+                .collect(Collectors.toList()));
+
+        for (int run = 0; run < 20; run++) {
+            Map<Integer, List<Integer>> seen = new ConcurrentHashMap<>();
+            List<String> parallel = merge(GTPartitionedTasks.map(events, event -> event[1], registrator(seen), 8));
+            assertEquals(serial, parallel, "Run #" + run);
+            assertEquals(serialSeen, seen, "Run #" + run);
+        }
+    }
+
+    @Test
+    void nullPartitionAndEmptyInput() {
+        List<int[]> events = events().subList(0, 10);
+        List<Integer> results = GTPartitionedTasks.map(events, event -> null, event -> event[0], 4);
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, (int) results.get(i));
+        }
+        assertEquals(0, GTPartitionedTasks.map(new ArrayList<int[]>(), event -> event[1], event -> event[0], 4)
+            .size());
+    }
+}
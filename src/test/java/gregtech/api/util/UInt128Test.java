@@ -0,0 +1,141 @@
+package gregtech.api.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// BigInteger is used as the reference for every operation
+class UInt128Test {
+
+    private static final BigInteger MAX = BigInteger.ONE.shiftLeft(128)
+        .subtract(BigInteger.ONE);
+    private static final int ITERATIONS = 100000;
+
+    private static BigInteger randomValue(Random random) {
+        // mix small, long-sized and full-width values to hit the carry paths
+        return switch (random.nextInt(3)) {
+            case 0 -> BigInteger.valueOf(random.nextInt(1000));
+            case 1 -> BigInteger.valueOf(random.nextLong() & Long.MAX_VALUE);
+            default -> new BigInteger(128, random);
+        };
+    }
+
+    private static BigInteger clamp(BigInteger value) {
+        if (value.signum() < 0) return BigInteger.ZERO;
+        return value.compareTo(MAX) > 0 ? MAX : value;
+    }
+
+    private static boolean inRange(BigInteger value) {
+        return value.signum() >= 0 && value.compareTo(MAX) <= 0;
+    }
+
+    @Test
+    void byteArrayIsCompatibleWithBigInteger() {
+        Random random = new Random(42);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigInteger expected = randomValue(random);
+            UInt128 value = UInt128.valueOfExact(expected);
+            assertArrayEquals(expected.toByteArray(), value.toByteArray());
+            assertEquals(expected, UInt128.fromByteArray(expected.toByteArray()).toBigInteger());
+            assertEquals(expected.doubleValue(), value.doubleValue());
+        }
+        assertArrayEquals(MAX.toByteArray(), UInt128.max().toByteArray());
+        assertArrayEquals(BigInteger.ZERO.toByteArray(), new UInt128().toByteArray());
+        assertTrue(UInt128.fromByteArray(new byte[0]).isZero());
+    }
+
+    @Test
+    void byteArrayOutOfRange() {
+        byte[] negative = BigInteger.valueOf(-5).toByteArray();
+        byte[] tooLarge = MAX.add(BigInteger.ONE).toByteArray();
+        assertThrows(ArithmeticException.class, () -> UInt128.fromByteArray(negative));
+        assertThrows(ArithmeticException.class, () -> UInt128.fromByteArray(tooLarge));
+        assertTrue(UInt128.fromByteArraySaturating(negative).isZero());
+        assertTrue(UInt128.fromByteArraySaturating(tooLarge).isMax());
+    }
+
+    @Test
+    void addLong() {
+        Random random = new Random(1);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigInteger a = randomValue(random);
+            long delta = random.nextLong();
+            BigInteger expected = a.add(BigInteger.valueOf(delta));
+            assertEquals(clamp(expected), UInt128.valueOfExact(a).addSaturating(delta).toBigInteger());
+            if (inRange(expected)) {
+                assertEquals(expected, UInt128.valueOfExact(a).addExact(delta).toBigInteger());
+            } else {
+                assertThrows(ArithmeticException.class, () -> UInt128.valueOfExact(a).addExact(delta));
+            }
+        }
+        assertTrue(UInt128.max().addSaturating(1).isMax());
+        assertTrue(UInt128.valueOf(0).addSaturating(Long.MIN_VALUE).isZero());
+    }
+
+    @Test
+    void addAndSubtract() {
+        Random random = new Random(2);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigInteger a = randomValue(random);
+            BigInteger b = randomValue(random);
+            UInt128 bValue = UInt128.valueOfExact(b);
+            BigInteger sum = a.add(b);
+            BigInteger difference = a.subtract(b);
+            assertEquals(clamp(sum), UInt128.valueOfExact(a).addSaturating(bValue).toBigInteger());
+            assertEquals(clamp(difference), UInt128.valueOfExact(a).subtractSaturating(bValue).toBigInteger());
+            if (inRange(sum)) {
+                assertEquals(sum, UInt128.valueOfExact(a).addExact(bValue).toBigInteger());
+            } else {
+                assertThrows(ArithmeticException.class, () -> UInt128.valueOfExact(a).addExact(bValue));
+            }
+            if (inRange(difference)) {
+                assertEquals(difference, UInt128.valueOfExact(a).subtractExact(bValue).toBigInteger());
+            } else {
+                assertThrows(ArithmeticException.class, () -> UInt128.valueOfExact(a).subtractExact(bValue));
+            }
+            assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(UInt128.valueOfExact(a).compareTo(bValue)));
+        }
+    }
+
+    @Test
+    void multiplyAndDivide() {
+        Random random = new Random(3);
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigInteger a = randomValue(random);
+            long factor = randomValue(random).longValue() & Long.MAX_VALUE;
+            BigInteger product = a.multiply(BigInteger.valueOf(factor));
+            assertEquals(clamp(product), UInt128.valueOfExact(a).multiplySaturating(factor).toBigInteger());
+            if (inRange(product)) {
+                assertEquals(product, UInt128.valueOfExact(a).multiplyExact(factor).toBigInteger());
+            } else {
+                assertThrows(ArithmeticException.class, () -> UInt128.valueOfExact(a).multiplyExact(factor));
+            }
+            long divisor = Math.max(1, factor);
+            BigInteger[] expected = a.divideAndRemainder(BigInteger.valueOf(divisor));
+            UInt128 quotient = UInt128.valueOfExact(a);
+            long remainder = quotient.divideAndRemainder(divisor);
+            assertEquals(expected[0], quotient.toBigInteger());
+            assertEquals(expected[1].longValueExact(), remainder);
+        }
+    }
+
+    @Test
+    void longConversions() {
+        assertEquals(Long.MAX_VALUE, UInt128.valueOf(Long.MAX_VALUE).longValueExact());
+        assertEquals(
+            Long.MAX_VALUE,
+            UInt128.valueOf(Long.MAX_VALUE)
+                .addExact(1)
+                .longValueSaturating());
+        assertThrows(ArithmeticException.class, () -> UInt128.max().longValueExact());
+        assertEquals(0, UInt128.valueOf(123).compareTo(123L));
+        assertEquals(1, UInt128.max().compareTo(Long.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> UInt128.valueOf(-1));
+    }
+}
@@ -0,0 +1,118 @@
+package gtPlusPlus.core.util.math;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// the reference is the per-roll loop the Industrial Fishing Pond used before, both have to fit the exact distribution
+class SequentialLootTableTest {
+
+    private static final int ENTRIES = 8;
+    private static final int ROLLS = 20;
+    private static final int CYCLES = 50000;
+    // chance of MathUtils.randInt(0, 35) <= 2
+    private static final double CHANCE = 3.0 / 36;
+    // chi-square critical value for 8 degrees of freedom at p = 0.001
+    private static final double CRITICAL = 26.12;
+
+    private static int[] sampleLegacy(Random random) {
+        int[] counts = new int[ENTRIES];
+        for (int i = 0; i < ROLLS; i++) {
+            for (int k = 0; k < ENTRIES; k++) {
+                if (random.nextInt(36) <= 2) {
+                    counts[k]++;
+                    break;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static double[] expected() {
+        double[] expected = new double[ENTRIES + 1];
+        double remaining = 1;
+        for (int k = 0; k < ENTRIES; k++) {
+            expected[k] = remaining * CHANCE;
+            remaining -= expected[k];
+        }
+        expected[ENTRIES] = remaining;
+        return expected;
+    }
+
+    private static double chiSquare(long[] observed) {
+        double[] expected = expected();
+        double statistic = 0;
+        for (int k = 0; k <= ENTRIES; k++) {
+            double e = expected[k] * ROLLS * CYCLES;
+            statistic += (observed[k] - e) * (observed[k] - e) / e;
+        }
+        return statistic;
+    }
+
+    private static void accumulate(long[] totals, int[] counts) {
+        int hits = 0;
+        for (int k = 0; k < ENTRIES; k++) {
+            totals[k] += counts[k];
+            hits += counts[k];
+        }
+        totals[ENTRIES] += ROLLS - hits;
+    }
+
+    @Test
+    void legacyMatchesExpected() {
+        Random random = new Random(42);
+        long[] totals = new long[ENTRIES + 1];
+        for (int i = 0; i < CYCLES; i++) accumulate(totals, sampleLegacy(random));
+        assertTrue(chiSquare(totals) < CRITICAL);
+    }
+
+    @Test
+    void tableMatchesExpected() {
+        Random random = new Random(42);
+        SequentialLootTable table = new SequentialLootTable(CHANCE);
+        long[] totals = new long[ENTRIES + 1];
+        for (int i = 0; i < CYCLES; i++) {
+            int[] counts = table.sample(random, ENTRIES, ROLLS);
+            assertEquals(ENTRIES, counts.length);
+            accumulate(totals, counts);
+        }
+        assertTrue(chiSquare(totals) < CRITICAL);
+    }
+
+    @Test
+    void spreadPerCycleMatchesLegacy() {
+        // the totals don't show how the hits are spread over cycles, so compare the variance of the first entry too
+        Random random = new Random(7);
+        SequentialLootTable table = new SequentialLootTable(CHANCE);
+        double[] legacy = new double[2];
+        double[] sampled = new double[2];
+        for (int i = 0; i < CYCLES; i++) {
+            int a = sampleLegacy(random)[0];
+            int b = table.sample(random, ENTRIES, ROLLS)[0];
+            legacy[0] += a;
+            legacy[1] += a * a;
+            sampled[0] += b;
+            sampled[1] += b * b;
+        }
+        double mean = ROLLS * CHANCE;
+        double variance = ROLLS * CHANCE * (1 - CHANCE);
+        for (double[] moments : new double[][] { legacy, sampled }) {
+            double m = moments[0] / CYCLES;
+            double v = moments[1] / CYCLES - m * m;
+            assertEquals(mean, m, mean * 0.02);
+            assertEquals(variance, v, variance * 0.05);
+        }
+    }
+
+    @Test
+    void edgeCases() {
+        Random random = new Random(1);
+        assertArrayEquals(new int[] { 0, 0, 0 }, new SequentialLootTable(0).sample(random, 3, 10));
+        assertArrayEquals(new int[] { 10, 0, 0 }, new SequentialLootTable(1).sample(random, 3, 10));
+        assertArrayEquals(new int[] { 0, 0 }, new SequentialLootTable(0.5).sample(random, 2, 0));
+        assertArrayEquals(new int[0], new SequentialLootTable(0.5).sample(random, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SequentialLootTable(1.5));
+    }
+}